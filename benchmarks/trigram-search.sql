@@ -0,0 +1,95 @@
+-- Substring search latency with and without the pg_trgm indexes of init-db.sql.
+--
+-- Run against a scratch database (it creates and drops its own tables):
+--   psql -h localhost -U recipeuser -d recipedb -f benchmarks/trigram-search.sql
+--
+-- The queries are the ones the search emits on PostgreSQL for "cn" criteria,
+-- ordered by name and limited to one slice (page size 20 + 1).
+-- Recorded output: benchmarks/trigram-search.out
+
+\timing on
+SET client_min_messages = warning;
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+DROP TABLE IF EXISTS bench_recipe_ingredient;
+DROP TABLE IF EXISTS bench_recipes;
+DROP TABLE IF EXISTS bench_ingredients;
+
+CREATE TABLE bench_recipes (
+    id SERIAL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    instructions TEXT NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    number_of_servings INTEGER NOT NULL
+);
+CREATE TABLE bench_ingredients (
+    id SERIAL PRIMARY KEY,
+    ingredient VARCHAR(255) NOT NULL UNIQUE
+);
+CREATE TABLE bench_recipe_ingredient (
+    recipe_id INTEGER NOT NULL REFERENCES bench_recipes(id),
+    ingredient_id INTEGER NOT NULL REFERENCES bench_ingredients(id),
+    PRIMARY KEY (recipe_id, ingredient_id)
+);
+
+-- 1M recipes built from a small vocabulary, 10k ingredients, 5 ingredients per recipe
+INSERT INTO bench_ingredients (ingredient)
+SELECT 'ingredient ' || md5(g::text) FROM generate_series(1, 10000) g;
+
+INSERT INTO bench_recipes (name, instructions, type, number_of_servings)
+SELECT (ARRAY['Pasta', 'Soup', 'Salad', 'Curry', 'Stew', 'Pie', 'Risotto', 'Tacos'])[1 + g % 8]
+           || ' ' || substr(md5(g::text), 1, 10),
+       'Step one: ' || md5((g * 7)::text) || '. Bake in the '
+           || (ARRAY['oven', 'pan', 'grill', 'pot'])[1 + g % 4] || ' for ' || (g % 60) || ' minutes. '
+           || repeat(md5((g * 13)::text) || ' ', 5),
+       CASE WHEN g % 2 = 0 THEN 'VEGETARIAN' ELSE 'NON_VEGETARIAN' END,
+       1 + g % 8
+FROM generate_series(1, 1000000) g;
+
+INSERT INTO bench_recipe_ingredient (recipe_id, ingredient_id)
+SELECT r.id, 1 + ((r.id * 31 + k * 997) % 10000)
+FROM bench_recipes r, generate_series(0, 4) k
+ON CONFLICT DO NOTHING;
+
+CREATE INDEX bench_recipe_name ON bench_recipes(name);
+ANALYZE bench_recipes;
+ANALYZE bench_ingredients;
+ANALYZE bench_recipe_ingredient;
+
+-- Without the trigram indexes
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench_recipes r WHERE lower(r.name) LIKE '%3f2a%' ORDER BY r.name LIMIT 21;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench_recipes r WHERE lower(r.instructions) LIKE '%9c1e04%' ORDER BY r.name LIMIT 21;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT DISTINCT r.* FROM bench_recipes r
+JOIN bench_recipe_ingredient ri ON ri.recipe_id = r.id
+JOIN bench_ingredients i ON i.id = ri.ingredient_id
+WHERE lower(i.ingredient) LIKE '%a1b2%' ORDER BY r.name LIMIT 21;
+
+-- With the trigram indexes (same definitions as init-db.sql)
+CREATE INDEX bench_recipe_name_trgm ON bench_recipes USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX bench_recipe_instructions_trgm ON bench_recipes USING gin (lower(instructions) gin_trgm_ops);
+CREATE INDEX bench_ingredient_name_trgm ON bench_ingredients USING gin (lower(ingredient) gin_trgm_ops);
+ANALYZE bench_recipes;
+ANALYZE bench_ingredients;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench_recipes r WHERE lower(r.name) LIKE '%3f2a%' ORDER BY r.name LIMIT 21;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench_recipes r WHERE lower(r.instructions) LIKE '%9c1e04%' ORDER BY r.name LIMIT 21;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT DISTINCT r.* FROM bench_recipes r
+JOIN bench_recipe_ingredient ri ON ri.recipe_id = r.id
+JOIN bench_ingredients i ON i.id = ri.ingredient_id
+WHERE lower(i.ingredient) LIKE '%a1b2%' ORDER BY r.name LIMIT 21;
+
+-- Index size next to table size
+SELECT relname, pg_size_pretty(pg_relation_size(oid)) AS size
+FROM pg_class
+WHERE relname LIKE 'bench_%'
+ORDER BY pg_relation_size(oid) DESC;
+
+DROP TABLE bench_recipe_ingredient;
+DROP TABLE bench_recipes;
+DROP TABLE bench_ingredients;
@@ -0,0 +1,66 @@
+-- Servings and timestamp searches before and after the typed comparison filter.
+--
+-- Run against a scratch database (it creates and drops its own tables):
+--   psql -h localhost -U recipeuser -d recipedb -f benchmarks/typed-range-search.sql
+--
+-- "Before" are the predicates the search used to emit for every column (lower of the column cast to
+-- varchar); "after" are the ones SearchFilterComparison emits against the native column type.
+-- Both run with the same B-tree indexes as init-db.sql, ordered by name and limited to one slice.
+-- Recorded output: benchmarks/typed-range-search.out
+
+\timing on
+SET client_min_messages = warning;
+
+DROP TABLE IF EXISTS bench_recipes;
+
+CREATE TABLE bench_recipes (
+    id SERIAL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    instructions TEXT NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    number_of_servings INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+-- 1M recipes, servings 1..40, created over roughly three years
+INSERT INTO bench_recipes (name, instructions, type, number_of_servings, created_at, updated_at)
+SELECT (ARRAY['Pasta', 'Soup', 'Salad', 'Curry', 'Stew', 'Pie', 'Risotto', 'Tacos'])[1 + g % 8]
+           || ' ' || substr(md5(g::text), 1, 10),
+       'Step one: ' || md5((g * 7)::text) || '. ' || repeat(md5((g * 13)::text) || ' ', 5),
+       CASE WHEN g % 2 = 0 THEN 'VEGETARIAN' ELSE 'NON_VEGETARIAN' END,
+       1 + g % 40,
+       TIMESTAMP '2022-01-01' + (g * INTERVAL '90 seconds'),
+       TIMESTAMP '2022-01-01' + (g * INTERVAL '90 seconds') + (g % 30) * INTERVAL '1 day'
+FROM generate_series(1, 1000000) g;
+
+CREATE INDEX bench_recipe_name ON bench_recipes(name);
+CREATE INDEX bench_recipe_servings_name_id ON bench_recipes(number_of_servings, name, id);
+CREATE INDEX bench_recipe_created_at ON bench_recipes(created_at);
+CREATE INDEX bench_recipe_updated_at ON bench_recipes(updated_at);
+ANALYZE bench_recipes;
+
+-- Before: string comparisons, no index can serve them
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench_recipes r
+WHERE lower(cast(r.number_of_servings AS varchar(255))) = '37' ORDER BY r.name LIMIT 21;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench_recipes r
+WHERE lower(cast(r.created_at AS varchar(255))) LIKE '%2024-03-01%' ORDER BY r.name LIMIT 21;
+
+-- After: native comparisons. A servings equality reads its rows in name order from the (servings, name, id)
+-- index and stops after the slice; a servings range covers several servings values, whose rows are not in name
+-- order in that index, so it still walks the name index and filters. A narrow timestamp range reads its rows
+-- from the timestamp index and sorts them; a wide one walks the name index and stops early.
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench_recipes r WHERE r.number_of_servings = 37 ORDER BY r.name LIMIT 21;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench_recipes r WHERE r.number_of_servings >= 39 ORDER BY r.name LIMIT 21;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench_recipes r
+WHERE r.created_at BETWEEN TIMESTAMP '2024-03-01 00:00:00' AND TIMESTAMP '2024-03-02 00:00:00'
+ORDER BY r.name LIMIT 21;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench_recipes r WHERE r.updated_at > TIMESTAMP '2024-07-01 00:00:00' ORDER BY r.name LIMIT 21;
+
+DROP TABLE bench_recipes;
@@ -7,6 +7,7 @@
 -- Create extensions
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 CREATE EXTENSION IF NOT EXISTS "pgcrypto";
+CREATE EXTENSION IF NOT EXISTS "pg_trgm";
 
 -- Create recipe table
 CREATE TABLE IF NOT EXISTS recipes (
@@ -36,12 +37,41 @@ CREATE TABLE IF NOT EXISTS recipe_ingredient (
 
 -- Create indices for performance
 CREATE INDEX IF NOT EXISTS idx_recipe_name ON recipes(name);
+-- Serves keyset pagination ordered by (name, id)
+CREATE INDEX IF NOT EXISTS idx_recipe_name_id ON recipes(name, id);
 CREATE INDEX IF NOT EXISTS idx_recipe_type ON recipes(type);
-CREATE INDEX IF NOT EXISTS idx_recipe_servings ON recipes(number_of_servings);
+-- Serves servings searches; for an equality the rows come in (name, id) order, so a slice stops after its rows
+CREATE INDEX IF NOT EXISTS idx_recipe_servings_name_id ON recipes(number_of_servings, name, id);
+-- Serve the typed eq/gt/gte/lt/lte/between searches on the timestamps
+CREATE INDEX IF NOT EXISTS idx_recipe_created_at ON recipes(created_at);
+CREATE INDEX IF NOT EXISTS idx_recipe_updated_at ON recipes(updated_at);
 CREATE INDEX IF NOT EXISTS idx_ingredient_name ON ingredients(ingredient);
 CREATE INDEX IF NOT EXISTS idx_recipe_ingredient_recipe ON recipe_ingredient(recipe_id);
 CREATE INDEX IF NOT EXISTS idx_recipe_ingredient_ingredient ON recipe_ingredient(ingredient_id);
 
+-- Trigram indexes serving the case-insensitive substring search ("cn": lower(column) LIKE '%value%').
+-- The expressions must match the predicates the search emits on PostgreSQL (lower of the bare column).
+-- "nc" (NOT LIKE) cannot use them and still scans.
+CREATE INDEX IF NOT EXISTS idx_recipe_name_trgm ON recipes USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_recipe_instructions_trgm ON recipes USING gin (lower(instructions) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_ingredient_name_trgm ON ingredients USING gin (lower(ingredient) gin_trgm_ops);
+
+-- B-tree indexes serving the prefix search ("sw": lower(column) LIKE 'value%') and the case-insensitive
+-- equality ("eq": lower(column) = 'value'). text_pattern_ops makes LIKE usable as a range scan whatever the
+-- database collation; the plain idx_recipe_name / idx_ingredient_name cannot serve either since the search
+-- compares lower(column). Types need no such index: they are stored and searched as the enum constant.
+CREATE INDEX IF NOT EXISTS idx_recipe_name_prefix ON recipes (lower(name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_ingredient_name_prefix ON ingredients (lower(ingredient) text_pattern_ops);
+
+-- Serves the "fts" search operation; the expression (including the 'english' configuration)
+-- must stay identical to the fts_match function registered by FullTextFunctionContributor.
+CREATE INDEX IF NOT EXISTS idx_recipe_instructions_fts ON recipes USING gin (to_tsvector('english', instructions));
+
+-- Hibernate allocates ids from these sequences in blocks of 50 (pooled optimizer) so inserts can be batched.
+-- The increment must match allocationSize on the Recipe and Ingredient entities.
+ALTER SEQUENCE recipes_id_seq INCREMENT BY 50;
+ALTER SEQUENCE ingredients_id_seq INCREMENT BY 50;
+
 -- Grant permissions to recipeuser
 GRANT ALL PRIVILEGES ON DATABASE recipedb TO recipeuser;
 GRANT ALL PRIVILEGES ON ALL TABLES IN SCHEMA public TO recipeuser;
@@ -0,0 +1,88 @@
+package com.recipe.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.recipe.config.MetricsConfig;
+import com.recipe.model.entity.Recipe;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of fully materialized recipes (entity plus ingredients) keyed by id.
+ * Entries are evicted by size and TTL; writes invalidate precisely through {@link #evict(int)}.
+ * Cached recipes are detached and shared between requests, so callers must treat them as read-only.
+ */
+@Component
+public class RecipeCache {
+
+    private final Cache<Integer, Recipe> cache;
+    private final MetricsConfig metricsConfig;
+
+    public RecipeCache(MetricsConfig metricsConfig,
+                       @Value("${recipe.cache.by-id.maximum-size:10000}") long maximumSize,
+                       @Value("${recipe.cache.by-id.ttl:10m}") Duration ttl) {
+        this.metricsConfig = metricsConfig;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .removalListener((Integer id, Recipe recipe, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        metricsConfig.getRecipeCacheEvictionCounter().increment();
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Returns the cached recipe or loads it with the given loader.
+     * Exceptions thrown by the loader (e.g. NotFoundException) are propagated and nothing is cached.
+     */
+    public Recipe get(int id, Function<Integer, Recipe> loader) {
+        boolean[] loaded = {false};
+        Recipe recipe = cache.get(id, key -> {
+            loaded[0] = true;
+            return loader.apply(key);
+        });
+
+        if (loaded[0]) {
+            metricsConfig.getRecipeCacheMissCounter().increment();
+        } else {
+            metricsConfig.getRecipeCacheHitCounter().increment();
+        }
+        return recipe;
+    }
+
+    /**
+     * Invalidates one recipe now and again once the surrounding transaction commits,
+     * so a concurrent reader cannot re-populate the entry with pre-commit data.
+     */
+    public void evict(int id) {
+        cache.invalidate(id);
+        afterCommit(() -> cache.invalidate(id));
+    }
+
+    /**
+     * Invalidates every recipe, e.g. when an ingredient shared by many recipes changes.
+     */
+    public void evictAll() {
+        cache.invalidateAll();
+        afterCommit(cache::invalidateAll);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+}
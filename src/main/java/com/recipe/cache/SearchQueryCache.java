@@ -0,0 +1,76 @@
+package com.recipe.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.recipe.config.MetricsConfig;
+import com.recipe.model.search.CompiledQuery;
+import com.recipe.model.search.SearchShape;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of search queries compiled per {@link SearchShape}. A search whose shape was seen before only
+ * binds its values to the cached criteria query, which Hibernate keeps the interpreted plan of; the Criteria API
+ * tree is built once per shape. Unlike {@link SearchResultCache} nothing here depends on the data, so writes
+ * need no invalidation.
+ */
+@Component
+public class SearchQueryCache {
+
+    private final Cache<Key, CompiledQuery<?>> cache;
+    private final MetricsConfig metricsConfig;
+    private final boolean enabled;
+
+    public SearchQueryCache(MetricsConfig metricsConfig,
+                            @Value("${recipe.search.query-cache.enabled:true}") boolean enabled,
+                            @Value("${recipe.search.query-cache.maximum-size:500}") long maximumSize) {
+        this.metricsConfig = metricsConfig;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Returns the query compiled for the shape, result type and sort, compiling it on first use.
+     * A compiler failing (e.g. an operation the key does not support) caches nothing.
+     */
+    public <T> CompiledQuery<T> get(SearchShape shape, Class<T> resultType, Sort sort,
+                                    Supplier<CompiledQuery<T>> compiler) {
+        return get(shape, resultType, sort, "", compiler);
+    }
+
+    /**
+     * Same as {@link #get(SearchShape, Class, Sort, Supplier)} for queries selecting a projection, which is
+     * part of the key since queries of one result type can select different columns
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompiledQuery<T> get(SearchShape shape, Class<T> resultType, Sort sort, String projection,
+                                    Supplier<CompiledQuery<T>> compiler) {
+        if (!enabled) {
+            CompiledQuery<T> compiled = compiler.get();
+            metricsConfig.getRecipeSearchQueryCompileCounter().increment();
+            return compiled;
+        }
+
+        boolean[] compiled = {false};
+        CompiledQuery<?> query = cache.get(new Key(shape, resultType, sort, projection), key -> {
+            CompiledQuery<T> result = compiler.get();
+            compiled[0] = true;
+            return result;
+        });
+
+        if (compiled[0]) {
+            metricsConfig.getRecipeSearchQueryCompileCounter().increment();
+        } else {
+            metricsConfig.getRecipeSearchQueryReuseCounter().increment();
+        }
+        return (CompiledQuery<T>) query;
+    }
+
+    record Key(SearchShape shape, Class<?> resultType, Sort sort, String projection) {
+    }
+}
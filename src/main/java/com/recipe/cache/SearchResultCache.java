@@ -0,0 +1,200 @@
+package com.recipe.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.recipe.config.MetricsConfig;
+import com.recipe.model.domain.request.RecipeSearchRequest;
+import com.recipe.model.domain.request.SearchCriteriaRequest;
+import com.recipe.model.domain.request.SearchNodeRequest;
+import com.recipe.model.domain.response.RecipeResponse;
+import com.recipe.model.domain.response.SliceResponse;
+import com.recipe.model.projection.RecipeFields;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Cache of search result pages keyed on a canonical form of {@link RecipeSearchRequest}.
+ * Criteria are sorted and their values lower-cased (the filters compare lower-cased values anyway),
+ * so logically equal searches share one entry. Every key carries the current generation number;
+ * any write bumps the generation, which makes all earlier entries unreachable until they age out.
+ */
+@Component
+public class SearchResultCache {
+
+    static final String SHAPE_SEPARATOR = "&";
+
+    private final Cache<Key, SliceResponse<RecipeResponse>> cache;
+    private final MetricsConfig metricsConfig;
+    private final boolean enabled;
+    private final Set<String> disabledShapes;
+    private final AtomicLong generation = new AtomicLong();
+
+    public SearchResultCache(MetricsConfig metricsConfig,
+                             @Value("${recipe.cache.search.enabled:true}") boolean enabled,
+                             @Value("${recipe.cache.search.maximum-size:1000}") long maximumSize,
+                             @Value("${recipe.cache.search.ttl:5m}") Duration ttl,
+                             @Value("${recipe.cache.search.disabled-shapes:}") Set<String> disabledShapes) {
+        this.metricsConfig = metricsConfig;
+        this.enabled = enabled;
+        this.disabledShapes = disabledShapes.stream()
+                .map(SearchResultCache::normalizeShape)
+                .collect(Collectors.toUnmodifiableSet());
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Returns the cached page for the request or computes it with the given loader.
+     * Shapes listed in {@code recipe.cache.search.disabled-shapes} always go to the loader.
+     */
+    public SliceResponse<RecipeResponse> get(RecipeSearchRequest request, int page, int size,
+                                             Supplier<SliceResponse<RecipeResponse>> loader) {
+        return get(request, page, size, RecipeFields.ALL, loader);
+    }
+
+    /**
+     * Same as {@link #get(RecipeSearchRequest, int, int, Supplier)} for a page of the given fieldset, which is
+     * cached apart from the full page of the same search
+     */
+    public SliceResponse<RecipeResponse> get(RecipeSearchRequest request, int page, int size, RecipeFields fields,
+                                             Supplier<SliceResponse<RecipeResponse>> loader) {
+        Key key = Key.of(generation.get(), request, page, size, fields);
+        if (!enabled || disabledShapes.contains(key.shape())) {
+            return loader.get();
+        }
+
+        boolean[] loaded = {false};
+        SliceResponse<RecipeResponse> result = cache.get(key, k -> {
+            loaded[0] = true;
+            return loader.get();
+        });
+
+        if (loaded[0]) {
+            metricsConfig.getRecipeSearchCacheMissCounter().increment();
+        } else {
+            metricsConfig.getRecipeSearchCacheHitCounter().increment();
+        }
+        return result;
+    }
+
+    /**
+     * Invalidates every cached search by moving to a new generation, now and again after commit,
+     * so a search that read pre-commit data cannot be stored under the current generation.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    generation.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    private static String normalizeShape(String shape) {
+        return Arrays.stream(shape.split(SHAPE_SEPARATOR))
+                .map(part -> part.trim().toLowerCase(Locale.ROOT))
+                .sorted()
+                .collect(Collectors.joining(SHAPE_SEPARATOR));
+    }
+
+    /**
+     * Canonical cache key. The shape is the sorted "filterKey:operation" list without values,
+     * which is also the unit caching can be switched off for.
+     */
+    record Key(long generation, String dataOption, String shape, List<String> criteria, String query, int page,
+               int size, String fields) {
+
+        private static final ObjectMapper VALUES = new ObjectMapper();
+
+        static Key of(long generation, RecipeSearchRequest request, int page, int size, RecipeFields fields) {
+            List<SearchCriteriaRequest> requests = Optional.ofNullable(request.getSearchCriteriaRequests())
+                    .orElse(List.of());
+
+            List<SearchCriteriaRequest> sorted = requests.stream()
+                    .sorted(Comparator.comparing(Key::shapeOf).thenComparing(Key::criterionOf))
+                    .toList();
+
+            String shape = sorted.stream()
+                    .map(Key::shapeOf)
+                    .collect(Collectors.joining(SHAPE_SEPARATOR));
+
+            // The filter key stays as sent because it is resolved as an attribute name
+            List<String> criteria = sorted.stream()
+                    .map(Key::criterionOf)
+                    .toList();
+
+            // With a single criterion the data option never reaches the specification builder
+            String dataOption = criteria.size() < 2 ? "" : Optional.ofNullable(request.getDataOption())
+                    .map(option -> option.toLowerCase(Locale.ROOT))
+                    .orElse("");
+
+            String query = request.getQuery() == null ? "" : queryOf(request.getQuery());
+
+            return new Key(generation, dataOption, shape, criteria, query, page, size, fields.key());
+        }
+
+        /**
+         * The nested query in the form of {@link #criterionOf}; groups keep their order
+         */
+        private static String queryOf(SearchNodeRequest node) {
+            if (node == null) {
+                return "null";
+            }
+            if (node.getAll() != null) {
+                return node.getAll().stream().map(Key::queryOf).collect(Collectors.joining(",", "all(", ")"));
+            }
+            if (node.getAny() != null) {
+                return node.getAny().stream().map(Key::queryOf).collect(Collectors.joining(",", "any(", ")"));
+            }
+            if (node.getNot() != null) {
+                return "not(" + queryOf(node.getNot()) + ")";
+            }
+            return node.getFilterKey() + ":"
+                    + String.valueOf(node.getOperation()).toLowerCase(Locale.ROOT) + ":"
+                    + valueOf(node.getValue());
+        }
+
+        private static String shapeOf(SearchCriteriaRequest request) {
+            return String.valueOf(request.getFilterKey()).toLowerCase(Locale.ROOT) + ":"
+                    + String.valueOf(request.getOperation()).toLowerCase(Locale.ROOT);
+        }
+
+        private static String criterionOf(SearchCriteriaRequest request) {
+            return request.getFilterKey() + ":"
+                    + String.valueOf(request.getOperation()).toLowerCase(Locale.ROOT) + ":"
+                    + valueOf(request.getValue());
+        }
+
+        /**
+         * The value as lower-cased JSON. Quoting every string keeps list elements apart, so ["salt, pepper"]
+         * and ["salt", "pepper"] are different keys, and a value cannot be mistaken for the key syntax around it.
+         */
+        private static String valueOf(Object value) {
+            try {
+                return VALUES.writeValueAsString(value).toLowerCase(Locale.ROOT);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Search value cannot be used as a cache key: " + value, e);
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.recipe.config;
 public class DatabaseAttributes {
     public static final String JOINED_TABLE_NAME = "recipeIngredients";
     public static final String INGREDIENT_KEY = "ingredient";
+    public static final String INSTRUCTIONS_KEY = "instructions";
+    public static final String TYPE_KEY = "type";
 
 
 }
@@ -0,0 +1,37 @@
+package com.recipe.config;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class DatabaseConfig {
+
+    /**
+     * Detected once at startup so queries can pick dialect specific predicates
+     */
+    @Bean
+    public DatabasePlatform databasePlatform(DataSource dataSource) {
+        return DatabasePlatform.of(dataSource);
+    }
+
+    /**
+     * On H2, the functions the fts search operation calls, see {@link FullTextFallback}
+     */
+    @Bean
+    public InitializingBean fullTextFallbackAliases(DataSource dataSource, DatabasePlatform databasePlatform) {
+        return () -> {
+            if (databasePlatform != DatabasePlatform.H2) {
+                return;
+            }
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS " + FullTextFallback.MATCH_ALIAS
+                    + " FOR '" + FullTextFallback.class.getName() + ".matches'");
+            jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS " + FullTextFallback.RANK_ALIAS
+                    + " FOR '" + FullTextFallback.class.getName() + ".rank'");
+        };
+    }
+}
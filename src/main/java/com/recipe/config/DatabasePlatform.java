@@ -0,0 +1,32 @@
+package com.recipe.config;
+
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * The database behind the application, for the few statements that cannot be written portably.
+ * PostgreSQL is the production database, H2 is used for local development and tests.
+ */
+public enum DatabasePlatform {
+    POSTGRESQL,
+    H2,
+    OTHER;
+
+    public static DatabasePlatform of(DataSource dataSource) {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            if ("PostgreSQL".equalsIgnoreCase(productName)) {
+                return POSTGRESQL;
+            }
+            if ("H2".equalsIgnoreCase(productName)) {
+                return H2;
+            }
+            return OTHER;
+        } catch (MetaDataAccessException e) {
+            return OTHER;
+        }
+    }
+}
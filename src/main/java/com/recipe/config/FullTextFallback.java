@@ -0,0 +1,72 @@
+package com.recipe.config;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Full-text matching for H2, which has no text search of its own. The static methods are
+ * registered as H2 functions at startup (see {@link DatabaseConfig}) and run inside the JVM; they approximate
+ * PostgreSQL's plainto_tsquery / ts_rank with a word tokenizer, a stop word list and light suffix stemming.
+ */
+public final class FullTextFallback {
+    public static final String MATCH_ALIAS = "fts_match_fallback";
+    public static final String RANK_ALIAS = "fts_rank_fallback";
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "into", "is", "it",
+            "of", "on", "or", "the", "then", "to", "until", "with");
+
+    private FullTextFallback() {
+    }
+
+    /**
+     * True when the document contains every word of the query (after stemming)
+     */
+    public static boolean matches(String document, String query) {
+        List<String> queryTerms = terms(query);
+        if (document == null || queryTerms.isEmpty()) {
+            return false;
+        }
+        Set<String> documentTerms = Set.copyOf(terms(document));
+        return documentTerms.containsAll(queryTerms);
+    }
+
+    /**
+     * Number of document words matching a query word, so documents repeating the query rank higher
+     */
+    public static double rank(String document, String query) {
+        if (document == null) {
+            return 0;
+        }
+        Set<String> queryTerms = Set.copyOf(terms(query));
+        return terms(document).stream().filter(queryTerms::contains).count();
+    }
+
+    static List<String> terms(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty() && !STOP_WORDS.contains(word))
+                .map(FullTextFallback::stem)
+                .toList();
+    }
+
+    private static String stem(String word) {
+        String stem = word;
+        if (stem.length() > 5 && stem.endsWith("ing")) {
+            stem = stem.substring(0, stem.length() - 3);
+        } else if (stem.length() > 4 && (stem.endsWith("ed") || stem.endsWith("es"))) {
+            stem = stem.substring(0, stem.length() - 2);
+        } else if (stem.length() > 3 && stem.endsWith("s") && !stem.endsWith("ss")) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+        // "bake", "baked" and "baking" all end up as "bak"
+        if (stem.length() > 3 && stem.endsWith("e")) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+        return stem;
+    }
+}
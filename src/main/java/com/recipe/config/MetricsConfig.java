@@ -1,6 +1,7 @@
 package com.recipe.config;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.Getter;
@@ -8,6 +9,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Metrics Configuration for Recipe API
@@ -66,6 +68,88 @@ public class MetricsConfig {
      */
     @Getter
     private Timer recipeRetrievalTimer;
+    /**
+     * -- GETTER --
+     *  Get the recipe cache hit counter
+     *  This counter accumulates ALL by-id lookups served from the recipe cache
+     */
+    @Getter
+    private Counter recipeCacheHitCounter;
+    /**
+     * -- GETTER --
+     *  Get the recipe cache miss counter
+     *  This counter accumulates ALL by-id lookups that had to go to the database
+     */
+    @Getter
+    private Counter recipeCacheMissCounter;
+    /**
+     * -- GETTER --
+     *  Get the recipe cache eviction counter
+     *  This counter accumulates ALL size or TTL based evictions (not explicit invalidations)
+     */
+    @Getter
+    private Counter recipeCacheEvictionCounter;
+    /**
+     * -- GETTER --
+     *  Get the search result cache hit counter
+     *  This counter accumulates ALL searches answered from the search result cache
+     */
+    @Getter
+    private Counter recipeSearchCacheHitCounter;
+    /**
+     * -- GETTER --
+     *  Get the search result cache miss counter
+     *  This counter accumulates ALL cacheable searches that had to query the database
+     */
+    @Getter
+    private Counter recipeSearchCacheMissCounter;
+    /**
+     * -- GETTER --
+     *  Get the search index build timer
+     *  This timer records duration of EVERY full build of the in-memory search index
+     */
+    @Getter
+    private Timer recipeIndexBuildTimer;
+    /**
+     * -- GETTER --
+     *  Get the search index query timer
+     *  This timer records duration of EVERY search answered by the in-memory search index
+     */
+    @Getter
+    private Timer recipeIndexQueryTimer;
+    /**
+     * -- GETTER --
+     *  Get the search planning timer
+     *  This timer records duration of EVERY ordering of search criteria by the search planner
+     */
+    @Getter
+    private Timer recipeSearchPlanningTimer;
+    /**
+     * -- GETTER --
+     *  Get the search query compile counter
+     *  This counter accumulates ALL searches whose shape had to be compiled into a query
+     */
+    @Getter
+    private Counter recipeSearchQueryCompileCounter;
+    /**
+     * -- GETTER --
+     *  Get the search query reuse counter
+     *  This counter accumulates ALL searches that only bound their values to an already compiled query
+     */
+    @Getter
+    private Counter recipeSearchQueryReuseCounter;
+    /**
+     * -- GETTER --
+     *  Get the number of recipes held by the search index
+     */
+    @Getter
+    private final AtomicLong recipeIndexSize = new AtomicLong();
+    /**
+     * -- GETTER --
+     *  Get the number of distinct terms (posting lists) held by the search index
+     */
+    @Getter
+    private final AtomicLong recipeIndexTerms = new AtomicLong();
 
     public MetricsConfig(MeterRegistry meterRegistry) {
         this.meterRegistry = meterRegistry;
@@ -102,6 +186,66 @@ public class MetricsConfig {
         this.recipeRetrievalTimer = Timer.builder("recipes.retrieval.duration")
                 .description("Time taken for recipe retrieval")
                 .register(meterRegistry);
+
+        // Create cache counters - they sit next to the retrieval timer they explain
+        this.recipeCacheHitCounter = Counter.builder("recipes.cache.hit")
+                .description("Total number of recipe lookups served from the cache")
+                .register(meterRegistry);
+
+        this.recipeCacheMissCounter = Counter.builder("recipes.cache.miss")
+                .description("Total number of recipe lookups that missed the cache")
+                .register(meterRegistry);
+
+        this.recipeCacheEvictionCounter = Counter.builder("recipes.cache.eviction")
+                .description("Total number of recipes evicted from the cache by size or TTL")
+                .register(meterRegistry);
+
+        this.recipeSearchCacheHitCounter = Counter.builder("recipes.search.cache.hit")
+                .description("Total number of searches served from the search result cache")
+                .register(meterRegistry);
+
+        this.recipeSearchCacheMissCounter = Counter.builder("recipes.search.cache.miss")
+                .description("Total number of cacheable searches that missed the search result cache")
+                .register(meterRegistry);
+
+        this.recipeIndexBuildTimer = Timer.builder("recipes.index.build.duration")
+                .description("Time taken to build the in-memory search index")
+                .register(meterRegistry);
+
+        this.recipeIndexQueryTimer = Timer.builder("recipes.index.query.duration")
+                .description("Time taken for searches answered by the in-memory search index")
+                .register(meterRegistry);
+
+        this.recipeSearchPlanningTimer = Timer.builder("recipes.search.planning.duration")
+                .description("Time taken to order search criteria and pick ingredient strategies")
+                .register(meterRegistry);
+
+        this.recipeSearchQueryCompileCounter = Counter.builder("recipes.search.query.compiled")
+                .description("Total number of searches compiled into a query for a new shape")
+                .register(meterRegistry);
+
+        this.recipeSearchQueryReuseCounter = Counter.builder("recipes.search.query.reused")
+                .description("Total number of searches that reused the compiled query of their shape")
+                .register(meterRegistry);
+
+        // Create gauges - they are sampled on every scrape
+        Gauge.builder("recipes.search.cache.hit.ratio", this, MetricsConfig::getSearchCacheHitRatio)
+                .description("Share of cacheable searches served from the search result cache")
+                .register(meterRegistry);
+
+        Gauge.builder("recipes.index.size", recipeIndexSize, AtomicLong::get)
+                .description("Number of recipes held by the in-memory search index")
+                .register(meterRegistry);
+
+        Gauge.builder("recipes.index.terms", recipeIndexTerms, AtomicLong::get)
+                .description("Number of distinct terms held by the in-memory search index")
+                .register(meterRegistry);
+    }
+
+    private double getSearchCacheHitRatio() {
+        double hits = recipeSearchCacheHitCounter.count();
+        double total = hits + recipeSearchCacheMissCounter.count();
+        return total == 0 ? 0 : hits / total;
     }
 
 }
@@ -17,6 +17,11 @@ public class ValidationConfig {
      */
     public static final int MAX_LENGTH_DEFAULT = 255;
 
+    /**
+     * Max page size of the listings that fetch one extra row
+     */
+    public static final int MAX_PAGE_SIZE = 1000;
+
     /**
      * Matches for free text fields (instructions, descriptions)
      * Allows: letters, numbers, spaces, and common punctuation: . , ! ? ' " : ; - ( ) / + * & % $ # @
@@ -1,16 +1,68 @@
 package com.recipe.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 import org.springframework.web.servlet.config.annotation.*;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebMvc
 public class WebConfig implements WebMvcConfigurer {
 
+    @Value("${recipe.export.timeout:30m}")
+    private Duration exportTimeout;
+
+    @Value("${recipe.export.max-concurrent:4}")
+    private int exportMaxConcurrent;
+
+    @Value("${recipe.msearch.max-concurrent:4}")
+    private int multiSearchMaxConcurrent;
+
+    @Value("${recipe.msearch.queue-capacity:100}")
+    private int multiSearchQueueCapacity;
+
+    /**
+     * Streaming responses (the recipe export) run on this bounded pool instead of a new thread per request.
+     * spring.mvc.async.* is not applied because of @EnableWebMvc, so the timeout is configured here.
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(exportTimeout.toMillis());
+        configurer.setTaskExecutor(mvcAsyncTaskExecutor());
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor mvcAsyncTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(exportMaxConcurrent);
+        executor.setMaxPoolSize(exportMaxConcurrent);
+        executor.setQueueCapacity(exportMaxConcurrent * 10);
+        executor.setThreadNamePrefix("mvc-async-");
+        return executor;
+    }
+
+    /**
+     * Runs the searches of multi-search requests. Each running search holds its own database connection,
+     * so the pool size bounds the connections multi-searches take from the pool; a full queue rejects
+     * further searches instead of growing.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor multiSearchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(multiSearchMaxConcurrent);
+        executor.setMaxPoolSize(multiSearchMaxConcurrent);
+        executor.setQueueCapacity(multiSearchQueueCapacity);
+        executor.setThreadNamePrefix("msearch-");
+        return executor;
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**");
@@ -34,7 +86,9 @@ public class WebConfig implements WebMvcConfigurer {
         return messageSource;
     }
 
+    // Primary over @EnableWebMvc's mvcValidator, so method validation of @Validated beans resolves a single one
     @Bean
+    @Primary
     @Override
     public LocalValidatorFactoryBean getValidator() {
         LocalValidatorFactoryBean validatorFactoryBean = new LocalValidatorFactoryBean();
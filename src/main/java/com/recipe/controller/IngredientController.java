@@ -1,7 +1,11 @@
 package com.recipe.controller;
 
+import com.recipe.config.ValidationConfig;
 import com.recipe.model.domain.request.CreateIngredientRequest;
+import com.recipe.model.domain.request.IngredientNamesRequest;
+import com.recipe.model.domain.response.BatchGetResponse;
 import com.recipe.model.domain.response.CreateEntityResponse;
+import com.recipe.model.domain.response.CursorPageResponse;
 import com.recipe.model.domain.response.IngredientResponse;
 import com.recipe.model.entity.Ingredient;
 import com.recipe.service.IngredientService;
@@ -14,14 +18,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
+import java.util.Map;
 
 @Tag(name = "IngredientController", description = "Create, update, delete, list ingredients")
 @RestController
+@Validated
 @RequestMapping(value = "/api/v1/ingredient")
 public class IngredientController {
 
@@ -49,6 +58,34 @@ public class IngredientController {
                 .toList();
     }
 
+    @Operation(summary = "List ingredients by keyset (cursor) pagination, ordered by name")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful request"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or size")
+    })
+    @RequestMapping(method = RequestMethod.GET, path = "/scroll")
+    public CursorPageResponse<IngredientResponse> scrollIngredients(
+            @Parameter(description = "Cursor returned by the previous page, omit for the first page")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Min(value = 1, message = "{page.size.min}")
+            @Max(value = ValidationConfig.MAX_PAGE_SIZE, message = "{page.size.max}")
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        logger.info("Getting the ingredients after cursor");
+        return ingredientService.getIngredientsAfter(cursor, size);
+    }
+
+    @Operation(summary = "Get several ingredients by their IDs at once, in request order with missing IDs marked")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful request, see found and missing"),
+            @ApiResponse(responseCode = "400", description = "Too many or invalid IDs")
+    })
+    @RequestMapping(method = RequestMethod.GET, params = "ids")
+    public BatchGetResponse<IngredientResponse> getIngredients(
+            @Parameter(description = "Ingredient IDs, comma separated") @RequestParam(name = "ids") List<Integer> ids) {
+        logger.info("Getting the ingredients by their ids. Count: {}", ids.size());
+        return ingredientService.getIngredientBatch(ids);
+    }
+
     @Operation(summary = "List one ingredient by its ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successful request"),
@@ -75,6 +112,29 @@ public class IngredientController {
         return new CreateEntityResponse(id);
     }
 
+    @Operation(summary = "Get the ids of ingredients by name, creating the ones that do not exist yet")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful request"),
+            @ApiResponse(responseCode = "400", description = "Bad input")
+    })
+    @RequestMapping(method = RequestMethod.POST, path = "/names")
+    public List<IngredientResponse> getOrCreateIngredients(
+            @Parameter(description = "Names of the ingredients") @Valid @RequestBody IngredientNamesRequest request) {
+        logger.info("Getting or creating the ingredients by name. Count: {}", request.getNames().size());
+        Map<String, Integer> ids = ingredientService.getOrCreateIngredientIds(request.getNames());
+
+        return request.getNames().stream()
+                .map(String::trim)
+                .distinct()
+                .map(name -> {
+                    IngredientResponse response = new IngredientResponse();
+                    response.setId(ids.get(name));
+                    response.setName(name);
+                    return response;
+                })
+                .toList();
+    }
+
     @Operation(summary = "Delete the ingredient")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successful operation"),
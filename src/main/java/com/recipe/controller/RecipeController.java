@@ -1,11 +1,23 @@
 package com.recipe.controller;
 
+import com.recipe.config.ValidationConfig;
 import com.recipe.model.domain.request.CreateRecipeRequest;
+import com.recipe.model.domain.request.PagedSearchRequest;
 import com.recipe.model.domain.request.RecipeSearchRequest;
 import com.recipe.model.domain.request.UpdateRecipeRequest;
+import com.recipe.model.domain.response.BatchGetResponse;
+import com.recipe.model.domain.response.BulkCreateResponse;
+import com.recipe.model.domain.response.CountResponse;
 import com.recipe.model.domain.response.CreateEntityResponse;
+import com.recipe.model.domain.response.CursorPageResponse;
+import com.recipe.model.domain.response.MultiSearchResponse;
 import com.recipe.model.domain.response.RecipeResponse;
+import com.recipe.model.domain.response.SliceResponse;
 import com.recipe.model.entity.Recipe;
+import com.recipe.model.projection.RecipeFields;
+import com.recipe.service.RecipeBulkService;
+import com.recipe.service.RecipeExportService;
+import com.recipe.service.RecipeMultiSearchService;
 import com.recipe.service.RecipeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,23 +28,42 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
 
 @Tag(name = "RecipeController", description = "Create, update, delete, list recipes")
 @RestController
+@Validated
 @RequestMapping(value = "/api/v1/recipe")
 public class RecipeController {
+    private static final String FIELDS_DESCRIPTION =
+            "Comma separated fields to return, e.g. name,type; all fields when omitted, the id always";
+
     private final Logger logger = LoggerFactory.getLogger(RecipeController.class);
 
     private final RecipeService recipeService;
+    private final RecipeExportService recipeExportService;
+    private final RecipeBulkService recipeBulkService;
+    private final RecipeMultiSearchService recipeMultiSearchService;
 
     @Autowired
-    public RecipeController(RecipeService recipeService) {
+    public RecipeController(RecipeService recipeService,
+                            RecipeExportService recipeExportService,
+                            RecipeBulkService recipeBulkService,
+                            RecipeMultiSearchService recipeMultiSearchService) {
         this.recipeService = recipeService;
+        this.recipeExportService = recipeExportService;
+        this.recipeBulkService = recipeBulkService;
+        this.recipeMultiSearchService = recipeMultiSearchService;
     }
 
     @Operation(summary = "List all recipes")
@@ -41,13 +72,52 @@ public class RecipeController {
     })
     @RequestMapping(method = RequestMethod.GET, path = "/page/{page}/size/{size}")
     public List<RecipeResponse> getRecipeList(@PathVariable(name = "page") int page,
-                                              @PathVariable(name = "size") int size) {
+                                              @PathVariable(name = "size") int size,
+                                              @Parameter(description = FIELDS_DESCRIPTION)
+                                              @RequestParam(name = "fields", required = false) String fields) {
         logger.info("Getting the recipes");
-        List<Recipe> list = recipeService.getRecipeList(page, size);
+        return recipeService.getRecipeList(page, size, RecipeFields.parse(fields));
+    }
 
-        return list.stream()
-                .map(RecipeResponse::new)
-                .toList();
+    @Operation(summary = "List recipes by keyset (cursor) pagination, ordered by name")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful request"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or size")
+    })
+    @RequestMapping(method = RequestMethod.GET, path = "/scroll")
+    public CursorPageResponse<RecipeResponse> scrollRecipes(
+            @Parameter(description = "Cursor returned by the previous page, omit for the first page")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Min(value = 1, message = "{page.size.min}")
+            @Max(value = ValidationConfig.MAX_PAGE_SIZE, message = "{page.size.max}")
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        logger.info("Getting the recipes after cursor");
+        return recipeService.getRecipesAfter(cursor, size);
+    }
+
+    @Operation(summary = "Export all recipes with their ingredients as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful request, streamed one recipe per line"),
+    })
+    @RequestMapping(method = RequestMethod.GET, path = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportRecipes() {
+        logger.info("Exporting the recipes");
+        StreamingResponseBody body = recipeExportService::exportRecipes;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @Operation(summary = "Get several recipes by their IDs at once, in request order with missing IDs marked")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful request, see found and missing"),
+            @ApiResponse(responseCode = "400", description = "Too many or invalid IDs")
+    })
+    @RequestMapping(method = RequestMethod.GET, params = "ids")
+    public BatchGetResponse<RecipeResponse> getRecipes(
+            @Parameter(description = "Recipe IDs, comma separated") @RequestParam(name = "ids") List<Integer> ids) {
+        logger.info("Getting the recipes by their ids. Count: {}", ids.size());
+        return recipeService.getRecipeBatch(ids);
     }
 
     @Operation(summary = "List one recipe by its ID")
@@ -56,8 +126,14 @@ public class RecipeController {
             @ApiResponse(responseCode = "404", description = "Recipe not found by the given ID")
     })
     @RequestMapping(value = "/{id}", method = RequestMethod.GET)
-    public RecipeResponse getRecipe(@Parameter(description = "Recipe ID") @PathVariable(name = "id") Integer id) {
+    public RecipeResponse getRecipe(@Parameter(description = "Recipe ID") @PathVariable(name = "id") Integer id,
+                                    @Parameter(description = FIELDS_DESCRIPTION)
+                                    @RequestParam(name = "fields", required = false) String fields) {
         logger.info("Getting the recipe by its id. Id: {}", id);
+        RecipeFields recipeFields = RecipeFields.parse(fields);
+        if (!recipeFields.isAll()) {
+            return recipeService.getRecipeById(id, recipeFields);
+        }
         Recipe recipe = recipeService.getRecipeById(id);
         return new RecipeResponse(recipe);
     }
@@ -76,6 +152,18 @@ public class RecipeController {
         return new CreateEntityResponse(id);
     }
 
+    @Operation(summary = "Create many recipes at once, reporting the created id or the error per item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Request processed, see the per-item results"),
+            @ApiResponse(responseCode = "400", description = "Too many items or bad input")
+    })
+    @RequestMapping(method = RequestMethod.POST, path = "/bulk")
+    public BulkCreateResponse createRecipes(
+            @Parameter(description = "The recipes to create") @RequestBody List<CreateRecipeRequest> requests) {
+        logger.info("Bulk creating recipes. Count: {}", requests.size());
+        return recipeBulkService.createRecipes(requests);
+    }
+
     @Operation(summary = "Update the recipe")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Recipe updated"),
@@ -109,10 +197,56 @@ public class RecipeController {
     })
     @RequestMapping(method = RequestMethod.POST, path = "/search")
     public List<RecipeResponse> searchRecipe(@RequestParam(name = "page", defaultValue = "0") int page,
+                                             @Min(value = 1, message = "{page.size.min}")
+                                             @Max(value = ValidationConfig.MAX_PAGE_SIZE, message = "{page.size.max}")
                                              @RequestParam(name = "size", defaultValue = "10") int size,
+                                             @Parameter(description = FIELDS_DESCRIPTION)
+                                             @RequestParam(name = "fields", required = false) String fields,
                                              @Parameter(description = "Properties of the search")
                                              @RequestBody @Valid RecipeSearchRequest recipeSearchRequest) {
         logger.info("Searching the recipe by given criteria");
-        return recipeService.findBySearchCriteria(recipeSearchRequest, page, size);
+        return recipeService.findBySearchCriteria(recipeSearchRequest, page, size, RecipeFields.parse(fields));
+    }
+
+    @Operation(summary = "Search recipes by given parameters, returning whether a next page exists instead of a total")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful request"),
+            @ApiResponse(responseCode = "404", description = "Different error messages related to criteria and recipe")
+    })
+    @RequestMapping(method = RequestMethod.POST, path = "/search/slice")
+    public SliceResponse<RecipeResponse> searchRecipeSlice(@RequestParam(name = "page", defaultValue = "0") int page,
+                                                           @Min(value = 1, message = "{page.size.min}")
+                                                           @Max(value = ValidationConfig.MAX_PAGE_SIZE, message = "{page.size.max}")
+                                                           @RequestParam(name = "size", defaultValue = "10") int size,
+                                                           @Parameter(description = FIELDS_DESCRIPTION)
+                                                           @RequestParam(name = "fields", required = false) String fields,
+                                                           @Parameter(description = "Properties of the search")
+                                                           @RequestBody @Valid RecipeSearchRequest recipeSearchRequest) {
+        logger.info("Searching the recipe slice by given criteria");
+        return recipeService.findSliceBySearchCriteria(recipeSearchRequest, page, size, RecipeFields.parse(fields));
+    }
+
+    @Operation(summary = "Count recipes matching given parameters")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful request"),
+            @ApiResponse(responseCode = "404", description = "Different error messages related to criteria and recipe")
+    })
+    @RequestMapping(method = RequestMethod.POST, path = "/search/count")
+    public CountResponse countRecipes(@Parameter(description = "Properties of the search")
+                                      @RequestBody @Valid RecipeSearchRequest recipeSearchRequest) {
+        logger.info("Counting the recipes by given criteria");
+        return new CountResponse(recipeService.countBySearchCriteria(recipeSearchRequest));
+    }
+
+    @Operation(summary = "Run several searches at once, reporting the page or the error and the time taken per search")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Searches processed, see the per-search results"),
+            @ApiResponse(responseCode = "400", description = "Too many searches")
+    })
+    @RequestMapping(method = RequestMethod.POST, path = "/msearch")
+    public MultiSearchResponse multiSearch(
+            @Parameter(description = "The searches to run, each with its page and size") @RequestBody List<PagedSearchRequest> requests) {
+        logger.info("Running a multi-search. Count: {}", requests.size());
+        return recipeMultiSearchService.search(requests);
     }
 }
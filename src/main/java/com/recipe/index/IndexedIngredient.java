@@ -0,0 +1,7 @@
+package com.recipe.index;
+
+/**
+ * An ingredient as seen by the search index
+ */
+public record IndexedIngredient(int id, String name) {
+}
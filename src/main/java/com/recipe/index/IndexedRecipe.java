@@ -0,0 +1,37 @@
+package com.recipe.index;
+
+import com.recipe.model.entity.Ingredient;
+import com.recipe.model.entity.Recipe;
+import org.hibernate.Hibernate;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The columns of a recipe that the search index needs, copied when the recipe is written
+ * so the index never holds on to (possibly detached) entities.
+ * ingredientIds and instructions are null when the write did not load them, meaning they did not change.
+ */
+public record IndexedRecipe(int id, String name, String instructions, Set<Integer> ingredientIds) {
+
+    public static IndexedRecipe of(Recipe recipe) {
+        return new IndexedRecipe(recipe.getId(), recipe.getName(), instructions(recipe),
+                ingredientIds(recipe.getRecipeIngredients()));
+    }
+
+    private static String instructions(Recipe recipe) {
+        // The instructions are lazy; an update that did not touch them must not load them from inside a flush
+        return Hibernate.isPropertyInitialized(recipe, "instructions") ? recipe.getInstructions() : null;
+    }
+
+    private static Set<Integer> ingredientIds(Set<Ingredient> ingredients) {
+        if (ingredients == null) {
+            return Set.of();
+        }
+        // Loading a lazy collection from inside a flush is not allowed, and an unloaded one cannot have changed
+        if (!Hibernate.isInitialized(ingredients)) {
+            return null;
+        }
+        return ingredients.stream().map(Ingredient::getId).collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,33 @@
+package com.recipe.index;
+
+import com.recipe.model.entity.Ingredient;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Feeds ingredient writes made through JPA into the {@link RecipeSearchIndex}.
+ * Ingredients created by the set-based name upsert bypass JPA and are reported by IngredientService.
+ */
+public class IngredientIndexListener {
+
+    @Autowired
+    private ObjectProvider<RecipeSearchIndex> recipeSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Ingredient ingredient) {
+        if (recipeSearchIndex != null) {
+            recipeSearchIndex.ifAvailable(index -> index.onIngredientSaved(ingredient.getId(), ingredient.getIngredient()));
+        }
+    }
+
+    @PostRemove
+    public void onRemoved(Ingredient ingredient) {
+        if (recipeSearchIndex != null) {
+            recipeSearchIndex.ifAvailable(index -> index.onIngredientRemoved(ingredient.getId()));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.recipe.index;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Loads the {@link RecipeSearchIndex} from the database once the application is up.
+ * The load runs in the background; until it completes searches are answered by the database.
+ */
+@Component
+public class RecipeIndexBuilder {
+    private static final Logger logger = LoggerFactory.getLogger(RecipeIndexBuilder.class);
+
+    private static final String INGREDIENTS_QUERY = "select id, ingredient from ingredients";
+
+    // Ordered by recipe id so all ingredient rows of a recipe are adjacent; instructions are only read when indexed
+    private static final String RECIPES_QUERY = """
+            select r.id, r.name, %s as instructions, ri.ingredient_id
+            from recipes r
+            left join recipe_ingredient ri on ri.recipe_id = r.id
+            order by r.id""";
+
+    private final RecipeSearchIndex recipeSearchIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public RecipeIndexBuilder(RecipeSearchIndex recipeSearchIndex,
+                              DataSource dataSource,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${recipe.index.fetch-size:1000}") int fetchSize) {
+        this.recipeSearchIndex = recipeSearchIndex;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!recipeSearchIndex.isEnabled()) {
+            logger.info("Recipe search index is disabled");
+            return;
+        }
+        Thread thread = new Thread(this::build, "recipe-index-build");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void build() {
+        try {
+            recipeSearchIndex.rebuild(new JdbcRecipeSource());
+        } catch (RuntimeException e) {
+            logger.error("Building the recipe search index failed, searches keep using the database", e);
+        }
+    }
+
+    private class JdbcRecipeSource implements RecipeSearchIndex.RecipeSource {
+
+        @Override
+        public void forEachIngredient(Consumer<IndexedIngredient> consumer) {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.query(INGREDIENTS_QUERY, (RowCallbackHandler) rs ->
+                            consumer.accept(new IndexedIngredient(rs.getInt("id"), rs.getString("ingredient")))));
+        }
+
+        @Override
+        public void forEachRecipe(Consumer<IndexedRecipe> consumer) {
+            transactionTemplate.executeWithoutResult(status -> {
+                RecipeRowGrouper grouper = new RecipeRowGrouper(consumer);
+                String instructions = recipeSearchIndex.isIndexingInstructions() ? "r.instructions" : "null";
+                jdbcTemplate.query(RECIPES_QUERY.formatted(instructions), grouper);
+                grouper.finish();
+            });
+        }
+    }
+
+    /**
+     * Folds the joined rows back into one IndexedRecipe per recipe
+     */
+    private static class RecipeRowGrouper implements RowCallbackHandler {
+        private final Consumer<IndexedRecipe> consumer;
+        private int id;
+        private String name;
+        private String instructions;
+        private Set<Integer> ingredientIds;
+
+        private RecipeRowGrouper(Consumer<IndexedRecipe> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            int recipeId = rs.getInt("id");
+            if (ingredientIds == null || recipeId != id) {
+                finish();
+                id = recipeId;
+                name = rs.getString("name");
+                instructions = rs.getString("instructions");
+                ingredientIds = new HashSet<>();
+            }
+            int ingredientId = rs.getInt("ingredient_id");
+            if (!rs.wasNull()) {
+                ingredientIds.add(ingredientId);
+            }
+        }
+
+        private void finish() {
+            if (ingredientIds != null) {
+                consumer.accept(new IndexedRecipe(id, name, instructions, Set.copyOf(ingredientIds)));
+                ingredientIds = null;
+            }
+        }
+    }
+}
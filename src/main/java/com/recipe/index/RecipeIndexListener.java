@@ -0,0 +1,33 @@
+package com.recipe.index;
+
+import com.recipe.model.entity.Recipe;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Feeds every recipe write into the {@link RecipeSearchIndex}, whichever code path made it.
+ * Instantiated by Hibernate through Spring; the index is optional so slice tests without it still work.
+ */
+public class RecipeIndexListener {
+
+    @Autowired
+    private ObjectProvider<RecipeSearchIndex> recipeSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Recipe recipe) {
+        if (recipeSearchIndex != null) {
+            recipeSearchIndex.ifAvailable(index -> index.onSaved(recipe));
+        }
+    }
+
+    @PostRemove
+    public void onRemoved(Recipe recipe) {
+        if (recipeSearchIndex != null) {
+            recipeSearchIndex.ifAvailable(index -> index.onRemoved(recipe.getId()));
+        }
+    }
+}
@@ -0,0 +1,449 @@
+package com.recipe.index;
+
+import com.recipe.config.MetricsConfig;
+import com.recipe.model.domain.request.RecipeSearchRequest;
+import com.recipe.model.domain.request.SearchCriteriaRequest;
+import com.recipe.model.entity.Recipe;
+import com.recipe.model.search.DataOption;
+import com.recipe.model.search.SearchOperation;
+import org.roaringbitmap.IntConsumer;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * In-memory inverted index answering "cn" and "nc" criteria on recipe name and (when
+ * {@code recipe.index.instructions} is set) instructions, and "cn", "nc", "eq" and "ne" criteria on ingredients. Every ingredient keeps a bitmap of the recipes
+ * using it, so ALL is a bitmap AND, ANY an OR and a negated criterion an AND-NOT, instead of one join
+ * per ingredient criterion. A negated ingredient criterion means "has no such ingredient".
+ * Searches whose criteria are all answerable are matched here; the database then only orders and pages
+ * the matching ids, with the same sort as every other search, so both paths page identically.
+ * Any other search returns empty and goes to the database as before.
+ * The index is built once at startup (see {@link RecipeIndexBuilder}) and kept current by
+ * {@link RecipeIndexListener} and {@link IngredientIndexListener}, which apply every write after
+ * its transaction commits.
+ */
+@Component
+public class RecipeSearchIndex {
+    private static final Logger logger = LoggerFactory.getLogger(RecipeSearchIndex.class);
+
+    /**
+     * The most matches handed to the database to order and page; broader searches are left to the database
+     */
+    public static final int MAX_MATCHES = 1000;
+
+    private static final String NAME_KEY = "name";
+    private static final String INSTRUCTIONS_KEY = "instructions";
+    private static final String INGREDIENT_KEY = "ingredient";
+
+    private final MetricsConfig metricsConfig;
+    private final boolean enabled;
+    private final boolean indexInstructions;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private IndexData data;
+    private boolean ready;
+    private List<Change> changesDuringRebuild;
+
+    /**
+     * Streams every ingredient, then every recipe (with its ingredient ids) into the index during a rebuild
+     */
+    public interface RecipeSource {
+        void forEachIngredient(Consumer<IndexedIngredient> consumer);
+
+        void forEachRecipe(Consumer<IndexedRecipe> consumer);
+    }
+
+    public RecipeSearchIndex(MetricsConfig metricsConfig,
+                             @Value("${recipe.index.enabled:true}") boolean enabled,
+                             @Value("${recipe.index.instructions:false}") boolean indexInstructions) {
+        this.metricsConfig = metricsConfig;
+        this.enabled = enabled;
+        this.indexInstructions = indexInstructions;
+        this.data = new IndexData(indexInstructions);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isIndexingInstructions() {
+        return indexInstructions;
+    }
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return ready;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of the matching recipes in ascending order, or empty when the index is not ready,
+     * cannot answer every criterion of the request or matches more than {@link #MAX_MATCHES} recipes.
+     */
+    public Optional<List<Integer>> match(RecipeSearchRequest request) {
+        return query(request, matches -> matches.getLongCardinality() > MAX_MATCHES ? null : ids(matches));
+    }
+
+    /**
+     * Returns the number of matching recipes, or empty when the index cannot answer the request
+     */
+    public Optional<Long> count(RecipeSearchRequest request) {
+        return query(request, RoaringBitmap::getLongCardinality);
+    }
+
+    /**
+     * Records a created or updated recipe; applied once the current transaction commits
+     */
+    public void onSaved(Recipe recipe) {
+        if (enabled) {
+            IndexedRecipe indexed = IndexedRecipe.of(recipe);
+            enqueue(data -> data.putRecipe(indexed));
+        }
+    }
+
+    /**
+     * Records a deleted recipe; applied once the current transaction commits
+     */
+    public void onRemoved(int id) {
+        if (enabled) {
+            enqueue(data -> data.removeRecipe(id));
+        }
+    }
+
+    /**
+     * Records a created or renamed ingredient; applied once the current transaction commits
+     */
+    public void onIngredientSaved(int id, String name) {
+        if (enabled) {
+            enqueue(data -> data.putIngredient(new IndexedIngredient(id, name)));
+        }
+    }
+
+    /**
+     * Records a deleted ingredient, which the database also removes from every recipe
+     */
+    public void onIngredientRemoved(int id) {
+        if (enabled) {
+            enqueue(data -> data.removeIngredient(id));
+        }
+    }
+
+    /**
+     * Replaces the index with the recipes of the given source. Searches keep being served from the
+     * previous state (or the database) meanwhile; writes committed during the rebuild are replayed
+     * onto the new state before it is swapped in.
+     */
+    public void rebuild(RecipeSource source) {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        IndexData rebuilt = new IndexData(indexInstructions);
+        try {
+            source.forEachIngredient(rebuilt::putIngredient);
+            source.forEachRecipe(rebuilt::putRecipe);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild.forEach(change -> change.applyTo(rebuilt));
+            changesDuringRebuild = null;
+            data = rebuilt;
+            ready = true;
+            updateGauges();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        metricsConfig.getRecipeIndexBuildTimer().record(duration);
+        logger.info("Recipe search index built with {} recipes in {} ms", rebuilt.allRecipes.getCardinality(), duration.toMillis());
+    }
+
+    private <T> Optional<T> query(RecipeSearchRequest request, Function<RoaringBitmap, T> answer) {
+        if (!canAnswer(request)) {
+            return Optional.empty();
+        }
+        return metricsConfig.getRecipeIndexQueryTimer().record(() -> {
+            lock.readLock().lock();
+            try {
+                return ready ? Optional.ofNullable(answer.apply(evaluate(request))) : Optional.<T>empty();
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    private static List<Integer> ids(RoaringBitmap matches) {
+        List<Integer> ids = new ArrayList<>(matches.getCardinality());
+        matches.forEach((IntConsumer) ids::add);
+        return ids;
+    }
+
+    private boolean canAnswer(RecipeSearchRequest request) {
+        List<SearchCriteriaRequest> criteria = request.getSearchCriteriaRequests();
+        // Nested queries are left to the database
+        if (!enabled || criteria == null || criteria.isEmpty() || request.getQuery() != null) {
+            return false;
+        }
+        // Leave requests the database path rejects to the database path, so errors stay the same
+        if (criteria.size() > 1 && request.getDataOption() == null) {
+            return false;
+        }
+        return criteria.stream().allMatch(this::isIndexed);
+    }
+
+    private boolean isIndexed(SearchCriteriaRequest criteria) {
+        if (criteria.getValue() == null || criteria.getOperation() == null || criteria.getFilterKey() == null) {
+            return false;
+        }
+        Optional<SearchOperation> operation = SearchOperation.getOperation(criteria.getOperation());
+        if (operation.isEmpty()) {
+            return false;
+        }
+        return switch (criteria.getFilterKey()) {
+            case NAME_KEY -> isSubstring(operation.get());
+            case INSTRUCTIONS_KEY -> indexInstructions && isSubstring(operation.get());
+            case INGREDIENT_KEY -> isSubstring(operation.get())
+                    || operation.get() == SearchOperation.EQUAL
+                    || operation.get() == SearchOperation.NOT_EQUAL;
+            default -> false;
+        };
+    }
+
+    private static boolean isSubstring(SearchOperation operation) {
+        return operation == SearchOperation.CONTAINS || operation == SearchOperation.DOES_NOT_CONTAIN;
+    }
+
+    /**
+     * Combines the criteria the way RecipeSpecificationBuilder does: left to right, AND for "all", OR for "any"
+     */
+    private RoaringBitmap evaluate(RecipeSearchRequest request) {
+        List<SearchCriteriaRequest> criteria = request.getSearchCriteriaRequests();
+        RoaringBitmap result = data.evaluate(criteria.get(0)).resolve();
+        if (criteria.size() == 1) {
+            return result;
+        }
+
+        Optional<DataOption> dataOption = DataOption.getDataOption(request.getDataOption());
+        if (dataOption.isEmpty()) {
+            return result;
+        }
+        for (int i = 1; i < criteria.size(); i++) {
+            Match next = data.evaluate(criteria.get(i));
+            if (dataOption.get() == DataOption.ANY) {
+                result.or(next.resolve());
+            } else if (next.universe() == null) {
+                result.and(next.ids());
+            } else {
+                // AND-NOT without materializing the complement
+                result.and(next.universe());
+                result.andNot(next.ids());
+            }
+        }
+        return result;
+    }
+
+    private void enqueue(Change change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(List.of(change));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Change> changes = (List<Change>) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            List<Change> transactionChanges = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, transactionChanges);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                // Before the search result cache's own afterCommit invalidation, so nothing is re-cached from a stale index
+                @Override
+                public int getOrder() {
+                    return Ordered.HIGHEST_PRECEDENCE;
+                }
+
+                @Override
+                public void afterCommit() {
+                    apply(transactionChanges);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RecipeSearchIndex.this);
+                }
+            });
+            changes = transactionChanges;
+        }
+        changes.add(change);
+    }
+
+    private void apply(List<Change> changes) {
+        lock.writeLock().lock();
+        try {
+            changes.forEach(change -> change.applyTo(data));
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.addAll(changes);
+            }
+            updateGauges();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void updateGauges() {
+        metricsConfig.getRecipeIndexSize().set(data.allRecipes.getCardinality());
+        metricsConfig.getRecipeIndexTerms().set(data.names.termCount() + data.instructions.termCount()
+                + data.ingredientNames.termCount());
+    }
+
+    /**
+     * A committed write, replayable onto any index state
+     */
+    @FunctionalInterface
+    private interface Change {
+        void applyTo(IndexData data);
+    }
+
+    /**
+     * Result of one criterion: the matching ids, or when universe is set, every id of the universe except these
+     */
+    private record Match(RoaringBitmap ids, RoaringBitmap universe) {
+        private RoaringBitmap resolve() {
+            return universe == null ? ids : RoaringBitmap.andNot(universe, ids);
+        }
+    }
+
+    private static class IndexData {
+        private final boolean withInstructions;
+        private final RoaringBitmap allRecipes = new RoaringBitmap();
+        private final Map<Integer, Set<Integer>> ingredientsByRecipe = new HashMap<>();
+        private final TextFieldIndex names = new TextFieldIndex();
+        private final TextFieldIndex instructions = new TextFieldIndex();
+        private final TextFieldIndex ingredientNames = new TextFieldIndex();
+        private final Map<Integer, RoaringBitmap> recipesByIngredient = new HashMap<>();
+
+        private IndexData(boolean withInstructions) {
+            this.withInstructions = withInstructions;
+        }
+
+        private void putRecipe(IndexedRecipe recipe) {
+            Set<Integer> ingredientIds = recipe.ingredientIds() != null ? recipe.ingredientIds()
+                    : ingredientsByRecipe.getOrDefault(recipe.id(), Set.of());
+            // Instructions the write did not load did not change
+            String text = recipe.instructions() != null ? recipe.instructions() : instructions.get(recipe.id());
+            removeRecipe(recipe.id());
+
+            allRecipes.add(recipe.id());
+            ingredientsByRecipe.put(recipe.id(), ingredientIds);
+            names.put(recipe.id(), recipe.name());
+            if (withInstructions) {
+                instructions.put(recipe.id(), text);
+            }
+            ingredientIds.forEach(ingredientId ->
+                    recipesByIngredient.computeIfAbsent(ingredientId, key -> new RoaringBitmap()).add(recipe.id()));
+        }
+
+        private void removeRecipe(int id) {
+            if (!allRecipes.checkedRemove(id)) {
+                return;
+            }
+            names.remove(id);
+            instructions.remove(id);
+            ingredientsByRecipe.remove(id).forEach(ingredientId -> {
+                RoaringBitmap recipeIds = recipesByIngredient.get(ingredientId);
+                if (recipeIds != null) {
+                    recipeIds.remove(id);
+                    if (recipeIds.isEmpty()) {
+                        recipesByIngredient.remove(ingredientId);
+                    }
+                }
+            });
+        }
+
+        private void putIngredient(IndexedIngredient ingredient) {
+            ingredientNames.put(ingredient.id(), ingredient.name());
+        }
+
+        private void removeIngredient(int id) {
+            ingredientNames.remove(id);
+            RoaringBitmap recipeIds = recipesByIngredient.remove(id);
+            if (recipeIds == null) {
+                return;
+            }
+            recipeIds.forEach((IntConsumer) recipeId ->
+                    ingredientsByRecipe.computeIfPresent(recipeId, (key, ingredientIds) -> {
+                        Set<Integer> remaining = new HashSet<>(ingredientIds);
+                        remaining.remove(id);
+                        return Set.copyOf(remaining);
+                    }));
+        }
+
+        private Match evaluate(SearchCriteriaRequest criteria) {
+            String value = criteria.getValue().toString();
+            SearchOperation operation = SearchOperation.getOperation(criteria.getOperation()).orElseThrow();
+            return switch (criteria.getFilterKey()) {
+                case NAME_KEY -> text(names, operation, value);
+                case INSTRUCTIONS_KEY -> text(instructions, operation, value);
+                default -> ingredient(operation, value);
+            };
+        }
+
+        private static Match text(TextFieldIndex field, SearchOperation operation, String value) {
+            // Like SQL, a NULL column is in neither the "cn" nor the "nc" result
+            RoaringBitmap matches = field.contains(value);
+            return operation == SearchOperation.CONTAINS
+                    ? new Match(matches, null)
+                    : new Match(matches, field.documents());
+        }
+
+        private Match ingredient(SearchOperation operation, String value) {
+            RoaringBitmap ingredientIds = isSubstring(operation) ? ingredientNames.contains(value) : ingredientNames.equalTo(value);
+
+            List<RoaringBitmap> postings = new ArrayList<>();
+            ingredientIds.forEach((IntConsumer) ingredientId -> {
+                RoaringBitmap recipeIds = recipesByIngredient.get(ingredientId);
+                if (recipeIds != null) {
+                    postings.add(recipeIds);
+                }
+            });
+            RoaringBitmap withIngredient = RoaringBitmap.or(postings.iterator());
+
+            boolean positive = operation == SearchOperation.CONTAINS || operation == SearchOperation.EQUAL;
+            return positive ? new Match(withIngredient, null) : new Match(withIngredient, allRecipes);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.recipe.index;
+
+import org.roaringbitmap.IntConsumer;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Substring index over one text column, with the same semantics as lower(column) LIKE '%value%'.
+ * Every lower-cased text is split into overlapping three-character grams, each gram keeps a posting list
+ * of recipe ids. A lookup intersects the postings of the gram of the searched value (rarest first) and
+ * confirms the remaining candidates against the stored text, so results are exact.
+ * The heap cost is a lower-cased copy of every text plus one posting entry per distinct gram of it,
+ * several times the size of the column itself, which is why long columns are only indexed on request.
+ * Not thread-safe; {@link RecipeSearchIndex} guards it with its lock.
+ */
+public class TextFieldIndex {
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<Integer, String> texts = new HashMap<>();
+    private final Map<Long, RoaringBitmap> postings = new HashMap<>();
+    private final RoaringBitmap present = new RoaringBitmap();
+
+    public void put(int id, String text) {
+        remove(id);
+        if (text == null) {
+            // Like SQL, a NULL column neither contains nor does not contain anything
+            return;
+        }
+        String normalized = normalize(text);
+        texts.put(id, normalized);
+        present.add(id);
+        for (long gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, key -> new RoaringBitmap()).add(id);
+        }
+    }
+
+    public void remove(int id) {
+        String previous = texts.remove(id);
+        if (previous == null) {
+            return;
+        }
+        present.remove(id);
+        for (long gram : grams(previous)) {
+            RoaringBitmap posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * The stored text of the id, lower-cased; null when it has none
+     */
+    public String get(int id) {
+        return texts.get(id);
+    }
+
+    public RoaringBitmap contains(String value) {
+        String needle = normalize(value);
+        RoaringBitmap candidates = candidates(needle);
+
+        RoaringBitmap matches = new RoaringBitmap();
+        candidates.forEach((IntConsumer) id -> {
+            if (texts.get(id).contains(needle)) {
+                matches.add(id);
+            }
+        });
+        return matches;
+    }
+
+    public RoaringBitmap doesNotContain(String value) {
+        return RoaringBitmap.andNot(present, contains(value));
+    }
+
+    /**
+     * Ids whose text equals the value, ignoring case
+     */
+    public RoaringBitmap equalTo(String value) {
+        String needle = normalize(value);
+        RoaringBitmap matches = new RoaringBitmap();
+        candidates(needle).forEach((IntConsumer) id -> {
+            if (texts.get(id).equals(needle)) {
+                matches.add(id);
+            }
+        });
+        return matches;
+    }
+
+    /**
+     * Ids with a non-null text; owned by the index, callers must not modify it
+     */
+    public RoaringBitmap documents() {
+        return present;
+    }
+
+    public int documentCount() {
+        return texts.size();
+    }
+
+    public int termCount() {
+        return postings.size();
+    }
+
+    private RoaringBitmap candidates(String needle) {
+        if (needle.length() < GRAM_LENGTH) {
+            // Too short to have a gram: every text is a candidate
+            return present.clone();
+        }
+
+        List<RoaringBitmap> lists = new ArrayList<>();
+        for (long gram : grams(needle)) {
+            RoaringBitmap posting = postings.get(gram);
+            if (posting == null) {
+                return new RoaringBitmap();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingLong(RoaringBitmap::getLongCardinality));
+
+        RoaringBitmap candidates = lists.get(0).clone();
+        for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+            candidates.and(lists.get(i));
+        }
+        return candidates;
+    }
+
+    private static Set<Long> grams(String text) {
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+}
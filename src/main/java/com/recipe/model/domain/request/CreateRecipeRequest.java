@@ -32,6 +32,11 @@ public class CreateRecipeRequest {
     @Schema(description = "The ids of the ingredients needed to make the recipe", example = "[1,2]")
     private List<Integer> ingredientIds;
 
+    @Schema(description = "The names of the ingredients needed to make the recipe, created if they do not exist yet", example = "[\"Tomato\",\"Basil\"]")
+    private List<@NotBlank(message = "{ingredient.not.blank}")
+            @Size(max = ValidationConfig.MAX_LENGTH_NAME, message = "{ingredient.size}")
+            @Pattern(regexp = ValidationConfig.PATTERN_NAME, message = "{ingredient.pattern}") String> ingredientNames;
+
     @NotBlank(message = "{instructions.not.blank}")
     @Size(max = ValidationConfig.MAX_LENGTH_DEFAULT, message = "{instructions.size}")
     @Pattern(regexp = ValidationConfig.PATTERN_FREE_TEXT, message = "{instructions.pattern}")
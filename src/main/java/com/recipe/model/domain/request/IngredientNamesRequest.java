@@ -0,0 +1,30 @@
+package com.recipe.model.domain.request;
+
+import com.recipe.config.ValidationConfig;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Setter
+@Getter
+public class IngredientNamesRequest {
+    @NotEmpty(message = "{ingredient.names.not.empty}")
+    @Schema(description = "The names of the ingredients to look up, missing ones are created", example = "[\"Tomato\",\"Basil\"]")
+    private List<@NotBlank(message = "{ingredient.not.blank}")
+            @Size(max = ValidationConfig.MAX_LENGTH_NAME, message = "{ingredient.size}")
+            @Pattern(regexp = ValidationConfig.PATTERN_NAME, message = "{ingredient.pattern}") String> names;
+
+    public IngredientNamesRequest() {
+    }
+
+    public IngredientNamesRequest(List<String> names) {
+        this.names = names;
+    }
+}
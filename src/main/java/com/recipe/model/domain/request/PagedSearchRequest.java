@@ -0,0 +1,34 @@
+package com.recipe.model.domain.request;
+
+import com.recipe.config.ValidationConfig;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * One search of a multi-search: the search itself and the page to return
+ */
+@Setter
+@Getter
+public class PagedSearchRequest extends RecipeSearchRequest {
+    @Schema(description = "The page to return", example = "0")
+    private int page = 0;
+
+    @Schema(description = "The page size", example = "10")
+    @Min(value = 1, message = "{page.size.min}")
+    @Max(value = ValidationConfig.MAX_PAGE_SIZE, message = "{page.size.max}")
+    private int size = 10;
+
+    public PagedSearchRequest() {
+    }
+
+    public PagedSearchRequest(List<SearchCriteriaRequest> searchCriteriaRequests, String dataOption, int page, int size) {
+        super(searchCriteriaRequests, dataOption);
+        this.page = page;
+        this.size = size;
+    }
+}
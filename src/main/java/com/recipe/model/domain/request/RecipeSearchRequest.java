@@ -23,6 +23,10 @@ public class RecipeSearchRequest {
     @EnumValidator(enumClass = DataOptionReqInput.class, message = "{data.option.invalid}")
     private String dataOption;
 
+    @Schema(description = "Nested search used instead of criteria: a condition or an all / any / not group of nodes")
+    @Valid
+    private SearchNodeRequest query;
+
     public RecipeSearchRequest() {
     }
 
@@ -31,4 +35,8 @@ public class RecipeSearchRequest {
         this.dataOption = dataOption;
     }
 
+    public RecipeSearchRequest(SearchNodeRequest query) {
+        this.query = query;
+    }
+
 }
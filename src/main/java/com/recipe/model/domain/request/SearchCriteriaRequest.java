@@ -14,15 +14,15 @@ import lombok.Setter;
 @Valid
 public class SearchCriteriaRequest {
 
-    @Schema(description = "The name of the column to search on (available: name, numberOfServings, type, instructions, ingredientName)", example = "name")
+    @Schema(description = "The name of the column to search on (available: name, numberOfServings, type, instructions, ingredient, createdAt, updatedAt)", example = "name")
     @EnumValidator(enumClass = FilterKeyReqInput.class, message = "{filter.key.invalid}")
     private String filterKey;
 
 
-    @Schema(description = "The phrase to search for", example = "Pasta")
+    @Schema(description = "The phrase to search for; a number or date-time for numberOfServings, createdAt and updatedAt, a [from, to] array for between, an array of values for in", example = "Pasta")
     private Object value;
 
-    @Schema(description = "The operation type (cn - contains, nc - doesn't contain, eq - equals, ne - not equals)", example = "cn")
+    @Schema(description = "The operation type (cn - contains, nc - doesn't contain, eq - equals, ne - not equals, fts - full-text search on instructions, ranked by relevance, gt/gte/lt/lte/between - ranges on numberOfServings, createdAt and updatedAt, in - equals any of a list, sw - starts with)", example = "cn")
     @EnumValidator(enumClass = SearchOperationReqInput.class, message = "{search.operation.invalid}")
     private String operation;
 
@@ -0,0 +1,71 @@
+package com.recipe.model.domain.request;
+
+import com.recipe.model.domain.request.input.FilterKeyReqInput;
+import com.recipe.model.domain.request.input.SearchOperationReqInput;
+import com.recipe.validator.EnumValidator;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import jakarta.validation.Valid;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * One node of a nested search: either a condition (filterKey, operation, value) or exactly one of the groups
+ * all, any and not
+ */
+@Setter
+@Getter
+public class SearchNodeRequest {
+
+    @Schema(description = "Nodes that must all match")
+    @Valid
+    private List<SearchNodeRequest> all;
+
+    @Schema(description = "Nodes of which at least one must match")
+    @Valid
+    private List<SearchNodeRequest> any;
+
+    @Schema(description = "Node that must not match")
+    @Valid
+    private SearchNodeRequest not;
+
+    @Schema(description = "The name of the column to search on, as for criteria", example = "ingredient")
+    @EnumValidator(enumClass = FilterKeyReqInput.class, message = "{filter.key.invalid}")
+    private String filterKey;
+
+    @Schema(description = "The phrase to search for, as for criteria", example = "potato")
+    private Object value;
+
+    @Schema(description = "The operation type, as for criteria", example = "cn")
+    @EnumValidator(enumClass = SearchOperationReqInput.class, message = "{search.operation.invalid}")
+    private String operation;
+
+    public SearchNodeRequest() {
+    }
+
+    public SearchNodeRequest(String filterKey, Object value, String operation) {
+        this.filterKey = filterKey;
+        this.value = value;
+        this.operation = operation;
+    }
+
+    public static SearchNodeRequest all(SearchNodeRequest... nodes) {
+        SearchNodeRequest node = new SearchNodeRequest();
+        node.setAll(List.of(nodes));
+        return node;
+    }
+
+    public static SearchNodeRequest any(SearchNodeRequest... nodes) {
+        SearchNodeRequest node = new SearchNodeRequest();
+        node.setAny(List.of(nodes));
+        return node;
+    }
+
+    public static SearchNodeRequest not(SearchNodeRequest node) {
+        SearchNodeRequest negation = new SearchNodeRequest();
+        negation.setNot(node);
+        return negation;
+    }
+}
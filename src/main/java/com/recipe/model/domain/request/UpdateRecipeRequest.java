@@ -7,6 +7,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 
 import jakarta.validation.constraints.*;
 import lombok.Getter;
+import lombok.Setter;
 
 import java.util.List;
 
@@ -30,6 +31,12 @@ public class UpdateRecipeRequest extends BasicRequest{
     @Schema(description = "The new ids of the ingredients needed for the update", example = "[3,4]")
     private List<Integer> ingredientIds;
 
+    @Setter
+    @Schema(description = "The new names of the ingredients needed for the update, created if they do not exist yet", example = "[\"Tomato\",\"Basil\"]")
+    private List<@NotBlank(message = "{ingredient.not.blank}")
+            @Size(max = ValidationConfig.MAX_LENGTH_NAME, message = "{ingredient.size}")
+            @Pattern(regexp = ValidationConfig.PATTERN_NAME, message = "{ingredient.pattern}") String> ingredientNames;
+
     @NotBlank(message = "{instructions.not.blank}")
     @Size(max = ValidationConfig.MAX_LENGTH_DEFAULT, message = "{instructions.size}")
     @Pattern(regexp = ValidationConfig.PATTERN_FREE_TEXT, message = "{instructions.pattern}")
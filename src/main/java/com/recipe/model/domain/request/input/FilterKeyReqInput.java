@@ -1,5 +1,5 @@
 package com.recipe.model.domain.request.input;
 
 public enum FilterKeyReqInput {
-    name, numberOfServings, type, instructions, ingredient
+    name, numberOfServings, type, instructions, ingredient, createdAt, updatedAt
 }
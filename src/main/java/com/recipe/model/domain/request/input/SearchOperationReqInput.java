@@ -1,5 +1,5 @@
 package com.recipe.model.domain.request.input;
 
 public enum SearchOperationReqInput {
-    CN, NC, EQ, NE
+    CN, NC, EQ, NE, FTS, GT, GTE, LT, LTE, BETWEEN, IN, SW
 }
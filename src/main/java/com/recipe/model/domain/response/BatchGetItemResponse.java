@@ -0,0 +1,25 @@
+package com.recipe.model.domain.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Getter
+public class BatchGetItemResponse<T> {
+    @Schema(description = "The requested id", example = "1")
+    private Integer id;
+
+    @Schema(description = "Whether an entity exists with the id", example = "true")
+    private boolean found;
+
+    @Schema(description = "The entity, absent when it was not found")
+    private T item;
+
+    public BatchGetItemResponse() {
+    }
+
+    public BatchGetItemResponse(Integer id, T item) {
+        this.id = id;
+        this.found = item != null;
+        this.item = item;
+    }
+}
@@ -0,0 +1,40 @@
+package com.recipe.model.domain.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+public class BatchGetResponse<T> {
+    @Schema(description = "Number of requested ids that were found", example = "2")
+    private int found;
+
+    @Schema(description = "One item per requested id, in request order")
+    private List<BatchGetItemResponse<T>> items;
+
+    @Schema(description = "The requested ids that were not found, in request order", example = "[7]")
+    private List<Integer> missing;
+
+    public BatchGetResponse() {
+    }
+
+    public BatchGetResponse(List<BatchGetItemResponse<T>> items) {
+        this.items = items;
+        this.missing = items.stream()
+                .filter(item -> !item.isFound())
+                .map(BatchGetItemResponse::getId)
+                .toList();
+        this.found = items.size() - missing.size();
+    }
+
+    /**
+     * Lays the loaded entities out in the order of the requested ids; a repeated id gets an item per occurrence
+     */
+    public static <T> BatchGetResponse<T> of(List<Integer> ids, Map<Integer, T> loaded) {
+        return new BatchGetResponse<>(ids.stream()
+                .map(id -> new BatchGetItemResponse<>(id, id == null ? null : loaded.get(id)))
+                .toList());
+    }
+}
@@ -0,0 +1,27 @@
+package com.recipe.model.domain.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BulkCreateResponse {
+    @Schema(description = "Number of items that were created", example = "2")
+    private int created;
+
+    @Schema(description = "Number of items that were rejected", example = "1")
+    private int failed;
+
+    @Schema(description = "One result per requested item, in request order")
+    private List<BulkItemResponse> items;
+
+    public BulkCreateResponse() {
+    }
+
+    public BulkCreateResponse(List<BulkItemResponse> items) {
+        this.items = items;
+        this.failed = (int) items.stream().filter(item -> item.getError() != null).count();
+        this.created = items.size() - failed;
+    }
+}
@@ -0,0 +1,33 @@
+package com.recipe.model.domain.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Getter
+public class BulkItemResponse {
+    @Schema(description = "Position of the item in the request", example = "0")
+    private int index;
+
+    @Schema(description = "The id of the created entity, absent when the item failed", example = "1")
+    private Integer id;
+
+    @Schema(description = "Why the item was not created, absent when it succeeded", example = "Ingredients not found: 7.")
+    private String error;
+
+    public BulkItemResponse() {
+    }
+
+    public BulkItemResponse(int index, Integer id, String error) {
+        this.index = index;
+        this.id = id;
+        this.error = error;
+    }
+
+    public static BulkItemResponse created(int index, Integer id) {
+        return new BulkItemResponse(index, id, null);
+    }
+
+    public static BulkItemResponse failed(int index, String error) {
+        return new BulkItemResponse(index, null, error);
+    }
+}
@@ -0,0 +1,32 @@
+package com.recipe.model.domain.response;
+
+public class CountResponse {
+
+    private long count;
+
+    public CountResponse(long count) {
+        this.count = count;
+    }
+
+    public CountResponse() {
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        CountResponse that = (CountResponse) o;
+
+        return count == that.count;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(count);
+    }
+}
@@ -0,0 +1,23 @@
+package com.recipe.model.domain.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CursorPageResponse<T> {
+    @Schema(description = "The items of the requested page")
+    private List<T> content;
+
+    @Schema(description = "Opaque token to pass as cursor for the next page, absent on the last page", example = "MTJ8UGFzdGE")
+    private String nextCursor;
+
+    public CursorPageResponse() {
+    }
+
+    public CursorPageResponse(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,42 @@
+package com.recipe.model.domain.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Getter
+public class MultiSearchItemResponse {
+    @Schema(description = "Position of the search in the request", example = "0")
+    private int index;
+
+    @Schema(description = "The page found, absent when the search failed")
+    private SliceResponse<RecipeResponse> result;
+
+    @Schema(description = "HTTP status the search would have had on its own", example = "200")
+    private int status;
+
+    @Schema(description = "Why the search failed, absent when it succeeded", example = "No search criteria has been found.")
+    private String error;
+
+    @Schema(description = "Time the search took, in milliseconds", example = "12")
+    private long tookMillis;
+
+    public MultiSearchItemResponse() {
+    }
+
+    public MultiSearchItemResponse(int index, SliceResponse<RecipeResponse> result, int status, String error,
+                                   long tookMillis) {
+        this.index = index;
+        this.result = result;
+        this.status = status;
+        this.error = error;
+        this.tookMillis = tookMillis;
+    }
+
+    public static MultiSearchItemResponse succeeded(int index, SliceResponse<RecipeResponse> result, long tookMillis) {
+        return new MultiSearchItemResponse(index, result, 200, null, tookMillis);
+    }
+
+    public static MultiSearchItemResponse failed(int index, int status, String error, long tookMillis) {
+        return new MultiSearchItemResponse(index, null, status, error, tookMillis);
+    }
+}
@@ -0,0 +1,31 @@
+package com.recipe.model.domain.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class MultiSearchResponse {
+    @Schema(description = "Number of searches that succeeded", example = "5")
+    private int succeeded;
+
+    @Schema(description = "Number of searches that failed", example = "1")
+    private int failed;
+
+    @Schema(description = "Time the whole request took, in milliseconds", example = "25")
+    private long tookMillis;
+
+    @Schema(description = "One result per requested search, in request order")
+    private List<MultiSearchItemResponse> items;
+
+    public MultiSearchResponse() {
+    }
+
+    public MultiSearchResponse(List<MultiSearchItemResponse> items, long tookMillis) {
+        this.items = items;
+        this.tookMillis = tookMillis;
+        this.failed = (int) items.stream().filter(item -> item.getError() != null).count();
+        this.succeeded = items.size() - failed;
+    }
+}
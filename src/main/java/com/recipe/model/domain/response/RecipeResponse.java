@@ -7,6 +7,7 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
+import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+@Setter
 @Getter
 public class RecipeResponse {
     @Schema(description = "The id of the returned recipe", example = "1")
@@ -48,10 +50,17 @@ public class RecipeResponse {
     }
 
     public RecipeResponse(Recipe recipe) {
+        this(recipe, recipe.getInstructions());
+    }
+
+    /**
+     * The recipe with instructions read separately, leaving its lazy instructions attribute untouched
+     */
+    public RecipeResponse(Recipe recipe, String instructions) {
         this.id = recipe.getId();
         this.name = recipe.getName();
         this.type = recipe.getType();
-        this.instructions = recipe.getInstructions();
+        this.instructions = instructions;
         this.createdAt = recipe.getCreatedAt();
         this.updatedAt = recipe.getUpdatedAt();
         this.numberOfServings = recipe.getNumberOfServings();
@@ -0,0 +1,31 @@
+package com.recipe.model.domain.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class SliceResponse<T> {
+    @Schema(description = "The items of the requested page")
+    private List<T> content;
+
+    @Schema(description = "The requested page number", example = "0")
+    private int page;
+
+    @Schema(description = "The requested page size", example = "10")
+    private int size;
+
+    @Schema(description = "Whether another page follows this one", example = "true")
+    private boolean hasNext;
+
+    public SliceResponse() {
+    }
+
+    public SliceResponse(List<T> content, int page, int size, boolean hasNext) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+    }
+}
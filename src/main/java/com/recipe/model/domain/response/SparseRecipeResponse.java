@@ -0,0 +1,18 @@
+package com.recipe.model.domain.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * A recipe read through a sparse fieldset (see RecipeFields). Fields left out of the fieldset are null and
+ * omitted from the JSON; full responses keep their null fields.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SparseRecipeResponse extends RecipeResponse {
+
+    // Servings are validated positive, so 0 only means the field was not selected
+    @Override
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    public int getNumberOfServings() {
+        return super.getNumberOfServings();
+    }
+}
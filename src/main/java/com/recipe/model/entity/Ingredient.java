@@ -1,6 +1,7 @@
 package com.recipe.model.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.recipe.index.IngredientIndexListener;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
@@ -15,11 +16,13 @@ import java.util.Set;
 @Getter
 @Entity
 @DynamicUpdate
+@EntityListeners(IngredientIndexListener.class)
 @Table(name = "ingredients")
 public class Ingredient {
     @Setter
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ingredients_seq")
+    @SequenceGenerator(name = "ingredients_seq", sequenceName = "ingredients_id_seq", allocationSize = 50)
     private Integer id;
 
     @Setter
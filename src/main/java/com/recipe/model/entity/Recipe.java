@@ -1,8 +1,10 @@
 package com.recipe.model.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.recipe.index.RecipeIndexListener;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -16,16 +18,21 @@ import java.util.Set;
 @Getter
 @Entity
 @DynamicUpdate
+@EntityListeners(RecipeIndexListener.class)
 @Table(name = "recipes")
 public class Recipe {
+    // Pooled sequence instead of IDENTITY so inserts can be JDBC-batched; allocationSize must match the INCREMENT BY of the sequence
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipes_seq")
+    @SequenceGenerator(name = "recipes_seq", sequenceName = "recipes_id_seq", allocationSize = 50)
     private Integer id;
 
     @NotBlank
     @Column
     private String name;
 
+    // List and search pages initialize the ingredients of up to 100 recipes per query instead of one query each
+    @BatchSize(size = 100)
     @ManyToMany(cascade = {CascadeType.MERGE, CascadeType.PERSIST})
     @JoinTable(
             name = "recipe_ingredient",
@@ -33,6 +40,10 @@ public class Recipe {
             inverseJoinColumns = @JoinColumn(name = "ingredient_id", referencedColumnName = "id"))
     @JsonIgnoreProperties("ingredientRecipes")
     private Set<Ingredient> recipeIngredients;
+
+    // Often several KB of text: loading a recipe selects the narrow row only, the instructions are fetched on
+    // first access (needs the bytecode enhancement of the build). Pages read them for all their recipes at once.
+    @Basic(fetch = FetchType.LAZY)
     @Column
     private String instructions;
     @Column
@@ -49,5 +60,12 @@ public class Recipe {
     @Column
     private int numberOfServings;
 
+    /**
+     * Stored as the RecipeType constant whatever the case of the request, so type searches compare the bare
+     * column and can use idx_recipe_type
+     */
+    public void setType(String type) {
+        this.type = RecipeType.normalize(type);
+    }
 
 }
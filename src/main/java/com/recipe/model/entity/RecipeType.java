@@ -1,6 +1,25 @@
 package com.recipe.model.entity;
 
+import java.util.Arrays;
+import java.util.Optional;
+
 public enum RecipeType {
     VEGETARIAN,
-    NON_VEGETARIAN
+    NON_VEGETARIAN;
+
+    /**
+     * The type named by the value, ignoring case
+     */
+    public static Optional<RecipeType> fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(type -> type.name().equalsIgnoreCase(value))
+                .findFirst();
+    }
+
+    /**
+     * The constant name of a known type whatever the case of the value, other values unchanged
+     */
+    public static String normalize(String value) {
+        return fromValue(value).map(Enum::name).orElse(value);
+    }
 }
@@ -0,0 +1,58 @@
+package com.recipe.model.projection;
+
+import com.recipe.model.domain.response.RecipeResponse;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+/**
+ * The properties of {@link RecipeResponse} a client can select. Each one but the ingredients is a column of
+ * the recipes table, mapped by the attribute of the same name.
+ */
+public enum RecipeField {
+    ID("id", (response, value) -> response.setId((Integer) value)),
+    NAME("name", (response, value) -> response.setName((String) value)),
+    TYPE("type", (response, value) -> response.setType((String) value)),
+    NUMBER_OF_SERVINGS("numberOfServings", (response, value) -> response.setNumberOfServings((Integer) value)),
+    INSTRUCTIONS("instructions", (response, value) -> response.setInstructions((String) value)),
+    CREATED_AT("createdAt", (response, value) -> response.setCreatedAt((LocalDateTime) value)),
+    UPDATED_AT("updatedAt", (response, value) -> response.setUpdatedAt((LocalDateTime) value)),
+    INGREDIENTS("ingredients", null);
+
+    private final String key;
+    private final BiConsumer<RecipeResponse, Object> setter;
+
+    RecipeField(String key, BiConsumer<RecipeResponse, Object> setter) {
+        this.key = key;
+        this.setter = setter;
+    }
+
+    /**
+     * The property name, which is also the attribute name of columns
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Whether the field is a column of the recipes table rather than an association
+     */
+    public boolean isColumn() {
+        return setter != null;
+    }
+
+    /**
+     * Sets the selected column value on the response
+     */
+    public void apply(RecipeResponse response, Object value) {
+        setter.accept(response, value);
+    }
+
+    public static Optional<RecipeField> getField(final String key) {
+        return Arrays.stream(values())
+                .filter(field -> field.key.equalsIgnoreCase(key))
+                .findFirst();
+    }
+}
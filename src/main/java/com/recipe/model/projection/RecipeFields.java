@@ -0,0 +1,60 @@
+package com.recipe.model.projection;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The sparse fieldset of a recipe read, parsed from a comma separated {@code fields} parameter.
+ * The id is always selected; no parameter means every field, read through the entity as before.
+ */
+public record RecipeFields(Set<RecipeField> fields) {
+
+    public static final RecipeFields ALL = new RecipeFields(EnumSet.allOf(RecipeField.class));
+
+    public RecipeFields {
+        fields = Collections.unmodifiableSet(EnumSet.copyOf(fields));
+    }
+
+    /**
+     * Parses e.g. "name,type,ingredients"; unknown fields are rejected with an IllegalArgumentException
+     */
+    public static RecipeFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<RecipeField> selected = EnumSet.of(RecipeField.ID);
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(key -> !key.isEmpty())
+                .map(key -> RecipeField.getField(key)
+                        .orElseThrow(() -> new IllegalArgumentException("Unknown field: " + key)))
+                .forEach(selected::add);
+        return new RecipeFields(selected);
+    }
+
+    public boolean isAll() {
+        return fields.size() == RecipeField.values().length;
+    }
+
+    public boolean includes(RecipeField field) {
+        return fields.contains(field);
+    }
+
+    /**
+     * The selected columns, in declaration order
+     */
+    public List<RecipeField> columns() {
+        return fields.stream().filter(RecipeField::isColumn).toList();
+    }
+
+    /**
+     * Canonical form, e.g. "id,name,type", identifying the projection in cache keys
+     */
+    public String key() {
+        return fields.stream().map(RecipeField::getKey).collect(Collectors.joining(","));
+    }
+}
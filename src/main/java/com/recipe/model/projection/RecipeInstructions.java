@@ -0,0 +1,10 @@
+package com.recipe.model.projection;
+
+/**
+ * The instructions of one recipe, read apart from the entity, which loads them lazily
+ */
+public interface RecipeInstructions {
+    Integer getId();
+
+    String getInstructions();
+}
@@ -0,0 +1,83 @@
+package com.recipe.model.projection;
+
+import com.recipe.model.domain.response.IngredientResponse;
+import com.recipe.model.domain.response.RecipeResponse;
+import com.recipe.model.domain.response.SparseRecipeResponse;
+import com.recipe.model.entity.Recipe;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads recipes as {@link RecipeResponse}s holding only the selected fields, without materializing entities.
+ * The columns come from a tuple query selecting just them; the ingredients, when selected, from one more
+ * query over the join table for all recipes of the result. Without them the join table is not touched.
+ */
+public final class RecipeProjection {
+
+    private static final String INGREDIENTS_QUERY = """
+            select r.id, i.id, i.ingredient, i.createdAt, i.updatedAt
+            from Recipe r join r.recipeIngredients i
+            where r.id in :ids""";
+
+    private RecipeProjection() {
+    }
+
+    /**
+     * Selects the columns of the fieldset, in {@link RecipeFields#columns()} order
+     */
+    public static void select(CriteriaQuery<Tuple> query, Root<Recipe> root, RecipeFields fields) {
+        query.multiselect(fields.columns().stream()
+                .<Selection<?>>map(field -> root.get(field.getKey()))
+                .toList());
+    }
+
+    /**
+     * The responses of the selected rows, in row order
+     */
+    public static List<RecipeResponse> read(EntityManager entityManager, List<Tuple> rows, RecipeFields fields) {
+        List<RecipeResponse> responses = rows.stream()
+                .map(row -> toResponse(row, fields))
+                .toList();
+        if (fields.includes(RecipeField.INGREDIENTS) && !responses.isEmpty()) {
+            attachIngredients(entityManager, responses);
+        }
+        return responses;
+    }
+
+    private static RecipeResponse toResponse(Tuple row, RecipeFields fields) {
+        RecipeResponse response = new SparseRecipeResponse();
+        List<RecipeField> columns = fields.columns();
+        for (int i = 0; i < columns.size(); i++) {
+            columns.get(i).apply(response, row.get(i));
+        }
+        return response;
+    }
+
+    private static void attachIngredients(EntityManager entityManager, List<RecipeResponse> responses) {
+        List<Integer> ids = responses.stream().map(RecipeResponse::getId).distinct().toList();
+        Map<Integer, Set<IngredientResponse>> ingredients = new HashMap<>();
+        entityManager.createQuery(INGREDIENTS_QUERY, Tuple.class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .forEach(row -> {
+                    IngredientResponse ingredient = new IngredientResponse();
+                    ingredient.setId(row.get(1, Integer.class));
+                    ingredient.setName(row.get(2, String.class));
+                    ingredient.setCreatedAt(row.get(3, LocalDateTime.class));
+                    ingredient.setUpdatedAt(row.get(4, LocalDateTime.class));
+                    ingredients.computeIfAbsent(row.get(0, Integer.class), id -> new HashSet<>()).add(ingredient);
+                });
+        responses.forEach(response -> response.setIngredients(
+                ingredients.getOrDefault(response.getId(), new HashSet<>())));
+    }
+}
@@ -0,0 +1,19 @@
+package com.recipe.model.search;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaQuery;
+import java.util.List;
+
+/**
+ * A search query compiled once for a {@link SearchShape}. The criteria query is not modified after compilation
+ * and is handed to Hibernate as is, so it keeps its interpreted plan; each execution only binds the parameters.
+ */
+public record CompiledQuery<T>(CriteriaQuery<T> query, SearchParameters parameters) {
+
+    public TypedQuery<T> createQuery(EntityManager entityManager, List<SearchCriteria> criteria) {
+        TypedQuery<T> typedQuery = entityManager.createQuery(query);
+        parameters.bind(typedQuery, criteria);
+        return typedQuery;
+    }
+}
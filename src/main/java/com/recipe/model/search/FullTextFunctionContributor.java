@@ -0,0 +1,44 @@
+package com.recipe.model.search;
+
+import com.recipe.config.FullTextFallback;
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the HQL functions behind the "fts" search operation:
+ * fts_match(document, query) is true when the document matches all words of the query,
+ * fts_rank(document, query) is its relevance (higher is better).
+ * On PostgreSQL they are native text search with the 'english' configuration, written exactly as the
+ * expression index in init-db.sql so the index is used; on H2 they call {@link FullTextFallback}.
+ * Registered through META-INF/services.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+    public static final String MATCH_FUNCTION = "fts_match";
+    public static final String RANK_FUNCTION = "fts_rank";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.BOOLEAN);
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.DOUBLE);
+
+        Dialect dialect = functionContributions.getDialect();
+        if (dialect instanceof PostgreSQLDialect) {
+            functionContributions.getFunctionRegistry().registerPattern(MATCH_FUNCTION,
+                    "(to_tsvector('english', ?1) @@ plainto_tsquery('english', ?2))", booleanType);
+            functionContributions.getFunctionRegistry().registerPattern(RANK_FUNCTION,
+                    "ts_rank(to_tsvector('english', ?1), plainto_tsquery('english', ?2))", doubleType);
+        } else if (dialect instanceof H2Dialect) {
+            functionContributions.getFunctionRegistry().registerPattern(MATCH_FUNCTION,
+                    FullTextFallback.MATCH_ALIAS + "(?1, ?2)", booleanType);
+            functionContributions.getFunctionRegistry().registerPattern(RANK_FUNCTION,
+                    FullTextFallback.RANK_ALIAS + "(?1, ?2)", doubleType);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.recipe.model.search;
+
+import com.recipe.config.DatabaseAttributes;
+import com.recipe.model.entity.Recipe;
+import com.recipe.model.search.filter.SearchFilter;
+import com.recipe.model.search.filter.SearchFilterIn;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Compiles ingredient criteria into subqueries on recipe_ingredient, so the search query never joins the
+ * ingredients itself and needs no DISTINCT:
+ * - cn / eq / sw: exists (select 1 from recipe_ingredient ... where recipe_id = r.id and &lt;filter&gt;)
+ * - nc / ne: not exists (... &lt;cn / eq filter&gt;), i.e. the recipe has no such ingredient at all
+ * - in: one exists (... where lower(ingredient) in (&lt;values&gt;)) instead of an OR chain of eq criteria
+ * - several cn / eq / sw / in combined with all: r.id in (select recipe_id ... where &lt;any filter&gt; group by recipe_id
+ *   having count(case when &lt;filter 1&gt; then 1 end) &gt; 0 and ...), one pass for the whole group
+ */
+class IngredientPredicateCompiler {
+    private final List<SearchFilter> searchFilters;
+    private final SearchFilterIn inFilter;
+
+    IngredientPredicateCompiler(List<SearchFilter> searchFilters, SearchFilterIn inFilter) {
+        this.searchFilters = searchFilters;
+        this.inFilter = inFilter;
+    }
+
+    static boolean isIngredient(SearchCriteria criteria) {
+        return DatabaseAttributes.INGREDIENT_KEY.equalsIgnoreCase(criteria.getFilterKey());
+    }
+
+    /**
+     * Whether the criterion asks for an ingredient to be present (cn / eq / sw / in)
+     */
+    static boolean isPositive(SearchCriteria criteria) {
+        return Optional.ofNullable(criteria.getOperation())
+                .flatMap(SearchOperation::getOperation)
+                .filter(operation -> operation == SearchOperation.CONTAINS || operation == SearchOperation.EQUAL
+                        || operation == SearchOperation.STARTS_WITH || operation == SearchOperation.IN)
+                .isPresent();
+    }
+
+    Predicate compile(SearchCriteria criteria, SearchParameters parameters, Root<Recipe> root, CriteriaQuery<?> query,
+                      CriteriaBuilder cb) {
+        Optional<SearchOperation> operation = SearchOperation.getOperation(criteria.getOperation());
+        if (operation.isEmpty()) {
+            return null;
+        }
+        if (operation.get().isRange()) {
+            throw new IllegalArgumentException(
+                    "Operation " + criteria.getOperation() + " is not supported on ingredient");
+        }
+        boolean negated = operation.get() == SearchOperation.DOES_NOT_CONTAIN
+                || operation.get() == SearchOperation.NOT_EQUAL;
+        SearchOperation present = switch (operation.get()) {
+            case DOES_NOT_CONTAIN -> SearchOperation.CONTAINS;
+            case NOT_EQUAL -> SearchOperation.EQUAL;
+            default -> operation.get();
+        };
+
+        Subquery<Integer> subquery = query.subquery(Integer.class);
+        Root<Recipe> correlated = subquery.correlate(root);
+        Join<Object, Object> ingredients = correlated.join(DatabaseAttributes.JOINED_TABLE_NAME, JoinType.INNER);
+        subquery.select(cb.literal(1))
+                .where(filter(present, criteria, parameters, correlated, ingredients, cb));
+        return negated ? cb.not(cb.exists(subquery)) : cb.exists(subquery);
+    }
+
+    /**
+     * Recipes having, for every criterion, at least one matching ingredient. All criteria must be positive.
+     */
+    Predicate compileAll(List<SearchCriteria> criteria, SearchParameters parameters, Root<Recipe> root,
+                         CriteriaQuery<?> query, CriteriaBuilder cb) {
+        Subquery<Integer> subquery = query.subquery(Integer.class);
+        Root<Recipe> recipes = subquery.from(Recipe.class);
+        Join<Object, Object> ingredients = recipes.join(DatabaseAttributes.JOINED_TABLE_NAME, JoinType.INNER);
+        Expression<Integer> recipeId = recipes.get("id");
+
+        Predicate[] anyMatches = criteria.stream()
+                .map(searchCriteria -> filter(searchCriteria, parameters, recipes, ingredients, cb))
+                .toArray(Predicate[]::new);
+        // Separate predicate instances for the HAVING clause; the WHERE ones are already attached
+        Predicate[] eachMatched = criteria.stream()
+                .map(searchCriteria -> cb.<Integer>selectCase()
+                        .when(filter(searchCriteria, parameters, recipes, ingredients, cb), cb.literal(1)))
+                .map(matched -> cb.greaterThan(cb.count(matched), 0L))
+                .toArray(Predicate[]::new);
+
+        subquery.select(recipeId)
+                .where(cb.or(anyMatches))
+                .groupBy(recipeId)
+                .having(eachMatched);
+        return root.get("id").in(subquery);
+    }
+
+    private Predicate filter(SearchCriteria criteria, SearchParameters parameters, Root<Recipe> root,
+                             Join<Object, Object> ingredients, CriteriaBuilder cb) {
+        SearchOperation operation = SearchOperation.getOperation(criteria.getOperation())
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported operation: " + criteria.getOperation()));
+        return filter(operation, criteria, parameters, root, ingredients, cb);
+    }
+
+    private Predicate filter(SearchOperation operation, SearchCriteria criteria, SearchParameters parameters,
+                             Root<Recipe> root, Join<Object, Object> ingredients, CriteriaBuilder cb) {
+        SearchValue value = parameters.valueOf(criteria);
+        if (inFilter.couldBeApplied(operation)) {
+            return inFilter.apply(cb, ingredients.get(criteria.getFilterKey()), value);
+        }
+        SearchFilter searchFilter = searchFilters.stream()
+                .filter(filter -> filter.couldBeApplied(operation))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported operation: " + criteria.getOperation()));
+        return searchFilter.apply(cb, criteria.getFilterKey(), value, root, ingredients);
+    }
+}
@@ -0,0 +1,32 @@
+package com.recipe.model.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of a keyset (seek) page: the sort key and id of the last row that was returned.
+ * Clients receive it as an opaque URL-safe token and send it back unchanged to get the next page.
+ */
+public record KeysetCursor(String key, int id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = id + String.valueOf(SEPARATOR) + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 1) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new KeysetCursor(raw.substring(separator + 1), Integer.parseInt(raw.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            // Also covers NumberFormatException and malformed Base64
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.recipe.model.search;
+
+import com.recipe.config.DatabasePlatform;
+import com.recipe.model.entity.Recipe;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+
+/**
+ * "Must contain all of": several cn / eq / sw / in ingredient criteria answered by one GROUP BY ... HAVING COUNT subquery
+ * instead of one EXISTS per ingredient
+ */
+public class RecipeIngredientsSpecification implements Specification<Recipe> {
+    private final List<SearchCriteria> criteria;
+    private final SearchParameters parameters;
+    private final IngredientPredicateCompiler ingredientPredicateCompiler;
+
+    public RecipeIngredientsSpecification(List<SearchCriteria> criteria, DatabasePlatform platform,
+                                          SearchParameters parameters) {
+        this.criteria = List.copyOf(criteria);
+        this.parameters = parameters;
+        this.ingredientPredicateCompiler = RecipeSpecification.ingredientPredicateCompiler(platform);
+    }
+
+    @Override
+    public Predicate toPredicate(Root<Recipe> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        return ingredientPredicateCompiler.compileAll(criteria, parameters, root, query, cb);
+    }
+}
@@ -2,6 +2,7 @@ package com.recipe.model.search;
 
 import com.recipe.model.entity.Recipe;
 import com.recipe.config.DatabaseAttributes;
+import com.recipe.config.DatabasePlatform;
 import com.recipe.model.search.filter.*;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -11,38 +12,80 @@ import java.util.Optional;
 
 public class RecipeSpecification implements Specification<Recipe> {
     private final SearchCriteria criteria;
+    private final SearchParameters parameters;
+    private final List<SearchFilter> searchFilters;
+    private final SearchFilterIn inFilter;
+    private final IngredientPredicateCompiler ingredientPredicateCompiler;
 
     // Modern Java: Using immutable List instead of mutable ArrayList
-    private static final List<SearchFilter> searchFilters = List.of(
-            new SearchFilterEqual(),
-            new SearchFilterNotEqual(),
-            new SearchFilterContains(),
-            new SearchFilterDoesNotContain()
-    );
-
-    public RecipeSpecification(SearchCriteria criteria) {
+    private static final List<SearchFilter> defaultSearchFilters = createSearchFilters(DatabasePlatform.OTHER);
+    private static final List<SearchFilter> postgresqlSearchFilters = createSearchFilters(DatabasePlatform.POSTGRESQL);
+    private static final SearchFilterComparison comparisonFilter = new SearchFilterComparison();
+
+    /**
+     * The criterion with its value taken from the given parameters, which must include the criterion
+     */
+    public RecipeSpecification(SearchCriteria criteria, DatabasePlatform platform, SearchParameters parameters) {
         super();
         this.criteria = criteria;
+        this.parameters = parameters;
+        this.searchFilters = searchFilters(platform);
+        this.inFilter = new SearchFilterIn(platform);
+        this.ingredientPredicateCompiler = new IngredientPredicateCompiler(searchFilters, inFilter);
+    }
+
+    static IngredientPredicateCompiler ingredientPredicateCompiler(DatabasePlatform platform) {
+        return new IngredientPredicateCompiler(searchFilters(platform), new SearchFilterIn(platform));
+    }
+
+    private static List<SearchFilter> searchFilters(DatabasePlatform platform) {
+        return platform == DatabasePlatform.POSTGRESQL ? postgresqlSearchFilters : defaultSearchFilters;
+    }
+
+    private static List<SearchFilter> createSearchFilters(DatabasePlatform platform) {
+        return List.of(
+                new SearchFilterEqual(platform),
+                new SearchFilterNotEqual(platform),
+                new SearchFilterContains(platform),
+                new SearchFilterDoesNotContain(platform),
+                new SearchFilterStartsWith(platform),
+                new SearchFilterFullText()
+        );
     }
 
     @Override
     public Predicate toPredicate(Root<Recipe> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        if (IngredientPredicateCompiler.isIngredient(criteria)) {
+            return ingredientPredicateCompiler.compile(criteria, parameters, root, query, cb);
+        }
+
         Optional<SearchOperation> operation = SearchOperation.getOperation(criteria.getOperation());
-        String filterValue = criteria.getValue().toString().toLowerCase();
         String filterKey = criteria.getFilterKey();
+        SearchValue value = parameters.valueOf(criteria);
 
-        // Only join ingredients table when searching by ingredient field
-        Join<Object, Object> subRoot = null;
-        if ("ingredient".equalsIgnoreCase(filterKey)) {
-            subRoot = root.join(DatabaseAttributes.JOINED_TABLE_NAME, JoinType.INNER);
-            query.distinct(true);
+        if (operation.isPresent() && comparisonFilter.couldBeApplied(operation.get(), root.get(filterKey))) {
+            return comparisonFilter.apply(cb, operation.get(), root.get(filterKey), value);
+        }
+        if (operation.isPresent() && inFilter.couldBeApplied(operation.get())) {
+            if (filterKey.equals(DatabaseAttributes.TYPE_KEY)) {
+                return inFilter.applyType(cb, root.get(filterKey), value);
+            }
+            return inFilter.apply(cb, root.get(filterKey), value);
+        }
+        if (operation.isPresent() && operation.get().isRange()) {
+            throw new IllegalArgumentException(
+                    "Operation " + criteria.getOperation() + " is not supported on " + filterKey);
         }
 
-        final Join<Object, Object> finalSubRoot = subRoot;
         return operation.flatMap(searchOperation -> searchFilters
-                .stream()
-                .filter(searchFilter -> searchFilter.couldBeApplied(searchOperation))
-                .findFirst()
-                .map(searchFilter -> searchFilter.apply(cb, filterKey, filterValue, root, finalSubRoot))).orElse(null);
+                        .stream()
+                        .filter(filter -> filter.couldBeApplied(searchOperation))
+                        .findFirst())
+                .map(filter -> filter.apply(cb, filterKey, value, root, null))
+                .orElse(null);
+    }
+
+    static boolean isFullText(SearchCriteria criteria) {
+        return SearchOperation.getOperation(criteria.getOperation()).orElse(null) == SearchOperation.FULL_TEXT;
     }
 }
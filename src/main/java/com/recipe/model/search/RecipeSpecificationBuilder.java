@@ -1,16 +1,26 @@
 package com.recipe.model.search;
 
+import com.recipe.config.DatabasePlatform;
 import com.recipe.model.entity.Recipe;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public class RecipeSpecificationBuilder {
     private final List<SearchCriteria> params;
+    private final DatabasePlatform platform;
 
     public RecipeSpecificationBuilder(List<SearchCriteria> searchCriterionRequests) {
+        this(searchCriterionRequests, DatabasePlatform.OTHER);
+    }
+
+    public RecipeSpecificationBuilder(List<SearchCriteria> searchCriterionRequests, DatabasePlatform platform) {
         this.params = searchCriterionRequests;
+        this.platform = platform;
     }
 
     public final RecipeSpecificationBuilder with(SearchCriteria searchCriteriaRequest) {
@@ -18,20 +28,115 @@ public class RecipeSpecificationBuilder {
         return this;
     }
 
+    /**
+     * The specification of the criteria, their values as parameters that are not bound yet.
+     * Searches run through {@link #buildQuery()}, which binds them.
+     */
     public Optional<Specification<Recipe>> build() {
         if (params.isEmpty()) return Optional.empty();
 
-        Specification<Recipe> result = new RecipeSpecification(params.get(0));
+        List<SearchCriteria> combined = combine();
+        return Optional.of(build(combined, new SearchParameters(combined)));
+    }
+
+    /**
+     * The search reduced to its shape. Everything the query structure depends on (folding, grouping of the
+     * ingredients, and/or) is decided from the keys, operations, data options and value arities only.
+     */
+    public Optional<SearchQuery> buildQuery() {
+        if (params.isEmpty()) return Optional.empty();
+
+        List<SearchCriteria> combined = combine();
+        // Under any a recipe may match another criterion instead, so only criteria combined with all rank
+        List<SearchCriteria> ranked = combined.size() == 1 || isCombinedWith(DataOption.ALL)
+                ? combined.stream().filter(RecipeSpecification::isFullText).toList()
+                : List.of();
+        return Optional.of(new SearchQuery(SearchShape.of(params), combined,
+                parameters -> build(combined, parameters), ranked, false));
+    }
+
+    private List<SearchCriteria> combine() {
+        return params.size() > 1 && isCombinedWith(DataOption.ANY)
+                ? foldEqualities(params)
+                : List.copyOf(params);
+    }
+
+    private Specification<Recipe> build(List<SearchCriteria> combined, SearchParameters parameters) {
+        List<SearchCriteria> requiredIngredients = combined.size() > 1 && isCombinedWith(DataOption.ALL)
+                ? combined.stream()
+                        .filter(criteria -> IngredientPredicateCompiler.isIngredient(criteria)
+                                && IngredientPredicateCompiler.isPositive(criteria))
+                        .toList()
+                : List.of();
+        if (requiredIngredients.size() > 1) {
+            return buildAll(combined, requiredIngredients, parameters);
+        }
+
+        Specification<Recipe> result = new RecipeSpecification(combined.get(0), platform, parameters);
 
-        for (int i = 1; i < params.size(); i++) {
-            SearchCriteria criteria = params.get(i);
+        for (int i = 1; i < combined.size(); i++) {
+            SearchCriteria criteria = combined.get(i);
             Optional<DataOption> dataOption = DataOption.getDataOption(criteria.getDataOption());
             if (dataOption.isPresent()) {
                 result = (dataOption.get() == DataOption.ALL)
-                        ? Specification.where(result).and(new RecipeSpecification(criteria))
-                        : Specification.where(result).or(new RecipeSpecification(criteria));
+                        ? Specification.where(result).and(new RecipeSpecification(criteria, platform, parameters))
+                        : Specification.where(result).or(new RecipeSpecification(criteria, platform, parameters));
             }
         }
-        return Optional.of(result);
+        return result;
+    }
+
+    /**
+     * AND of all criteria, the required ingredients folded into one grouped subquery at the position of the first
+     */
+    private Specification<Recipe> buildAll(List<SearchCriteria> combined, List<SearchCriteria> requiredIngredients,
+                                           SearchParameters parameters) {
+        Specification<Recipe> result = null;
+        boolean ingredientsAdded = false;
+        for (SearchCriteria criteria : combined) {
+            Specification<Recipe> specification;
+            if (!requiredIngredients.contains(criteria)) {
+                specification = new RecipeSpecification(criteria, platform, parameters);
+            } else if (!ingredientsAdded) {
+                specification = new RecipeIngredientsSpecification(requiredIngredients, platform, parameters);
+                ingredientsAdded = true;
+            } else {
+                continue;
+            }
+            result = result == null ? Specification.where(specification) : result.and(specification);
+        }
+        return result;
+    }
+
+    /**
+     * Under any, eq criteria sharing a key become one "in" criterion at the position of the first: a single IN
+     * predicate (or one ingredient semi-join) instead of an OR chain
+     */
+    private static List<SearchCriteria> foldEqualities(List<SearchCriteria> params) {
+        Map<String, List<SearchCriteria>> equalities = params.stream()
+                .filter(criteria -> criteria.getFilterKey() != null && "eq".equalsIgnoreCase(criteria.getOperation())
+                        && criteria.getValue() != null && !(criteria.getValue() instanceof List))
+                .collect(Collectors.groupingBy(SearchCriteria::getFilterKey));
+
+        List<SearchCriteria> folded = new ArrayList<>();
+        for (SearchCriteria criteria : params) {
+            List<SearchCriteria> group = criteria.getFilterKey() == null ? null : equalities.get(criteria.getFilterKey());
+            if (group == null || group.size() < 2 || !group.contains(criteria)) {
+                folded.add(criteria);
+            } else if (group.get(0) == criteria) {
+                SearchCriteria in = new SearchCriteria(criteria.getFilterKey(), "in",
+                        group.stream().map(SearchCriteria::getValue).toList());
+                in.setDataOption(criteria.getDataOption());
+                folded.add(in);
+            }
+        }
+        return folded;
+    }
+
+    private boolean isCombinedWith(DataOption option) {
+        return params.stream()
+                .skip(1)
+                .allMatch(criteria -> criteria.getDataOption() != null
+                        && DataOption.getDataOption(criteria.getDataOption()).orElse(null) == option);
     }
 }
@@ -57,4 +57,9 @@ public class SearchCriteria {
     public void setDataOption(String dataOption) {
         this.dataOption = dataOption;
     }
+
+    @Override
+    public String toString() {
+        return filterKey + " " + operation + " '" + value + "'";
+    }
 }
@@ -0,0 +1,50 @@
+package com.recipe.model.search;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * The recipe attributes a search can filter on, with the type their values are converted to
+ */
+public enum SearchField {
+    NAME("name", String.class),
+    NUMBER_OF_SERVINGS("numberOfServings", Integer.class),
+    TYPE("type", String.class),
+    INSTRUCTIONS("instructions", String.class),
+    INGREDIENT("ingredient", String.class),
+    CREATED_AT("createdAt", LocalDateTime.class),
+    UPDATED_AT("updatedAt", LocalDateTime.class);
+
+    private final String key;
+    private final Class<?> valueType;
+
+    SearchField(String key, Class<?> valueType) {
+        this.key = key;
+        this.valueType = valueType;
+    }
+
+    /**
+     * The filter key, which is also the attribute name
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public Class<?> getValueType() {
+        return valueType;
+    }
+
+    /**
+     * Whether values are compared in the column's own type, so the range operations apply
+     */
+    public boolean isComparable() {
+        return valueType != String.class;
+    }
+
+    public static Optional<SearchField> getField(final String key) {
+        return Arrays.stream(values())
+                .filter(field -> field.key.equalsIgnoreCase(key))
+                .findFirst();
+    }
+}
@@ -0,0 +1,131 @@
+package com.recipe.model.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable tree of a nested search: conditions combined by AND / OR / NOT groups. Conditions hold a resolved
+ * field and operation and an already converted value, see {@link SearchNodeParser}.
+ * Trees are built through {@link #and}, {@link #or} and {@link #not}, which simplify as they go: nested groups of
+ * the same kind are flattened, duplicates dropped, double negations removed, and a group containing both a node and
+ * its negation, or a constant deciding it, collapses to that constant. A tree that simplifies to {@link #FALSE}
+ * matches nothing and never reaches the database.
+ */
+public sealed interface SearchNode {
+    SearchNode TRUE = new Constant(true);
+    SearchNode FALSE = new Constant(false);
+
+    /**
+     * The conditions of the tree, depth first, which is the order they are compiled and bound in
+     */
+    default List<Condition> conditions() {
+        List<Condition> conditions = new ArrayList<>();
+        collect(this, conditions);
+        return conditions;
+    }
+
+    /**
+     * The tree without field, operation or value, e.g. "and(?,or(?,?),not(?))"
+     */
+    default String structure() {
+        return switch (this) {
+            case Condition condition -> "?";
+            case And and -> and.children().stream().map(SearchNode::structure).collect(Collectors.joining(",", "and(", ")"));
+            case Or or -> or.children().stream().map(SearchNode::structure).collect(Collectors.joining(",", "or(", ")"));
+            case Not not -> "not(" + not.child().structure() + ")";
+            case Constant constant -> String.valueOf(constant.value());
+        };
+    }
+
+    static SearchNode and(List<SearchNode> children) {
+        return group(children, true);
+    }
+
+    static SearchNode or(List<SearchNode> children) {
+        return group(children, false);
+    }
+
+    static SearchNode not(SearchNode child) {
+        return switch (child) {
+            case Constant constant -> constant.value() ? FALSE : TRUE;
+            case Not not -> not.child();
+            default -> new Not(child);
+        };
+    }
+
+    /**
+     * One criterion; the value is converted to the field's type, a list of such values for in and between
+     */
+    record Condition(SearchField field, SearchOperation operation, Object value) implements SearchNode {
+    }
+
+    record And(List<SearchNode> children) implements SearchNode {
+        public And {
+            children = List.copyOf(children);
+        }
+    }
+
+    record Or(List<SearchNode> children) implements SearchNode {
+        public Or {
+            children = List.copyOf(children);
+        }
+    }
+
+    record Not(SearchNode child) implements SearchNode {
+    }
+
+    record Constant(boolean value) implements SearchNode {
+    }
+
+    /**
+     * AND (all = true) or OR of the children. The identity constant (true for AND) is dropped,
+     * the absorbing one (false for AND) decides the group.
+     */
+    private static SearchNode group(List<SearchNode> children, boolean all) {
+        SearchNode identity = all ? TRUE : FALSE;
+        SearchNode absorbing = all ? FALSE : TRUE;
+
+        Set<SearchNode> operands = new LinkedHashSet<>();
+        for (SearchNode child : children) {
+            List<SearchNode> flattened = switch (child) {
+                case And and when all -> and.children();
+                case Or or when !all -> or.children();
+                default -> List.of(child);
+            };
+            for (SearchNode operand : flattened) {
+                if (operand.equals(absorbing)) {
+                    return absorbing;
+                }
+                if (!operand.equals(identity)) {
+                    operands.add(operand);
+                }
+            }
+        }
+        // x and not x, x or not x
+        if (operands.stream().anyMatch(operand -> operand instanceof Not not && operands.contains(not.child()))) {
+            return absorbing;
+        }
+
+        if (operands.isEmpty()) {
+            return identity;
+        }
+        if (operands.size() == 1) {
+            return operands.iterator().next();
+        }
+        return all ? new And(List.copyOf(operands)) : new Or(List.copyOf(operands));
+    }
+
+    private static void collect(SearchNode node, List<Condition> conditions) {
+        switch (node) {
+            case Condition condition -> conditions.add(condition);
+            case And and -> and.children().forEach(child -> collect(child, conditions));
+            case Or or -> or.children().forEach(child -> collect(child, conditions));
+            case Not not -> collect(not.child(), conditions);
+            case Constant constant -> {
+            }
+        }
+    }
+}
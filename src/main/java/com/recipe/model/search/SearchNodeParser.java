@@ -0,0 +1,114 @@
+package com.recipe.model.search;
+
+import com.recipe.model.domain.request.SearchNodeRequest;
+import com.recipe.model.entity.RecipeType;
+import com.recipe.model.search.filter.SearchFilterComparison;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns the nested query of a search request into a {@link SearchNode} tree. Everything that can be checked
+ * without the database is checked here, once per request: the node form, the filter key and operation, whether
+ * the operation applies to the key, and the value, which is converted to the type of the field.
+ * Invalid queries are rejected with an IllegalArgumentException.
+ */
+public final class SearchNodeParser {
+    static final int MAX_DEPTH = 10;
+    static final int MAX_CONDITIONS = 100;
+
+    private int conditions;
+
+    private SearchNodeParser() {
+    }
+
+    public static SearchNode parse(SearchNodeRequest query) {
+        return new SearchNodeParser().node(query, 1);
+    }
+
+    private SearchNode node(SearchNodeRequest request, int depth) {
+        if (request == null) {
+            throw new IllegalArgumentException("A search node must not be null");
+        }
+        if (depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Search queries can be nested " + MAX_DEPTH + " levels deep at most");
+        }
+
+        boolean isCondition = request.getFilterKey() != null || request.getOperation() != null || request.getValue() != null;
+        int forms = (isCondition ? 1 : 0) + (request.getAll() != null ? 1 : 0) + (request.getAny() != null ? 1 : 0)
+                + (request.getNot() != null ? 1 : 0);
+        if (forms != 1) {
+            throw new IllegalArgumentException(
+                    "A search node is either a condition (filterKey, operation, value) or one of all, any, not");
+        }
+
+        if (request.getAll() != null) {
+            return SearchNode.and(children(request.getAll(), "all", depth));
+        }
+        if (request.getAny() != null) {
+            return SearchNode.or(children(request.getAny(), "any", depth));
+        }
+        if (request.getNot() != null) {
+            return SearchNode.not(node(request.getNot(), depth + 1));
+        }
+        return condition(request);
+    }
+
+    private List<SearchNode> children(List<SearchNodeRequest> requests, String group, int depth) {
+        if (requests.isEmpty()) {
+            throw new IllegalArgumentException(group + " needs at least one node");
+        }
+        List<SearchNode> children = new ArrayList<>(requests.size());
+        for (SearchNodeRequest request : requests) {
+            children.add(node(request, depth + 1));
+        }
+        return children;
+    }
+
+    private SearchNode.Condition condition(SearchNodeRequest request) {
+        if (++conditions > MAX_CONDITIONS) {
+            throw new IllegalArgumentException("Search queries can have " + MAX_CONDITIONS + " conditions at most");
+        }
+        SearchField field = SearchField.getField(request.getFilterKey())
+                .orElseThrow(() -> new IllegalArgumentException("Unknown filter key: " + request.getFilterKey()));
+        SearchOperation operation = request.getOperation() == null ? null
+                : SearchOperation.getOperation(request.getOperation()).orElse(null);
+        if (operation == null) {
+            throw new IllegalArgumentException("Unknown search operation: " + request.getOperation());
+        }
+        if (operation.isRange() && !field.isComparable()
+                || operation == SearchOperation.FULL_TEXT && field != SearchField.INSTRUCTIONS) {
+            throw new IllegalArgumentException(
+                    "Operation " + operation.getKeyword() + " is not supported on " + field.getKey());
+        }
+        return new SearchNode.Condition(field, operation, value(field, operation, request.getValue()));
+    }
+
+    private static Object value(SearchField field, SearchOperation operation, Object value) {
+        if (operation == SearchOperation.IN || operation == SearchOperation.BETWEEN) {
+            if (!(value instanceof List<?> values) || values.isEmpty()) {
+                throw new IllegalArgumentException(operation.getKeyword() + " on " + field.getKey() + " expects an array value");
+            }
+            if (operation == SearchOperation.BETWEEN && values.size() != 2) {
+                throw new IllegalArgumentException("between expects a [from, to] value");
+            }
+            return values.stream().map(item -> element(field, item)).toList();
+        }
+        if (value instanceof List<?> || value instanceof Map<?, ?>) {
+            throw new IllegalArgumentException(operation.getKeyword() + " on " + field.getKey() + " expects a single value");
+        }
+        return element(field, value);
+    }
+
+    private static Object element(SearchField field, Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("A value is required for " + field.getKey());
+        }
+        return switch (field) {
+            case NUMBER_OF_SERVINGS, CREATED_AT, UPDATED_AT -> SearchFilterComparison.convert(value, field.getValueType());
+            case TYPE -> RecipeType.normalize(value.toString());
+            default -> value.toString();
+        };
+    }
+}
@@ -4,7 +4,22 @@ import java.util.Optional;
 
 public enum SearchOperation {
 
-    CONTAINS, DOES_NOT_CONTAIN, EQUAL, NOT_EQUAL;
+    CONTAINS("cn"), DOES_NOT_CONTAIN("nc"), EQUAL("eq"), NOT_EQUAL("ne"), FULL_TEXT("fts"),
+    GREATER_THAN("gt"), GREATER_THAN_OR_EQUAL("gte"), LESS_THAN("lt"), LESS_THAN_OR_EQUAL("lte"), BETWEEN("between"),
+    IN("in"), STARTS_WITH("sw");
+
+    private final String keyword;
+
+    SearchOperation(String keyword) {
+        this.keyword = keyword;
+    }
+
+    /**
+     * The operation as sent in a search request, see {@link #getOperation(String)}
+     */
+    public String getKeyword() {
+        return keyword;
+    }
 
 
     public static Optional<SearchOperation> getOperation(final String input) {
@@ -18,7 +33,31 @@ public enum SearchOperation {
                 return Optional.of(EQUAL);
             case "ne":
                 return Optional.of(NOT_EQUAL);
+            case "fts":
+                return Optional.of(FULL_TEXT);
+            case "gt":
+                return Optional.of(GREATER_THAN);
+            case "gte":
+                return Optional.of(GREATER_THAN_OR_EQUAL);
+            case "lt":
+                return Optional.of(LESS_THAN);
+            case "lte":
+                return Optional.of(LESS_THAN_OR_EQUAL);
+            case "between":
+                return Optional.of(BETWEEN);
+            case "in":
+                return Optional.of(IN);
+            case "sw":
+                return Optional.of(STARTS_WITH);
         }
         return Optional.empty();
     }
+
+    /**
+     * Whether the operation orders values, so it only applies to typed columns
+     */
+    public boolean isRange() {
+        return this == GREATER_THAN || this == GREATER_THAN_OR_EQUAL || this == LESS_THAN
+                || this == LESS_THAN_OR_EQUAL || this == BETWEEN;
+    }
 }
@@ -0,0 +1,66 @@
+package com.recipe.model.search;
+
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.ParameterExpression;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The parameters of a search query compiled for one {@link SearchShape}. Filters ask for the value of a criterion
+ * through {@link SearchValue}; each parameter remembers which criterion it belongs to and how the request value
+ * becomes the bound value (a LIKE pattern, a number...), so the query can be bound again for every search of the
+ * same shape.
+ */
+public class SearchParameters {
+    private final List<SearchCriteria> criteria;
+    private final List<Binding<?>> bindings = new ArrayList<>();
+
+    /**
+     * Parameters for the given criteria, in the order {@link #bind} receives the criteria of later searches
+     */
+    public SearchParameters(List<SearchCriteria> criteria) {
+        this.criteria = List.copyOf(criteria);
+    }
+
+    /**
+     * The value of one of the criteria, as filters use it while the query is compiled
+     */
+    public SearchValue valueOf(SearchCriteria criterion) {
+        for (int i = 0; i < criteria.size(); i++) {
+            if (criteria.get(i) == criterion) {
+                return new SearchValue(this, i, criterion.getValue());
+            }
+        }
+        throw new IllegalArgumentException("Not a criterion of this search: " + criterion);
+    }
+
+    /**
+     * Binds the values of a search of the same shape; mappings that reject a value throw IllegalArgumentException
+     */
+    public void bind(TypedQuery<?> query, List<SearchCriteria> values) {
+        if (values.size() != criteria.size()) {
+            throw new IllegalArgumentException("Expected " + criteria.size() + " criteria, got " + values.size());
+        }
+        bindings.forEach(binding -> binding.bind(query, values));
+    }
+
+    public int size() {
+        return bindings.size();
+    }
+
+    <T> ParameterExpression<T> add(CriteriaBuilder cb, Class<T> type, int criterion,
+                                   Function<Object, ? extends T> mapping) {
+        ParameterExpression<T> parameter = cb.parameter(type, "p" + bindings.size());
+        bindings.add(new Binding<>(parameter, criterion, mapping));
+        return parameter;
+    }
+
+    private record Binding<T>(ParameterExpression<T> parameter, int criterion, Function<Object, ? extends T> mapping) {
+
+        void bind(TypedQuery<?> query, List<SearchCriteria> values) {
+            query.setParameter(parameter, mapping.apply(values.get(criterion).getValue()));
+        }
+    }
+}
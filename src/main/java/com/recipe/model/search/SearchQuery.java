@@ -0,0 +1,78 @@
+package com.recipe.model.search;
+
+import com.recipe.model.entity.Recipe;
+import com.recipe.model.search.filter.SearchFilterFullText;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A search ready to run as a compiled query: its shape (the cache key), the criteria the parameters are bound
+ * from, the specification to compile when the shape has not been seen yet, and the full-text criteria whose
+ * relevance orders the results.
+ */
+public final class SearchQuery {
+    private final SearchShape shape;
+    private final List<SearchCriteria> criteria;
+    private final Function<SearchParameters, Specification<Recipe>> specification;
+    private final List<SearchCriteria> ranked;
+    private final boolean empty;
+
+    /**
+     * The ranked criteria are full-text criteria every result matches; negated or optional ones would order the
+     * results by the relevance of words they need not contain
+     */
+    SearchQuery(SearchShape shape, List<SearchCriteria> criteria,
+                Function<SearchParameters, Specification<Recipe>> specification, List<SearchCriteria> ranked,
+                boolean empty) {
+        this.shape = shape;
+        this.criteria = List.copyOf(criteria);
+        this.specification = specification;
+        this.ranked = List.copyOf(ranked);
+        this.empty = empty;
+    }
+
+    public SearchShape getShape() {
+        return shape;
+    }
+
+    public List<SearchCriteria> getCriteria() {
+        return criteria;
+    }
+
+    /**
+     * Whether the search is known to match no recipe, so it does not need to run
+     */
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * Fresh parameters for compiling this search
+     */
+    public SearchParameters newParameters() {
+        return new SearchParameters(criteria);
+    }
+
+    /**
+     * The specification with every value taken from the given parameters
+     */
+    public Specification<Recipe> specification(SearchParameters parameters) {
+        return specification.apply(parameters);
+    }
+
+    /**
+     * Most relevant first, one order per ranked full-text criterion, to go before the page sort. Counts need no
+     * order, so the ranks are only compiled, and their values only bound, where the repository asks for them.
+     */
+    public List<Order> relevanceOrders(SearchParameters parameters, Root<Recipe> root, CriteriaBuilder cb) {
+        return ranked.stream()
+                .map(criterion -> cb.desc(SearchFilterFullText.rank(cb, criterion.getFilterKey(),
+                        parameters.valueOf(criterion), root)))
+                .toList();
+    }
+}
@@ -0,0 +1,46 @@
+package com.recipe.model.search;
+
+import java.util.List;
+
+/**
+ * What the compiled query of a search depends on: for each criterion, in search order, its key, operation and
+ * data option as sent, and the kind of its value, plus the nesting of a {@link SearchNode} query (empty for a flat
+ * list of criteria). The values themselves are bound as parameters, so all searches of one shape share a compiled
+ * query.
+ */
+public record SearchShape(String structure, List<Element> criteria) {
+    /**
+     * Arity of a value that is not a list
+     */
+    public static final int SINGLE_VALUE = -1;
+    /**
+     * Arity of a missing value
+     */
+    public static final int NO_VALUE = -2;
+
+    public static SearchShape of(List<SearchCriteria> criteria) {
+        return of("", criteria);
+    }
+
+    public static SearchShape of(String structure, List<SearchCriteria> criteria) {
+        return new SearchShape(structure, criteria.stream().map(Element::of).toList());
+    }
+
+    /**
+     * One criterion without its value; the arity is the number of elements of a list value (in, between)
+     */
+    public record Element(String filterKey, String operation, String dataOption, int arity) {
+
+        static Element of(SearchCriteria criteria) {
+            return new Element(criteria.getFilterKey(), criteria.getOperation(), criteria.getDataOption(),
+                    arity(criteria.getValue()));
+        }
+
+        static int arity(Object value) {
+            if (value instanceof List<?> values) {
+                return values.size();
+            }
+            return value == null ? NO_VALUE : SINGLE_VALUE;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.recipe.model.search;
+
+import java.util.Map;
+
+/**
+ * Snapshot of the recipe catalog used to estimate how selective a search criterion is.
+ * Type and ingredient keys are lower-cased, like the values the filters compare against.
+ *
+ * @param recipeCount         number of recipes
+ * @param typeCounts          recipes per type
+ * @param servingsHistogram   recipes per number of servings
+ * @param ingredientFrequency recipes using each ingredient (document frequency)
+ */
+public record SearchStatistics(long recipeCount,
+                               Map<String, Long> typeCounts,
+                               Map<Integer, Long> servingsHistogram,
+                               Map<String, Long> ingredientFrequency) {
+
+    public static SearchStatistics empty() {
+        return new SearchStatistics(0, Map.of(), Map.of(), Map.of());
+    }
+}
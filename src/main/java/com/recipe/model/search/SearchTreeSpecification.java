@@ -0,0 +1,129 @@
+package com.recipe.model.search;
+
+import com.recipe.config.DatabasePlatform;
+import com.recipe.model.entity.Recipe;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A {@link SearchNode} tree as one predicate: groups become and / or / not, each condition is compiled by
+ * {@link RecipeSpecification} like a flat criterion. Within an AND group, several cn / eq / sw / in ingredient
+ * conditions share one GROUP BY ... HAVING COUNT subquery, see {@link RecipeIngredientsSpecification}.
+ */
+public class SearchTreeSpecification implements Specification<Recipe> {
+    private final SearchNode tree;
+    private final List<SearchCriteria> criteria;
+    private final DatabasePlatform platform;
+    private final SearchParameters parameters;
+
+    /**
+     * The criteria are those of the tree's conditions in {@link SearchNode#conditions()} order
+     */
+    SearchTreeSpecification(SearchNode tree, List<SearchCriteria> criteria, DatabasePlatform platform,
+                            SearchParameters parameters) {
+        this.tree = tree;
+        this.criteria = List.copyOf(criteria);
+        this.platform = platform;
+        this.parameters = parameters;
+    }
+
+    /**
+     * The tree as a search of the repository; its shape is the tree structure and the fields and operations of
+     * the conditions, so trees differing only in values share a compiled query
+     */
+    public static SearchQuery searchQuery(SearchNode tree, DatabasePlatform platform) {
+        List<SearchCriteria> criteria = tree.conditions().stream()
+                .map(condition -> new SearchCriteria(condition.field().getKey(), condition.operation().getKeyword(),
+                        condition.value()))
+                .toList();
+        List<SearchCriteria> ranked = new ArrayList<>();
+        collectRequiredFullText(tree, criteria.iterator(), true, ranked);
+        return new SearchQuery(SearchShape.of(tree.structure(), criteria), criteria,
+                parameters -> new SearchTreeSpecification(tree, criteria, platform, parameters),
+                ranked, tree.equals(SearchNode.FALSE));
+    }
+
+    /**
+     * The full-text conditions every result matches: those reached through and groups only. Below an or or a not,
+     * a result may match another branch or must not contain the words at all.
+     */
+    private static void collectRequiredFullText(SearchNode node, Iterator<SearchCriteria> conditions, boolean required,
+                                                List<SearchCriteria> ranked) {
+        switch (node) {
+            case SearchNode.Condition condition -> {
+                SearchCriteria criteria = conditions.next();
+                if (required && condition.operation() == SearchOperation.FULL_TEXT) {
+                    ranked.add(criteria);
+                }
+            }
+            case SearchNode.And and -> and.children()
+                    .forEach(child -> collectRequiredFullText(child, conditions, required, ranked));
+            case SearchNode.Or or -> or.children()
+                    .forEach(child -> collectRequiredFullText(child, conditions, false, ranked));
+            case SearchNode.Not not -> collectRequiredFullText(not.child(), conditions, false, ranked);
+            case SearchNode.Constant constant -> {
+            }
+        }
+    }
+
+    @Override
+    public Predicate toPredicate(Root<Recipe> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        return compile(tree, criteria.iterator(), root, query, cb);
+    }
+
+    private Predicate compile(SearchNode node, Iterator<SearchCriteria> conditions, Root<Recipe> root,
+                              CriteriaQuery<?> query, CriteriaBuilder cb) {
+        return switch (node) {
+            case SearchNode.Condition condition -> condition(conditions.next(), root, query, cb);
+            case SearchNode.And and -> and(and, conditions, root, query, cb);
+            case SearchNode.Or or -> cb.or(or.children().stream()
+                    .map(child -> compile(child, conditions, root, query, cb))
+                    .toArray(Predicate[]::new));
+            case SearchNode.Not not -> cb.not(compile(not.child(), conditions, root, query, cb));
+            case SearchNode.Constant constant -> constant.value() ? cb.conjunction() : cb.disjunction();
+        };
+    }
+
+    private Predicate and(SearchNode.And and, Iterator<SearchCriteria> conditions, Root<Recipe> root,
+                          CriteriaQuery<?> query, CriteriaBuilder cb) {
+        List<Predicate> predicates = new ArrayList<>();
+        List<SearchCriteria> requiredIngredients = new ArrayList<>();
+        int ingredientsAt = -1;
+        for (SearchNode child : and.children()) {
+            if (!(child instanceof SearchNode.Condition)) {
+                predicates.add(compile(child, conditions, root, query, cb));
+                continue;
+            }
+            SearchCriteria condition = conditions.next();
+            if (!IngredientPredicateCompiler.isIngredient(condition) || !IngredientPredicateCompiler.isPositive(condition)) {
+                predicates.add(condition(condition, root, query, cb));
+                continue;
+            }
+            if (ingredientsAt < 0) {
+                ingredientsAt = predicates.size();
+                predicates.add(null);
+            }
+            requiredIngredients.add(condition);
+        }
+
+        if (ingredientsAt >= 0) {
+            predicates.set(ingredientsAt, requiredIngredients.size() == 1
+                    ? condition(requiredIngredients.get(0), root, query, cb)
+                    : new RecipeIngredientsSpecification(requiredIngredients, platform, parameters)
+                            .toPredicate(root, query, cb));
+        }
+        return cb.and(predicates.toArray(Predicate[]::new));
+    }
+
+    private Predicate condition(SearchCriteria condition, Root<Recipe> root, CriteriaQuery<?> query,
+                                CriteriaBuilder cb) {
+        return new RecipeSpecification(condition, platform, parameters).toPredicate(root, query, cb);
+    }
+}
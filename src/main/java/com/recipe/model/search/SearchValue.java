@@ -0,0 +1,63 @@
+package com.recipe.model.search;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.ParameterExpression;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * The value of one criterion while its query is compiled. Filters never see the value itself, only parameters
+ * and the mapping from a request value to what gets bound, so the compiled query does not depend on it.
+ */
+public final class SearchValue {
+    private final SearchParameters parameters;
+    private final int criterion;
+    private final Object value;
+
+    SearchValue(SearchParameters parameters, int criterion, Object value) {
+        this.parameters = parameters;
+        this.criterion = criterion;
+        this.value = value;
+    }
+
+    /**
+     * Number of elements of a list value (in, between), or a negative {@link SearchShape} arity.
+     * Part of the shape, so the only property of the value the compiled query may depend on.
+     */
+    public int size() {
+        return SearchShape.Element.arity(value);
+    }
+
+    /**
+     * A parameter bound to mapping(value) for every search of the shape
+     */
+    public <T> ParameterExpression<T> as(CriteriaBuilder cb, Class<T> type, Function<Object, ? extends T> mapping) {
+        return parameters.add(cb, type, criterion, mapping);
+    }
+
+    /**
+     * A text parameter bound to mapping(lower-cased value), the form the text filters compare
+     */
+    public ParameterExpression<String> text(CriteriaBuilder cb, UnaryOperator<String> mapping) {
+        return as(cb, String.class, requestValue -> mapping.apply(requestValue.toString().toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * A text parameter bound to the lower-cased value
+     */
+    public ParameterExpression<String> text(CriteriaBuilder cb) {
+        return text(cb, UnaryOperator.identity());
+    }
+
+    /**
+     * The element at the given index of a list value; null elements are rejected
+     */
+    public static Object element(Object requestValue, int index) {
+        if (!(requestValue instanceof List<?> values) || index >= values.size() || values.get(index) == null) {
+            throw new IllegalArgumentException("Expected a list of values, got: " + requestValue);
+        }
+        return values.get(index);
+    }
+}
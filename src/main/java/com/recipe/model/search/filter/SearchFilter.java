@@ -1,14 +1,45 @@
 package com.recipe.model.search.filter;
 
+import com.recipe.config.DatabasePlatform;
 import com.recipe.model.entity.Recipe;
 import com.recipe.model.search.SearchOperation;
+import com.recipe.model.search.SearchValue;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
 public interface SearchFilter  {
+    char LIKE_ESCAPE = '\\';
+
     boolean couldBeApplied(SearchOperation opt);
-    Predicate apply(CriteriaBuilder cb, String filterKey, String filterValue, Root<Recipe> root, Join<Object, Object> subRoot);
-}
\ No newline at end of file
+
+    /**
+     * The predicate for one criterion; its value is only available as query parameters, see {@link SearchValue}
+     */
+    Predicate apply(CriteriaBuilder cb, String filterKey, SearchValue value, Root<Recipe> root, Join<Object, Object> subRoot);
+
+    /**
+     * lower(attribute) for case-insensitive matching. On PostgreSQL string attributes are used without
+     * the string cast, so the predicate matches the lower(column) trigram indexes of init-db.sql
+     * (and long instructions are not cut to varchar(255)); elsewhere the cast is kept.
+     */
+    @SuppressWarnings("unchecked")
+    static Expression<String> lowerCase(CriteriaBuilder cb, Path<Object> attribute, DatabasePlatform platform) {
+        if (platform == DatabasePlatform.POSTGRESQL && attribute.getJavaType() == String.class) {
+            return cb.lower((Expression<String>) (Expression<?>) attribute);
+        }
+        return cb.lower(attribute.as(String.class));
+    }
+
+    /**
+     * The value with the LIKE wildcards (and the escape character) escaped for {@link #LIKE_ESCAPE}, so it
+     * matches literally, as the in-memory search index matches it
+     */
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
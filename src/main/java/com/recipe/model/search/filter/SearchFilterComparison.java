@@ -0,0 +1,102 @@
+package com.recipe.model.search.filter;
+
+import com.recipe.model.search.SearchOperation;
+import com.recipe.model.search.SearchValue;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.function.Function;
+
+/**
+ * eq, ne, gt, gte, lt, lte, between and in on numberOfServings, createdAt and updatedAt, compared in the column's
+ * own type. Unlike the text filters there is no lower(cast(column as varchar)), so numbers compare as numbers
+ * and the B-tree indexes on these columns serve equality and range scans.
+ */
+public class SearchFilterComparison {
+    private static final int ISO_DATE_LENGTH = "2024-01-31".length();
+
+    public boolean couldBeApplied(SearchOperation opt, Path<?> attribute) {
+        if (opt == null || !isTyped(attribute.getJavaType())) {
+            return false;
+        }
+        return opt.isRange() || opt == SearchOperation.EQUAL || opt == SearchOperation.NOT_EQUAL
+                || opt == SearchOperation.IN;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Predicate apply(CriteriaBuilder cb, SearchOperation operation, Path<?> attribute, SearchValue value) {
+        Expression<Comparable> column = (Expression<Comparable>) attribute;
+        Class<?> type = attribute.getJavaType();
+        if (operation == SearchOperation.BETWEEN) {
+            if (value.size() != 2) {
+                throw new IllegalArgumentException("between expects a [from, to] value");
+            }
+            return cb.between(column,
+                    operand(cb, value, type, requestValue -> SearchValue.element(requestValue, 0)),
+                    operand(cb, value, type, requestValue -> SearchValue.element(requestValue, 1)));
+        }
+        if (operation == SearchOperation.IN) {
+            return column.in(SearchFilterIn.parameters(value, index ->
+                    operand(cb, value, type, requestValue -> SearchValue.element(requestValue, index))));
+        }
+
+        Expression<Comparable> operand = operand(cb, value, type, Function.identity());
+        return switch (operation) {
+            case EQUAL -> cb.equal(column, operand);
+            case NOT_EQUAL -> cb.notEqual(column, operand);
+            case GREATER_THAN -> cb.greaterThan(column, operand);
+            case GREATER_THAN_OR_EQUAL -> cb.greaterThanOrEqualTo(column, operand);
+            case LESS_THAN -> cb.lessThan(column, operand);
+            case LESS_THAN_OR_EQUAL -> cb.lessThanOrEqualTo(column, operand);
+            default -> throw new IllegalArgumentException("Unsupported comparison: " + operation);
+        };
+    }
+
+    /**
+     * A parameter of the column's type, bound to the converted element picked from the request value
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Expression<Comparable> operand(CriteriaBuilder cb, SearchValue value, Class<?> type,
+                                                  Function<Object, Object> element) {
+        Class<Comparable> parameterType = (Class<Comparable>) (Class<?>) (type == int.class ? Integer.class : type);
+        return value.as(cb, parameterType, requestValue -> convert(element.apply(requestValue), type));
+    }
+
+    private static boolean isTyped(Class<?> type) {
+        return type == Integer.class || type == int.class || type == LocalDateTime.class;
+    }
+
+    /**
+     * Numbers from JSON numbers or numeric strings; date-times as ISO (2024-01-31T10:15:30), in the response
+     * format (2024-01-31 10:15:30) or as a date meaning its start
+     */
+    @SuppressWarnings("rawtypes")
+    public static Comparable convert(Object value, Class<?> type) {
+        if (value == null) {
+            throw new IllegalArgumentException("A value is required for comparisons");
+        }
+        if (type == LocalDateTime.class) {
+            String text = value.toString().trim();
+            try {
+                return text.length() == ISO_DATE_LENGTH
+                        ? LocalDate.parse(text).atStartOfDay()
+                        : LocalDateTime.parse(text.replace(' ', 'T'));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid date-time: " + text, e);
+            }
+        }
+        if (value instanceof Number number) {
+            if (number.doubleValue() != number.intValue()) {
+                throw new IllegalArgumentException("Invalid number: " + value);
+            }
+            return number.intValue();
+        }
+        // NumberFormatException is an IllegalArgumentException
+        return Integer.valueOf(value.toString().trim());
+    }
+}
@@ -1,8 +1,10 @@
 package com.recipe.model.search.filter;
 
 
+import com.recipe.config.DatabasePlatform;
 import com.recipe.model.entity.Recipe;
 import com.recipe.model.search.SearchOperation;
+import com.recipe.model.search.SearchValue;
 import com.recipe.config.DatabaseAttributes;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
@@ -10,7 +12,19 @@ import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.*;
 
+/**
+ * "cn": lower(column) LIKE '%value%'. LIKE wildcards in the value are escaped, so they match literally.
+ */
 public class SearchFilterContains implements SearchFilter {
+    private final DatabasePlatform platform;
+
+    public SearchFilterContains() {
+        this(DatabasePlatform.OTHER);
+    }
+
+    public SearchFilterContains(DatabasePlatform platform) {
+        this.platform = platform;
+    }
 
     @Override
     public boolean couldBeApplied(SearchOperation opt) {
@@ -18,10 +32,15 @@ public class SearchFilterContains implements SearchFilter {
     }
 
     @Override
-    public Predicate apply(CriteriaBuilder cb, String filterKey, String filterValue, Root<Recipe> root, Join<Object, Object> subRoot) {
+    public Predicate apply(CriteriaBuilder cb, String filterKey, SearchValue value, Root<Recipe> root, Join<Object, Object> subRoot) {
         if (filterKey.equals(DatabaseAttributes.INGREDIENT_KEY))
-            return cb.like(cb.lower(subRoot.get(filterKey).as(String.class)), "%" + filterValue + "%");
+            return cb.like(SearchFilter.lowerCase(cb, subRoot.get(filterKey), platform), pattern(cb, value),
+                    SearchFilter.LIKE_ESCAPE);
+
+        return cb.like(SearchFilter.lowerCase(cb, root.get(filterKey), platform), pattern(cb, value), SearchFilter.LIKE_ESCAPE);
+    }
 
-        return cb.like(cb.lower(root.get(filterKey).as(String.class)), "%" + filterValue + "%");
+    static Expression<String> pattern(CriteriaBuilder cb, SearchValue value) {
+        return value.text(cb, text -> "%" + SearchFilter.escapeLike(text) + "%");
     }
 }
@@ -1,7 +1,9 @@
 package com.recipe.model.search.filter;
 
+import com.recipe.config.DatabasePlatform;
 import com.recipe.model.entity.Recipe;
 import com.recipe.model.search.SearchOperation;
+import com.recipe.model.search.SearchValue;
 import com.recipe.config.DatabaseAttributes;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
@@ -10,6 +12,15 @@ import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
 public class SearchFilterDoesNotContain implements SearchFilter {
+    private final DatabasePlatform platform;
+
+    public SearchFilterDoesNotContain() {
+        this(DatabasePlatform.OTHER);
+    }
+
+    public SearchFilterDoesNotContain(DatabasePlatform platform) {
+        this.platform = platform;
+    }
 
     @Override
     public boolean couldBeApplied(SearchOperation opt) {
@@ -17,10 +28,12 @@ public class SearchFilterDoesNotContain implements SearchFilter {
     }
 
     @Override
-    public Predicate apply(CriteriaBuilder cb, String filterKey, String filterValue, Root<Recipe> root, Join<Object, Object> subRoot) {
+    public Predicate apply(CriteriaBuilder cb, String filterKey, SearchValue value, Root<Recipe> root, Join<Object, Object> subRoot) {
         if (filterKey.equals(DatabaseAttributes.INGREDIENT_KEY))
-            return cb.notLike(cb.lower(subRoot.get(filterKey).as(String.class)), "%" + filterValue + "%");
+            return cb.notLike(SearchFilter.lowerCase(cb, subRoot.get(filterKey), platform), SearchFilterContains.pattern(cb, value),
+                    SearchFilter.LIKE_ESCAPE);
 
-        return cb.notLike(cb.lower(root.get(filterKey).as(String.class)), "%" + filterValue + "%");
+        return cb.notLike(SearchFilter.lowerCase(cb, root.get(filterKey), platform), SearchFilterContains.pattern(cb, value),
+                SearchFilter.LIKE_ESCAPE);
     }
 }
@@ -1,7 +1,10 @@
 package com.recipe.model.search.filter;
 
+import com.recipe.config.DatabasePlatform;
 import com.recipe.model.entity.Recipe;
+import com.recipe.model.entity.RecipeType;
 import com.recipe.model.search.SearchOperation;
+import com.recipe.model.search.SearchValue;
 import com.recipe.config.DatabaseAttributes;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
@@ -10,6 +13,15 @@ import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
 public class SearchFilterEqual implements SearchFilter {
+    private final DatabasePlatform platform;
+
+    public SearchFilterEqual() {
+        this(DatabasePlatform.OTHER);
+    }
+
+    public SearchFilterEqual(DatabasePlatform platform) {
+        this.platform = platform;
+    }
 
     @Override
     public boolean couldBeApplied(SearchOperation opt) {
@@ -17,11 +29,16 @@ public class SearchFilterEqual implements SearchFilter {
     }
 
     @Override
-    public Predicate apply(CriteriaBuilder cb, String filterKey, String filterValue, Root<Recipe> root, Join<Object, Object> subRoot) {
+    public Predicate apply(CriteriaBuilder cb, String filterKey, SearchValue value, Root<Recipe> root, Join<Object, Object> subRoot) {
         if (filterKey.equals(DatabaseAttributes.INGREDIENT_KEY)) {
-            return cb.equal(cb.lower(subRoot.get(filterKey).as(String.class)), filterValue);
+            return cb.equal(SearchFilter.lowerCase(cb, subRoot.get(filterKey), platform), value.text(cb));
+        }
+        if (filterKey.equals(DatabaseAttributes.TYPE_KEY)) {
+            // Types are stored as the enum constant; unknown types are compared as sent and match no recipe
+            return cb.equal(root.get(filterKey),
+                    value.as(cb, String.class, type -> RecipeType.normalize(type.toString())));
         }
 
-        return cb.equal(cb.lower(root.get(filterKey).as(String.class)), filterValue);
+        return cb.equal(SearchFilter.lowerCase(cb, root.get(filterKey), platform), value.text(cb));
     }
 }
@@ -0,0 +1,46 @@
+package com.recipe.model.search.filter;
+
+import com.recipe.config.DatabaseAttributes;
+import com.recipe.model.entity.Recipe;
+import com.recipe.model.search.FullTextFunctionContributor;
+import com.recipe.model.search.SearchOperation;
+import com.recipe.model.search.SearchValue;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Word based full-text match on the instructions, see {@link FullTextFunctionContributor}
+ */
+public class SearchFilterFullText implements SearchFilter {
+
+    @Override
+    public boolean couldBeApplied(SearchOperation opt) {
+        return opt == SearchOperation.FULL_TEXT;
+    }
+
+    @Override
+    public Predicate apply(CriteriaBuilder cb, String filterKey, SearchValue value, Root<Recipe> root, Join<Object, Object> subRoot) {
+        requireInstructions(filterKey);
+        return cb.isTrue(cb.function(FullTextFunctionContributor.MATCH_FUNCTION, Boolean.class,
+                root.get(filterKey), value.text(cb)));
+    }
+
+    /**
+     * Relevance of a recipe for the searched words, higher is better
+     */
+    public static Expression<Double> rank(CriteriaBuilder cb, String filterKey, SearchValue value, Root<Recipe> root) {
+        requireInstructions(filterKey);
+        return cb.function(FullTextFunctionContributor.RANK_FUNCTION, Double.class,
+                root.get(filterKey), value.text(cb));
+    }
+
+    private static void requireInstructions(String filterKey) {
+        if (!DatabaseAttributes.INSTRUCTIONS_KEY.equals(filterKey)) {
+            throw new IllegalArgumentException("Full-text search is only supported on " + DatabaseAttributes.INSTRUCTIONS_KEY);
+        }
+    }
+}
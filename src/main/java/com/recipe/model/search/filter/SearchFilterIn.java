@@ -0,0 +1,67 @@
+package com.recipe.model.search.filter;
+
+import com.recipe.config.DatabasePlatform;
+import com.recipe.model.entity.RecipeType;
+import com.recipe.model.search.SearchOperation;
+import com.recipe.model.search.SearchValue;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import java.util.Locale;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * "in" on text columns (name, type, instructions, ingredient): lower(column) IN (values), case-insensitive like eq.
+ * One predicate instead of an OR chain of eq criteria. Typed columns are handled by {@link SearchFilterComparison}.
+ * Every element of the list is its own parameter, so the list size is part of the search shape.
+ */
+public class SearchFilterIn {
+    private static final int MAX_VALUES = 1000;
+
+    private final DatabasePlatform platform;
+
+    public SearchFilterIn() {
+        this(DatabasePlatform.OTHER);
+    }
+
+    public SearchFilterIn(DatabasePlatform platform) {
+        this.platform = platform;
+    }
+
+    public boolean couldBeApplied(SearchOperation opt) {
+        return opt == SearchOperation.IN;
+    }
+
+    public Predicate apply(CriteriaBuilder cb, Path<Object> attribute, SearchValue value) {
+        return SearchFilter.lowerCase(cb, attribute, platform).in(parameters(value, index -> value.as(cb, String.class,
+                requestValue -> SearchValue.element(requestValue, index).toString().toLowerCase(Locale.ROOT))));
+    }
+
+    /**
+     * "in" on the type column, compared against the stored enum constants so idx_recipe_type is usable.
+     * Unknown types are compared as sent and match no recipe.
+     */
+    public Predicate applyType(CriteriaBuilder cb, Path<Object> attribute, SearchValue value) {
+        return attribute.in(parameters(value, index -> value.as(cb, String.class,
+                requestValue -> RecipeType.normalize(SearchValue.element(requestValue, index).toString()))));
+    }
+
+    /**
+     * One parameter per element of an "in" value, which must be a non-empty JSON array
+     */
+    static Expression<?>[] parameters(SearchValue value, IntFunction<Expression<?>> parameter) {
+        int size = value.size();
+        if (size < 1) {
+            throw new IllegalArgumentException("in expects a non-empty list of values");
+        }
+        if (size > MAX_VALUES) {
+            throw new IllegalArgumentException("in accepts at most " + MAX_VALUES + " values");
+        }
+        return IntStream.range(0, size)
+                .mapToObj(parameter)
+                .toArray(Expression<?>[]::new);
+    }
+}
@@ -0,0 +1,44 @@
+package com.recipe.model.search.filter;
+
+import com.recipe.config.DatabaseAttributes;
+import com.recipe.config.DatabasePlatform;
+import com.recipe.model.entity.Recipe;
+import com.recipe.model.search.SearchOperation;
+import com.recipe.model.search.SearchValue;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * "sw": lower(column) LIKE 'value%'. With the anchored pattern PostgreSQL turns the LIKE into a range scan of the
+ * lower(column) text_pattern_ops indexes of init-db.sql. LIKE wildcards in the value are escaped, so they match
+ * literally.
+ */
+public class SearchFilterStartsWith implements SearchFilter {
+    private final DatabasePlatform platform;
+
+    public SearchFilterStartsWith() {
+        this(DatabasePlatform.OTHER);
+    }
+
+    public SearchFilterStartsWith(DatabasePlatform platform) {
+        this.platform = platform;
+    }
+
+    @Override
+    public boolean couldBeApplied(SearchOperation opt) {
+        return opt == SearchOperation.STARTS_WITH;
+    }
+
+    @Override
+    public Predicate apply(CriteriaBuilder cb, String filterKey, SearchValue value, Root<Recipe> root, Join<Object, Object> subRoot) {
+        Path<Object> attribute = filterKey.equals(DatabaseAttributes.INGREDIENT_KEY)
+                ? subRoot.get(filterKey)
+                : root.get(filterKey);
+        return cb.like(SearchFilter.lowerCase(cb, attribute, platform), value.text(cb, text -> SearchFilter.escapeLike(text) + "%"),
+                SearchFilter.LIKE_ESCAPE);
+    }
+}
@@ -1,10 +1,28 @@
 package com.recipe.repository;
 
 import com.recipe.model.entity.Ingredient;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
-public interface IngredientRepository extends JpaRepository<Ingredient, Integer> {
+public interface IngredientRepository extends JpaRepository<Ingredient, Integer>, IngredientUpsertRepository {
+
+    /**
+     * First keyset page ordered by (ingredient, id). Returning a List means no COUNT query is issued;
+     * only the page size of the pageable is used.
+     */
+    @Query("select i from Ingredient i order by i.ingredient asc, i.id asc")
+    List<Ingredient> findFirstKeysetPage(Pageable pageable);
 
+    /**
+     * Keyset page that seeks past the given (ingredient, id) position
+     */
+    @Query("select i from Ingredient i where i.ingredient > :name or (i.ingredient = :name and i.id > :id) "
+            + "order by i.ingredient asc, i.id asc")
+    List<Ingredient> findKeysetPageAfter(@Param("name") String name, @Param("id") Integer id, Pageable pageable);
 }
@@ -0,0 +1,17 @@
+package com.recipe.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Set-based get-or-create of ingredients by name
+ */
+public interface IngredientUpsertRepository {
+
+    /**
+     * Inserts the names that do not exist yet and returns the ids of all given names, existing and new.
+     * Safe under concurrent writers: a name inserted by another transaction in the meantime is returned,
+     * not reported as a unique-constraint violation.
+     */
+    Map<String, Integer> upsertByNames(Collection<String> names);
+}
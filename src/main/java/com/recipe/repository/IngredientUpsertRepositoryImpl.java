@@ -0,0 +1,133 @@
+package com.recipe.repository;
+
+import com.recipe.config.DatabasePlatform;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class IngredientUpsertRepositoryImpl implements IngredientUpsertRepository {
+
+    // The allocationSize of the Ingredient id generator, and the sequence increment in init-db.sql
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private static final String POSTGRESQL_SELECT_BY_NAMES =
+            "select id, ingredient from ingredients where ingredient = any(?::varchar[])";
+
+    /**
+     * Each nextval reserves the block of ids up to the value returned, the same blocks Hibernate's pooled
+     * optimizer takes, so one call covers up to ID_BLOCK_SIZE new names
+     */
+    private static final String POSTGRESQL_NEXT_ID_BLOCKS =
+            "select nextval('ingredients_id_seq') from generate_series(1, ?)";
+
+    /**
+     * Inserts the missing names, sorted so that concurrent inserts of the same names wait in the same order.
+     * DO NOTHING leaves rows committed in the meantime untouched and unlocked; they are absent from RETURNING
+     * and read back afterwards.
+     */
+    private static final String POSTGRESQL_INSERT = """
+            insert into ingredients (id, ingredient, created_at, updated_at)
+            select names.id, names.name, now(), now()
+            from unnest(?::int[], ?::varchar[]) as names(id, name)
+            order by names.name
+            on conflict (ingredient) do nothing
+            returning id, ingredient""";
+
+    // Development and test databases: MERGE the missing names, then read them back
+    private static final String MERGE = """
+            merge into ingredients i
+            using (values %s) as names(name) on i.ingredient = names.name
+            when not matched then insert (id, ingredient, created_at, updated_at)
+            values (next value for ingredients_id_seq, names.name, current_timestamp, current_timestamp)""";
+
+    private static final String SELECT_BY_NAMES = "select id, ingredient from ingredients where ingredient in (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform platform;
+
+    public IngredientUpsertRepositoryImpl(DataSource dataSource, DatabasePlatform platform) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.platform = platform;
+    }
+
+    /**
+     * Existing names are only read, so they cost no ids and take no row locks; only the missing ones are
+     * inserted. A name another transaction inserted after the read loses the insert race and is read again.
+     */
+    @Override
+    public Map<String, Integer> upsertByNames(Collection<String> names) {
+        List<String> distinctNames = names.stream().distinct().sorted().toList();
+        if (distinctNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, Integer> ids = new HashMap<>();
+        RowCallbackHandler collectIds = rs -> ids.put(rs.getString("ingredient"), rs.getInt("id"));
+
+        selectByNames(distinctNames, collectIds);
+        List<String> missing = distinctNames.stream().filter(name -> !ids.containsKey(name)).toList();
+        if (missing.isEmpty()) {
+            return ids;
+        }
+
+        insert(missing, collectIds);
+        List<String> unresolved = missing.stream().filter(name -> !ids.containsKey(name)).toList();
+        if (!unresolved.isEmpty()) {
+            selectByNames(unresolved, collectIds);
+        }
+        return ids;
+    }
+
+    private void selectByNames(List<String> names, RowCallbackHandler collectIds) {
+        if (platform == DatabasePlatform.POSTGRESQL) {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(POSTGRESQL_SELECT_BY_NAMES);
+                statement.setArray(1, connection.createArrayOf("varchar", names.toArray()));
+                return statement;
+            }, collectIds);
+        } else {
+            jdbcTemplate.query(SELECT_BY_NAMES.formatted(placeholders(names.size(), "?")), collectIds, names.toArray());
+        }
+    }
+
+    private void insert(List<String> names, RowCallbackHandler collectIds) {
+        if (platform == DatabasePlatform.POSTGRESQL) {
+            Integer[] newIds = nextIds(names.size());
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(POSTGRESQL_INSERT);
+                statement.setArray(1, connection.createArrayOf("integer", newIds));
+                statement.setArray(2, connection.createArrayOf("varchar", names.toArray()));
+                return statement;
+            }, collectIds);
+        } else {
+            jdbcTemplate.update(MERGE.formatted(placeholders(names.size(), "(cast(? as varchar(255)))")),
+                    names.toArray());
+        }
+    }
+
+    private Integer[] nextIds(int count) {
+        List<Integer> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            int blocks = (count - ids.size() + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+            for (long high : jdbcTemplate.queryForList(POSTGRESQL_NEXT_ID_BLOCKS, Long.class, blocks)) {
+                // A fresh sequence returns 1 first, whose block is just that id
+                for (long id = Math.max(1, high - ID_BLOCK_SIZE + 1); id <= high && ids.size() < count; id++) {
+                    ids.add(Math.toIntExact(id));
+                }
+            }
+        }
+        return ids.toArray(Integer[]::new);
+    }
+
+    private static String placeholders(int count, String placeholder) {
+        return String.join(", ", Collections.nCopies(count, placeholder));
+    }
+}
@@ -0,0 +1,31 @@
+package com.recipe.repository;
+
+import com.recipe.model.domain.response.RecipeResponse;
+import com.recipe.model.projection.RecipeFields;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Recipe reads selecting only the columns of a sparse fieldset, see {@link com.recipe.model.projection.RecipeProjection}
+ */
+public interface RecipeProjectionRepository {
+
+    /**
+     * One page of recipes, like findAll(pageable) without the COUNT query
+     */
+    List<RecipeResponse> findProjectedPage(Pageable pageable, RecipeFields fields);
+
+    /**
+     * The recipes of the given ids in one IN query, in no particular order; ids that do not exist are absent
+     */
+    List<RecipeResponse> findProjectedByIds(Collection<Integer> ids, RecipeFields fields);
+
+    /**
+     * One slice of the given recipes, ordered and paged by the pageable like
+     * {@link RecipeRepository#findByIdIn(Collection, Pageable)}
+     */
+    Slice<RecipeResponse> findProjectedSliceByIds(Collection<Integer> ids, Pageable pageable, RecipeFields fields);
+}
@@ -0,0 +1,75 @@
+package com.recipe.repository;
+
+import com.recipe.model.domain.response.RecipeResponse;
+import com.recipe.model.entity.Recipe;
+import com.recipe.model.projection.RecipeFields;
+import com.recipe.model.projection.RecipeProjection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.Collection;
+import java.util.List;
+
+public class RecipeProjectionRepositoryImpl implements RecipeProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<RecipeResponse> findProjectedPage(Pageable pageable, RecipeFields fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Recipe> root = query.from(Recipe.class);
+        RecipeProjection.select(query, root, fields);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return RecipeProjection.read(entityManager, rows, fields);
+    }
+
+    @Override
+    public List<RecipeResponse> findProjectedByIds(Collection<Integer> ids, RecipeFields fields) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Recipe> root = query.from(Recipe.class);
+        RecipeProjection.select(query, root, fields);
+        query.where(root.get("id").in(ids));
+
+        return RecipeProjection.read(entityManager, entityManager.createQuery(query).getResultList(), fields);
+    }
+
+    @Override
+    public Slice<RecipeResponse> findProjectedSliceByIds(Collection<Integer> ids, Pageable pageable, RecipeFields fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Recipe> root = query.from(Recipe.class);
+        RecipeProjection.select(query, root, fields);
+        query.where(root.get("id").in(ids));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        int pageSize = pageable.getPageSize();
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageSize + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > pageSize;
+        List<RecipeResponse> content = RecipeProjection.read(entityManager,
+                hasNext ? rows.subList(0, pageSize) : rows, fields);
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+}
@@ -1,11 +1,58 @@
 package com.recipe.repository;
 
 import com.recipe.model.entity.Recipe;
+import com.recipe.model.projection.RecipeInstructions;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface RecipeRepository extends JpaRepository<Recipe, Integer>, JpaSpecificationExecutor<Recipe> {
+public interface RecipeRepository extends JpaRepository<Recipe, Integer>, JpaSpecificationExecutor<Recipe>,
+        RecipeSearchRepository, RecipeProjectionRepository {
+
+    /**
+     * Loads a recipe together with its ingredients in a single round trip
+     */
+    @EntityGraph(attributePaths = "recipeIngredients")
+    Optional<Recipe> findWithIngredientsById(Integer id);
+
+    /**
+     * One slice of the given recipes, for searches the in-memory index matched; ordered and paged
+     * by the pageable like {@link #findSlice}
+     */
+    Slice<Recipe> findByIdIn(Collection<Integer> ids, Pageable pageable);
+
+    /**
+     * Loads the given recipes together with their ingredients in a single IN query
+     */
+    @EntityGraph(attributePaths = "recipeIngredients")
+    List<Recipe> findWithIngredientsByIdIn(Collection<Integer> ids);
+
+    /**
+     * The instructions of the given recipes in one query, for pages whose entities left them unloaded
+     */
+    @Query("select r.id as id, r.instructions as instructions from Recipe r where r.id in :ids")
+    List<RecipeInstructions> findInstructionsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * First keyset page ordered by (name, id). Returning a List means no COUNT query is issued;
+     * only the page size of the pageable is used.
+     */
+    @Query("select r from Recipe r order by r.name asc, r.id asc")
+    List<Recipe> findFirstKeysetPage(Pageable pageable);
 
-}
\ No newline at end of file
+    /**
+     * Keyset page that seeks past the given (name, id) position
+     */
+    @Query("select r from Recipe r where r.name > :name or (r.name = :name and r.id > :id) order by r.name asc, r.id asc")
+    List<Recipe> findKeysetPageAfter(@Param("name") String name, @Param("id") Integer id, Pageable pageable);
+}
@@ -0,0 +1,32 @@
+package com.recipe.repository;
+
+import com.recipe.model.domain.response.RecipeResponse;
+import com.recipe.model.entity.Recipe;
+import com.recipe.model.projection.RecipeFields;
+import com.recipe.model.search.SearchQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Search queries that Spring Data's JpaSpecificationExecutor cannot express efficiently
+ */
+public interface RecipeSearchRepository {
+
+    /**
+     * Runs the search for one page, fetching a single extra row to compute hasNext
+     * instead of issuing the COUNT query that findAll(spec, pageable) always adds.
+     * The query is compiled once per search shape and sort, later searches only bind their values.
+     */
+    Slice<Recipe> findSlice(SearchQuery search, Pageable pageable);
+
+    /**
+     * Same as {@link #findSlice(SearchQuery, Pageable)}, selecting only the columns of the fieldset instead of
+     * whole entities; the ingredients are loaded only when selected
+     */
+    Slice<RecipeResponse> findSlice(SearchQuery search, Pageable pageable, RecipeFields fields);
+
+    /**
+     * Number of recipes matching the search, through the compiled COUNT query of its shape
+     */
+    long countSearch(SearchQuery search);
+}
@@ -0,0 +1,145 @@
+package com.recipe.repository;
+
+import com.recipe.cache.SearchQueryCache;
+import com.recipe.model.domain.response.RecipeResponse;
+import com.recipe.model.entity.Recipe;
+import com.recipe.model.projection.RecipeFields;
+import com.recipe.model.projection.RecipeProjection;
+import com.recipe.model.search.CompiledQuery;
+import com.recipe.model.search.SearchParameters;
+import com.recipe.model.search.SearchQuery;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class RecipeSearchRepositoryImpl implements RecipeSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ObjectProvider<SearchQueryCache> searchQueryCache;
+
+    /**
+     * The cache is looked up lazily so that contexts without it (JPA slice tests) still get a working
+     * fragment; those compile every search instead of reusing the compiled shape.
+     */
+    public RecipeSearchRepositoryImpl(ObjectProvider<SearchQueryCache> searchQueryCache) {
+        this.searchQueryCache = searchQueryCache;
+    }
+
+    @Override
+    public Slice<Recipe> findSlice(SearchQuery search, Pageable pageable) {
+        if (search.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        CompiledQuery<Recipe> compiled = compiled(search, Recipe.class, pageable.getSort(), "",
+                () -> compileSelect(search, pageable.getSort()));
+
+        int pageSize = pageable.getPageSize();
+        List<Recipe> rows = compiled.createQuery(entityManager, search.getCriteria())
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageSize + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > pageSize;
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageSize) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public Slice<RecipeResponse> findSlice(SearchQuery search, Pageable pageable, RecipeFields fields) {
+        if (search.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        CompiledQuery<Tuple> compiled = compiled(search, Tuple.class, pageable.getSort(), fields.key(),
+                () -> compileProjection(search, pageable.getSort(), fields));
+
+        int pageSize = pageable.getPageSize();
+        List<Tuple> rows = compiled.createQuery(entityManager, search.getCriteria())
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageSize + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > pageSize;
+        List<RecipeResponse> content = RecipeProjection.read(entityManager,
+                hasNext ? rows.subList(0, pageSize) : rows, fields);
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public long countSearch(SearchQuery search) {
+        if (search.isEmpty()) {
+            return 0;
+        }
+        CompiledQuery<Long> compiled = compiled(search, Long.class, Sort.unsorted(), "",
+                () -> compileCount(search));
+        return compiled.createQuery(entityManager, search.getCriteria()).getSingleResult();
+    }
+
+    private <T> CompiledQuery<T> compiled(SearchQuery search, Class<T> resultType, Sort sort, String projection,
+                                          Supplier<CompiledQuery<T>> compiler) {
+        SearchQueryCache cache = searchQueryCache.getIfAvailable();
+        return cache != null ? cache.get(search.getShape(), resultType, sort, projection, compiler) : compiler.get();
+    }
+
+    private CompiledQuery<Recipe> compileSelect(SearchQuery search, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Recipe> query = cb.createQuery(Recipe.class);
+        Root<Recipe> root = query.from(Recipe.class);
+        query.select(root);
+        return compileOrdered(search, sort, query, root, cb);
+    }
+
+    private CompiledQuery<Tuple> compileProjection(SearchQuery search, Sort sort, RecipeFields fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Recipe> root = query.from(Recipe.class);
+        RecipeProjection.select(query, root, fields);
+        return compileOrdered(search, sort, query, root, cb);
+    }
+
+    private <T> CompiledQuery<T> compileOrdered(SearchQuery search, Sort sort, CriteriaQuery<T> query,
+                                                Root<Recipe> root, CriteriaBuilder cb) {
+        SearchParameters parameters = search.newParameters();
+        Predicate predicate = search.specification(parameters).toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        // Full-text relevance goes before the page sort
+        List<Order> orders = new ArrayList<>(search.relevanceOrders(parameters, root, cb));
+        orders.addAll(QueryUtils.toOrders(sort, root, cb));
+        query.orderBy(orders);
+
+        return new CompiledQuery<>(query, parameters);
+    }
+
+    private CompiledQuery<Long> compileCount(SearchQuery search) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Recipe> root = query.from(Recipe.class);
+
+        SearchParameters parameters = search.newParameters();
+        Predicate predicate = search.specification(parameters).toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.count(root));
+
+        return new CompiledQuery<>(query, parameters);
+    }
+}
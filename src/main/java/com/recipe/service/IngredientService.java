@@ -1,32 +1,59 @@
 package com.recipe.service;
 
 import com.recipe.model.domain.request.CreateIngredientRequest;
+import com.recipe.model.domain.response.BatchGetResponse;
+import com.recipe.model.domain.response.CursorPageResponse;
+import com.recipe.model.domain.response.IngredientResponse;
+import com.recipe.cache.RecipeCache;
+import com.recipe.cache.SearchResultCache;
 import com.recipe.config.MessageProvider;
 import com.recipe.exception.NotFoundException;
+import com.recipe.index.RecipeSearchIndex;
 import com.recipe.mapper.IngredientMapper;
 import com.recipe.model.entity.Ingredient;
+import com.recipe.model.search.KeysetCursor;
 import com.recipe.repository.IngredientRepository;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class IngredientService {
+    /**
+     * Upper bound of ids bound into one IN list, well below driver parameter limits
+     */
+    private static final int ID_CHUNK_SIZE = 500;
+
     private final IngredientRepository ingredientRepository;
     private final MessageProvider messageProvider;
     private final IngredientMapper ingredientMapper;
+    private final RecipeCache recipeCache;
+    private final SearchResultCache searchResultCache;
+    private final RecipeSearchIndex recipeSearchIndex;
 
     public IngredientService(IngredientRepository ingredientRepository,
                              MessageProvider messageProvider,
-                             IngredientMapper ingredientMapper) {
+                             IngredientMapper ingredientMapper,
+                             RecipeCache recipeCache,
+                             SearchResultCache searchResultCache,
+                             RecipeSearchIndex recipeSearchIndex) {
         this.ingredientRepository = ingredientRepository;
         this.messageProvider = messageProvider;
         this.ingredientMapper = ingredientMapper;
+        this.recipeCache = recipeCache;
+        this.searchResultCache = searchResultCache;
+        this.recipeSearchIndex = recipeSearchIndex;
     }
 
     public Integer create(CreateIngredientRequest request) {
@@ -37,10 +64,83 @@ public class IngredientService {
     }
 
 
+    /**
+     * Resolves all ids with set-based lookups and reports every missing id in one NotFoundException.
+     * Duplicate ids are looked up once.
+     */
     public Set<Ingredient> getIngredientsByIds(List<Integer> ingredientIds) {
-        return Set.copyOf(ingredientIds.stream()
-                .map(this::findById)
-                .toList());
+        Map<Integer, Ingredient> ingredients = findIngredientsByIds(ingredientIds);
+
+        List<Integer> missingIds = ingredientIds.stream()
+                .distinct()
+                .filter(id -> !ingredients.containsKey(id))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            String ids = missingIds.stream().map(String::valueOf).collect(Collectors.joining(", "));
+            throw new NotFoundException(messageProvider.getMessage("ingredients.not.found", List.of(ids)));
+        }
+
+        return Set.copyOf(ingredients.values());
+    }
+
+    /**
+     * Loads the given ingredients keyed by id, using one IN query per chunk of ids.
+     * Ids that do not exist are simply absent from the result.
+     */
+    public Map<Integer, Ingredient> findIngredientsByIds(Collection<Integer> ingredientIds) {
+        List<Integer> distinctIds = ingredientIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        Map<Integer, Ingredient> ingredients = new HashMap<>();
+        for (int from = 0; from < distinctIds.size(); from += ID_CHUNK_SIZE) {
+            List<Integer> chunk = distinctIds.subList(from, Math.min(from + ID_CHUNK_SIZE, distinctIds.size()));
+            ingredientRepository.findAllById(chunk)
+                    .forEach(ingredient -> ingredients.put(ingredient.getId(), ingredient));
+        }
+        return ingredients;
+    }
+
+    /**
+     * Loads the ingredients of the given ids in one IN query and returns one item per id, in request order,
+     * marking the ids that do not exist
+     */
+    @Transactional(readOnly = true)
+    public BatchGetResponse<IngredientResponse> getIngredientBatch(List<Integer> ids) {
+        if (ids.size() > ID_CHUNK_SIZE) {
+            throw new IllegalArgumentException(messageProvider.getMessage("batch.ids.too.many", List.of(ID_CHUNK_SIZE)));
+        }
+        Map<Integer, IngredientResponse> ingredients = new HashMap<>();
+        findIngredientsByIds(ids).forEach((id, ingredient) -> ingredients.put(id, new IngredientResponse(ingredient)));
+        return BatchGetResponse.of(ids, ingredients);
+    }
+
+    /**
+     * Resolves ingredient names to ids with one set-based upsert, creating the names that do not exist yet.
+     * Names are trimmed; blank and duplicate names are ignored.
+     */
+    public Map<String, Integer> getOrCreateIngredientIds(Collection<String> names) {
+        List<String> distinctNames = names.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .distinct()
+                .toList();
+        Map<String, Integer> ids = ingredientRepository.upsertByNames(distinctNames);
+        // The upsert is plain SQL, so the entity listener feeding the search index does not see it
+        ids.forEach((name, id) -> recipeSearchIndex.onIngredientSaved(id, name));
+        return ids;
+    }
+
+    /**
+     * Same as {@link #getOrCreateIngredientIds(Collection)}, returned as references for associating them
+     * with a recipe without loading the rows again
+     */
+    public Set<Ingredient> getOrCreateIngredients(Collection<String> names) {
+        return getOrCreateIngredientIds(names).values().stream()
+                .map(ingredientRepository::getReferenceById)
+                .collect(Collectors.toSet());
     }
 
     public Ingredient findById(int id) {
@@ -54,10 +154,36 @@ public class IngredientService {
         return ingredientRepository.findAll(pageRequest).getContent();
     }
 
+    /**
+     * Keyset listing ordered by (ingredient, id). Fetches one extra row to detect the next page,
+     * so no COUNT query and no OFFSET scan is needed.
+     */
+    public CursorPageResponse<IngredientResponse> getIngredientsAfter(String cursor, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Invalid page or size parameter");
+        }
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Ingredient> ingredients = Optional.ofNullable(cursor)
+                .map(KeysetCursor::decode)
+                .map(position -> ingredientRepository.findKeysetPageAfter(position.key(), position.id(), limit))
+                .orElseGet(() -> ingredientRepository.findFirstKeysetPage(limit));
+
+        boolean hasNext = ingredients.size() > size;
+        List<Ingredient> page = hasNext ? ingredients.subList(0, size) : ingredients;
+        String nextCursor = hasNext
+                ? new KeysetCursor(page.get(size - 1).getIngredient(), page.get(size - 1).getId()).encode()
+                : null;
+
+        return new CursorPageResponse<>(page.stream().map(IngredientResponse::new).toList(), nextCursor);
+    }
+
     public void deleteIngredient(int id) {
         if (!ingredientRepository.existsById(id)) {
             throw new NotFoundException(messageProvider.getMessage("ingredient.not.found"));
         }
         ingredientRepository.deleteById(id);
+        // The recipe_ingredient rows cascade, so any cached recipe may have lost this ingredient
+        recipeCache.evictAll();
+        searchResultCache.invalidate();
     }
 }
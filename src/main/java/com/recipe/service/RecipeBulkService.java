@@ -0,0 +1,179 @@
+package com.recipe.service;
+
+import com.recipe.cache.SearchResultCache;
+import com.recipe.config.MessageProvider;
+import com.recipe.config.MetricsConfig;
+import com.recipe.mapper.RecipeMapper;
+import com.recipe.model.domain.request.CreateRecipeRequest;
+import com.recipe.model.domain.response.BulkCreateResponse;
+import com.recipe.model.domain.response.BulkItemResponse;
+import com.recipe.model.entity.Ingredient;
+import com.recipe.model.entity.Recipe;
+import com.recipe.repository.RecipeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Creates many recipes in one transaction. Items are validated up front and rejected individually;
+ * the accepted ones are persisted in chunks of the JDBC batch size, flushing and clearing the
+ * persistence context after each chunk so the inserts go out as JDBC batches and memory stays bounded.
+ */
+@Service
+@Transactional
+public class RecipeBulkService {
+    private static final Logger logger = LoggerFactory.getLogger(RecipeBulkService.class);
+
+    private final RecipeRepository recipeRepository;
+    private final IngredientService ingredientService;
+    private final MessageProvider messageProvider;
+    private final MetricsConfig metricsConfig;
+    private final RecipeMapper recipeMapper;
+    private final SearchResultCache searchResultCache;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final int batchSize;
+    private final int maxItems;
+
+    @Autowired
+    public RecipeBulkService(RecipeRepository recipeRepository,
+                             IngredientService ingredientService,
+                             MessageProvider messageProvider,
+                             MetricsConfig metricsConfig,
+                             RecipeMapper recipeMapper,
+                             SearchResultCache searchResultCache,
+                             Validator validator,
+                             EntityManager entityManager,
+                             @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize,
+                             @Value("${recipe.bulk.max-items:1000}") int maxItems) {
+        this.recipeRepository = recipeRepository;
+        this.ingredientService = ingredientService;
+        this.messageProvider = messageProvider;
+        this.metricsConfig = metricsConfig;
+        this.recipeMapper = recipeMapper;
+        this.searchResultCache = searchResultCache;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+        this.maxItems = maxItems;
+    }
+
+    public BulkCreateResponse createRecipes(List<CreateRecipeRequest> requests) {
+        logger.info("Bulk creating {} recipes", requests.size());
+        if (requests.size() > maxItems) {
+            throw new IllegalArgumentException(messageProvider.getMessage("recipe.bulk.too.many", List.of(maxItems)));
+        }
+
+        // One set-based lookup for the ingredients of all items
+        Map<Integer, Ingredient> ingredients = ingredientService.findIngredientsByIds(requests.stream()
+                .filter(Objects::nonNull)
+                .map(CreateRecipeRequest::getIngredientIds)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .toList());
+
+        BulkItemResponse[] results = new BulkItemResponse[requests.size()];
+        List<Integer> accepted = new ArrayList<>();
+        for (int index = 0; index < requests.size(); index++) {
+            String error = validate(requests.get(index), ingredients.keySet());
+            if (error == null) {
+                accepted.add(index);
+            } else {
+                results[index] = BulkItemResponse.failed(index, error);
+            }
+        }
+
+        // Ingredients given by name are created in one upsert for all accepted items
+        Map<String, Integer> namedIngredientIds = ingredientService.getOrCreateIngredientIds(accepted.stream()
+                .map(index -> requests.get(index).getIngredientNames())
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .toList());
+
+        for (int from = 0; from < accepted.size(); from += batchSize) {
+            List<Integer> chunk = accepted.subList(from, Math.min(from + batchSize, accepted.size()));
+            List<Recipe> recipes = chunk.stream()
+                    .map(index -> toRecipe(requests.get(index), namedIngredientIds))
+                    .toList();
+
+            recipeRepository.saveAll(recipes);
+            entityManager.flush();
+            entityManager.clear();
+
+            for (int i = 0; i < chunk.size(); i++) {
+                results[chunk.get(i)] = BulkItemResponse.created(chunk.get(i), recipes.get(i).getId());
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            searchResultCache.invalidate();
+            metricsConfig.getRecipeCreatedCounter().increment(accepted.size());
+        }
+        logger.info("Bulk created {} of {} recipes", accepted.size(), requests.size());
+
+        return new BulkCreateResponse(Arrays.asList(results));
+    }
+
+    private String validate(CreateRecipeRequest request, Set<Integer> existingIngredientIds) {
+        if (request == null) {
+            return messageProvider.getMessage("recipe.bulk.item.missing");
+        }
+
+        Set<ConstraintViolation<CreateRecipeRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining(", "));
+        }
+
+        if (request.getIngredientIds() != null) {
+            String missingIds = request.getIngredientIds().stream()
+                    .distinct()
+                    .filter(id -> !existingIngredientIds.contains(id))
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(", "));
+            if (!missingIds.isEmpty()) {
+                return messageProvider.getMessage("ingredients.not.found", List.of(missingIds));
+            }
+        }
+        return null;
+    }
+
+    private Recipe toRecipe(CreateRecipeRequest request, Map<String, Integer> namedIngredientIds) {
+        Recipe recipe = recipeMapper.createRequestToRecipe(request);
+        if (request.getIngredientIds() == null && request.getIngredientNames() == null) {
+            return recipe;
+        }
+
+        Set<Integer> ingredientIds = new HashSet<>();
+        if (request.getIngredientIds() != null) {
+            ingredientIds.addAll(request.getIngredientIds());
+        }
+        if (request.getIngredientNames() != null) {
+            request.getIngredientNames().stream()
+                    .map(name -> namedIngredientIds.get(name.trim()))
+                    .forEach(ingredientIds::add);
+        }
+        // Ingredients were checked above and the persistence context is cleared between chunks,
+        // so attach them as references instead of loading them again
+        recipe.setRecipeIngredients(ingredientIds.stream()
+                .map(id -> entityManager.getReference(Ingredient.class, id))
+                .collect(Collectors.toSet()));
+        return recipe;
+    }
+}
@@ -0,0 +1,161 @@
+package com.recipe.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.recipe.model.domain.response.RecipeResponse;
+import com.recipe.model.entity.Ingredient;
+import com.recipe.model.entity.Recipe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+
+/**
+ * Streams the whole recipe catalog as NDJSON (one recipe with its ingredients per line).
+ * Rows are read through a forward-only JDBC cursor and written as they arrive, bypassing the
+ * persistence context and the recipe caches, so memory use does not grow with the catalog size.
+ */
+@Service
+public class RecipeExportService {
+    private static final Logger logger = LoggerFactory.getLogger(RecipeExportService.class);
+
+    // Ordered by recipe id so all ingredient rows of a recipe are adjacent in the cursor
+    private static final String EXPORT_QUERY = """
+            select r.id, r.name, r.instructions, r.type, r.number_of_servings, r.created_at, r.updated_at,
+                   i.id as ingredient_id, i.ingredient, i.created_at as ingredient_created_at,
+                   i.updated_at as ingredient_updated_at
+            from recipes r
+            left join recipe_ingredient ri on ri.recipe_id = r.id
+            left join ingredients i on i.id = ri.ingredient_id
+            order by r.id, i.id""";
+
+    private static final int FLUSH_INTERVAL = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter recipeWriter;
+
+    @Autowired
+    public RecipeExportService(DataSource dataSource,
+                               PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper,
+                               @Value("${recipe.export.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        // PostgreSQL only honours the fetch size (instead of buffering the whole result) inside a transaction
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.recipeWriter = objectMapper.writerFor(RecipeResponse.class);
+    }
+
+    /**
+     * Writes every recipe to the given stream. A failing write (e.g. the client went away) aborts
+     * the query and is rethrown as the original IOException.
+     */
+    public void exportRecipes(OutputStream outputStream) throws IOException {
+        logger.info("Exporting the recipe catalog");
+        NdjsonRecipeWriter handler = new NdjsonRecipeWriter(outputStream);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.query(EXPORT_QUERY, handler);
+                handler.finish();
+            });
+        } catch (UncheckedIOException e) {
+            logger.info("Recipe export aborted after {} recipes: {}", handler.written, e.getCause().getMessage());
+            throw e.getCause();
+        }
+        logger.info("Exported {} recipes", handler.written);
+    }
+
+    /**
+     * Groups the joined rows back into recipes and writes each recipe as soon as its last row was seen
+     */
+    private class NdjsonRecipeWriter implements RowCallbackHandler {
+        private final OutputStream outputStream;
+        private Recipe current;
+        private long written;
+
+        private NdjsonRecipeWriter(OutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            int recipeId = rs.getInt("id");
+            if (current == null || current.getId() != recipeId) {
+                write(current);
+                current = toRecipe(rs);
+            }
+            int ingredientId = rs.getInt("ingredient_id");
+            if (!rs.wasNull()) {
+                current.getRecipeIngredients().add(toIngredient(rs, ingredientId));
+            }
+        }
+
+        private void finish() {
+            write(current);
+            current = null;
+            try {
+                outputStream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void write(Recipe recipe) {
+            if (recipe == null) {
+                return;
+            }
+            try {
+                outputStream.write(recipeWriter.writeValueAsBytes(new RecipeResponse(recipe)));
+                outputStream.write('\n');
+                if (++written % FLUSH_INTERVAL == 0) {
+                    outputStream.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static Recipe toRecipe(ResultSet rs) throws SQLException {
+        Recipe recipe = new Recipe();
+        recipe.setId(rs.getInt("id"));
+        recipe.setName(rs.getString("name"));
+        recipe.setInstructions(rs.getString("instructions"));
+        recipe.setType(rs.getString("type"));
+        recipe.setNumberOfServings(rs.getInt("number_of_servings"));
+        recipe.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        recipe.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+        recipe.setRecipeIngredients(new HashSet<>());
+        return recipe;
+    }
+
+    private static Ingredient toIngredient(ResultSet rs, int ingredientId) throws SQLException {
+        Ingredient ingredient = new Ingredient();
+        ingredient.setId(ingredientId);
+        ingredient.setIngredient(rs.getString("ingredient"));
+        ingredient.setCreatedAt(toLocalDateTime(rs.getTimestamp("ingredient_created_at")));
+        ingredient.setUpdatedAt(toLocalDateTime(rs.getTimestamp("ingredient_updated_at")));
+        return ingredient;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,160 @@
+package com.recipe.service;
+
+import com.recipe.config.MessageProvider;
+import com.recipe.exception.NotFoundException;
+import com.recipe.model.domain.request.PagedSearchRequest;
+import com.recipe.model.domain.response.MultiSearchItemResponse;
+import com.recipe.model.domain.response.MultiSearchResponse;
+import com.recipe.model.domain.response.RecipeResponse;
+import com.recipe.model.domain.response.SliceResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Runs several searches of one request concurrently on the bounded multi-search executor. Every search goes
+ * through {@link RecipeService#findSliceBySearchCriteria} in its own read-only transaction, so with its own
+ * connection, result cache and search index. A failing, rejected or timed out search is reported in its item
+ * and does not fail the others.
+ */
+@Service
+public class RecipeMultiSearchService {
+    private static final Logger logger = LoggerFactory.getLogger(RecipeMultiSearchService.class);
+
+    private final RecipeService recipeService;
+    private final MessageProvider messageProvider;
+    private final Validator validator;
+    private final Executor executor;
+    private final int maxSearches;
+    private final Duration timeout;
+
+    @Autowired
+    public RecipeMultiSearchService(RecipeService recipeService,
+                                    MessageProvider messageProvider,
+                                    Validator validator,
+                                    @Qualifier("multiSearchExecutor") Executor executor,
+                                    @Value("${recipe.msearch.max-searches:20}") int maxSearches,
+                                    @Value("${recipe.msearch.timeout:10s}") Duration timeout) {
+        this.recipeService = recipeService;
+        this.messageProvider = messageProvider;
+        this.validator = validator;
+        this.executor = executor;
+        this.maxSearches = maxSearches;
+        this.timeout = timeout;
+    }
+
+    public MultiSearchResponse search(List<PagedSearchRequest> requests) {
+        logger.info("Multi-search of {} searches", requests.size());
+        if (requests.size() > maxSearches) {
+            throw new IllegalArgumentException(messageProvider.getMessage("recipe.msearch.too.many", List.of(maxSearches)));
+        }
+
+        long started = System.nanoTime();
+        List<CompletableFuture<MultiSearchItemResponse>> searches = new ArrayList<>(requests.size());
+        for (int index = 0; index < requests.size(); index++) {
+            searches.add(submit(index, requests.get(index)));
+        }
+
+        // One deadline for the whole request rather than per search
+        long deadline = started + timeout.toNanos();
+        List<MultiSearchItemResponse> items = new ArrayList<>(requests.size());
+        for (int index = 0; index < searches.size(); index++) {
+            items.add(await(index, searches.get(index), deadline));
+        }
+
+        MultiSearchResponse response = new MultiSearchResponse(items, elapsedMillis(started));
+        logger.info("Multi-search completed - {} succeeded, {} failed in {} ms",
+                response.getSucceeded(), response.getFailed(), response.getTookMillis());
+        return response;
+    }
+
+    private CompletableFuture<MultiSearchItemResponse> submit(int index, PagedSearchRequest request) {
+        String error = validate(request);
+        if (error != null) {
+            return CompletableFuture.completedFuture(
+                    MultiSearchItemResponse.failed(index, HttpStatus.BAD_REQUEST.value(), error, 0));
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> run(index, request), executor);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Multi-search item {} rejected, the executor is saturated", index);
+            return CompletableFuture.completedFuture(MultiSearchItemResponse.failed(index,
+                    HttpStatus.SERVICE_UNAVAILABLE.value(), messageProvider.getMessage("recipe.msearch.busy"), 0));
+        }
+    }
+
+    private MultiSearchItemResponse run(int index, PagedSearchRequest request) {
+        long started = System.nanoTime();
+        try {
+            SliceResponse<RecipeResponse> result =
+                    recipeService.findSliceBySearchCriteria(request, request.getPage(), request.getSize());
+            return MultiSearchItemResponse.succeeded(index, result, elapsedMillis(started));
+        } catch (NotFoundException e) {
+            HttpStatus status = e.getStatus() == null ? HttpStatus.NOT_FOUND : e.getStatus();
+            return MultiSearchItemResponse.failed(index, status.value(), e.getMessage(), elapsedMillis(started));
+        } catch (IllegalArgumentException e) {
+            return MultiSearchItemResponse.failed(index, HttpStatus.BAD_REQUEST.value(), e.getMessage(),
+                    elapsedMillis(started));
+        } catch (RuntimeException e) {
+            logger.error("Multi-search item {} failed", index, e);
+            return MultiSearchItemResponse.failed(index, HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                    messageProvider.getMessage("error.internal.server.error"), elapsedMillis(started));
+        }
+    }
+
+    private MultiSearchItemResponse await(int index, CompletableFuture<MultiSearchItemResponse> search, long deadline) {
+        try {
+            return search.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Keeps a search that has not started yet from running; one already running finishes on its own
+            search.cancel(false);
+            logger.warn("Multi-search item {} timed out after {}", index, timeout);
+            return MultiSearchItemResponse.failed(index, HttpStatus.GATEWAY_TIMEOUT.value(),
+                    messageProvider.getMessage("recipe.msearch.timeout"), timeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            search.cancel(false);
+            return MultiSearchItemResponse.failed(index, HttpStatus.SERVICE_UNAVAILABLE.value(),
+                    messageProvider.getMessage("recipe.msearch.busy"), 0);
+        } catch (ExecutionException e) {
+            logger.error("Multi-search item {} failed", index, e.getCause());
+            return MultiSearchItemResponse.failed(index, HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                    messageProvider.getMessage("error.internal.server.error"), 0);
+        }
+    }
+
+    private String validate(PagedSearchRequest request) {
+        if (request == null) {
+            return messageProvider.getMessage("recipe.msearch.item.missing");
+        }
+        Set<ConstraintViolation<PagedSearchRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining(", "));
+        }
+        return null;
+    }
+
+    private static long elapsedMillis(long started) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+    }
+}
@@ -4,54 +4,98 @@ import com.recipe.model.domain.request.CreateRecipeRequest;
 import com.recipe.model.domain.request.RecipeSearchRequest;
 import com.recipe.model.domain.request.SearchCriteriaRequest;
 import com.recipe.model.domain.request.UpdateRecipeRequest;
+import com.recipe.model.domain.response.BatchGetResponse;
+import com.recipe.model.domain.response.CursorPageResponse;
 import com.recipe.model.domain.response.RecipeResponse;
+import com.recipe.model.domain.response.SliceResponse;
+import com.recipe.cache.RecipeCache;
+import com.recipe.cache.SearchResultCache;
+import com.recipe.config.DatabasePlatform;
 import com.recipe.config.MessageProvider;
 import com.recipe.config.MetricsConfig;
 import com.recipe.exception.NotFoundException;
+import com.recipe.index.RecipeSearchIndex;
 import com.recipe.mapper.RecipeMapper;
 import com.recipe.model.entity.Ingredient;
 import com.recipe.model.entity.Recipe;
+import com.recipe.model.projection.RecipeFields;
 import com.recipe.repository.RecipeRepository;
+import com.recipe.model.search.KeysetCursor;
 import com.recipe.model.search.RecipeSpecificationBuilder;
 import com.recipe.model.search.SearchCriteria;
+import com.recipe.model.search.SearchNode;
+import com.recipe.model.search.SearchNodeParser;
+import com.recipe.model.search.SearchQuery;
+import com.recipe.model.search.SearchTreeSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class RecipeService {
     private static final Logger logger = LoggerFactory.getLogger(RecipeService.class);
+    /**
+     * Upper bound of ids of one batch get; the ingredients are fetched in the same query, one row per ingredient
+     */
+    static final int MAX_BATCH_IDS = 100;
+
+    /**
+     * Order of search results on both the index and the database path; the id keeps equal names in a stable order
+     */
+    private static final Sort SEARCH_ORDER = Sort.by("name", "id");
 
     private final RecipeRepository recipeRepository;
     private final IngredientService ingredientService;
     private final MessageProvider messageProvider;
     private final MetricsConfig metricsConfig;
     private final RecipeMapper recipeMapper;
+    private final RecipeCache recipeCache;
+    private final SearchResultCache searchResultCache;
+    private final RecipeSearchIndex recipeSearchIndex;
+    private final DatabasePlatform databasePlatform;
+    private final SearchPlanner searchPlanner;
 
     @Autowired
     public RecipeService(RecipeRepository recipeRepository,
                          IngredientService ingredientService,
                          MessageProvider messageProvider,
                          MetricsConfig metricsConfig,
-                         RecipeMapper recipeMapper) {
+                         RecipeMapper recipeMapper,
+                         RecipeCache recipeCache,
+                         SearchResultCache searchResultCache,
+                         RecipeSearchIndex recipeSearchIndex,
+                         DatabasePlatform databasePlatform,
+                         SearchPlanner searchPlanner) {
         this.recipeRepository = recipeRepository;
         this.ingredientService = ingredientService;
         this.messageProvider = messageProvider;
         this.metricsConfig = metricsConfig;
         this.recipeMapper = recipeMapper;
+        this.recipeCache = recipeCache;
+        this.searchResultCache = searchResultCache;
+        this.recipeSearchIndex = recipeSearchIndex;
+        this.databasePlatform = databasePlatform;
+        this.searchPlanner = searchPlanner;
     }
 
     public Integer createRecipe(CreateRecipeRequest createRecipeRequest) {
@@ -61,12 +105,12 @@ public class RecipeService {
         Recipe recipe = recipeMapper.createRequestToRecipe(createRecipeRequest);
 
         // Set ingredients if provided
-        Set<Ingredient> ingredients = Optional.ofNullable(createRecipeRequest.getIngredientIds())
-                .map(ingredientService::getIngredientsByIds)
-                .orElse(null);
+        Set<Ingredient> ingredients = resolveIngredients(createRecipeRequest.getIngredientIds(),
+                createRecipeRequest.getIngredientNames());
         recipe.setRecipeIngredients(ingredients);
 
         Recipe createdRecipe = recipeRepository.save(recipe);
+        searchResultCache.invalidate();
         metricsConfig.getRecipeCreatedCounter().increment();
         logger.info("Recipe created with ID: {}", createdRecipe.getId());
 
@@ -89,12 +133,69 @@ public class RecipeService {
         }
     }
 
+    /**
+     * One page of recipes holding the given fields. A sparse fieldset is read as a projection of just its
+     * columns; all fields through the entities, with the instructions of the page read in one query.
+     */
+    @Transactional(readOnly = true)
+    public List<RecipeResponse> getRecipeList(int page, int size, RecipeFields fields) {
+        if (fields.isAll()) {
+            return toResponses(getRecipeList(page, size));
+        }
+        logger.debug("Fetching recipe list - page: {}, size: {}, fields: {}", page, size, fields.key());
+        try {
+            return metricsConfig.getRecipeRetrievalTimer().recordCallable(() ->
+                    recipeRepository.findProjectedPage(PageRequest.of(page, size), fields));
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid pagination parameters - page: {}, size: {}", page, size, e);
+            throw new IllegalArgumentException("Invalid page or size parameter", e);
+        } catch (Exception e) {
+            logger.error("Error fetching recipe list - page: {}, size: {}", page, size, e);
+            throw new RuntimeException("Failed to retrieve recipe list", e);
+        }
+    }
+
+    /**
+     * Keyset listing ordered by (name, id). Fetches one extra row to detect the next page,
+     * so no COUNT query and no OFFSET scan is needed however deep the client pages.
+     */
+    public CursorPageResponse<RecipeResponse> getRecipesAfter(String cursor, int size) {
+        logger.debug("Fetching recipe keyset page - cursor: {}, size: {}", cursor, size);
+        if (size < 1) {
+            throw new IllegalArgumentException("Invalid page or size parameter");
+        }
+        try {
+            return metricsConfig.getRecipeRetrievalTimer().recordCallable(() -> {
+                Pageable limit = PageRequest.of(0, size + 1);
+                List<Recipe> recipes = Optional.ofNullable(cursor)
+                        .map(KeysetCursor::decode)
+                        .map(position -> recipeRepository.findKeysetPageAfter(position.key(), position.id(), limit))
+                        .orElseGet(() -> recipeRepository.findFirstKeysetPage(limit));
+
+                boolean hasNext = recipes.size() > size;
+                List<Recipe> page = hasNext ? recipes.subList(0, size) : recipes;
+                String nextCursor = hasNext
+                        ? new KeysetCursor(page.get(size - 1).getName(), page.get(size - 1).getId()).encode()
+                        : null;
+
+                return new CursorPageResponse<>(toResponses(page), nextCursor);
+            });
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid keyset parameters - cursor: {}, size: {}", cursor, size, e);
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error fetching recipe keyset page - cursor: {}, size: {}", cursor, size, e);
+            throw new RuntimeException("Failed to retrieve recipe list", e);
+        }
+    }
+
     public Recipe getRecipeById(int id) {
         logger.debug("Fetching recipe by ID: {}", id);
         try {
             return metricsConfig.getRecipeRetrievalTimer().recordCallable(() ->
-                recipeRepository.findById(id)
-                        .orElseThrow(() -> new NotFoundException(messageProvider.getMessage("recipe.not.found")))
+                recipeCache.get(id, key -> recipeRepository.findWithIngredientsById(key)
+                        .map(RecipeService::withInstructions)
+                        .orElseThrow(() -> new NotFoundException(messageProvider.getMessage("recipe.not.found"))))
             );
         } catch (NotFoundException e) {
             logger.warn("Recipe not found with ID: {}", id);
@@ -105,6 +206,45 @@ public class RecipeService {
         }
     }
 
+    /**
+     * The recipe holding only the given fields, read as a projection of just their columns
+     */
+    @Transactional(readOnly = true)
+    public RecipeResponse getRecipeById(int id, RecipeFields fields) {
+        logger.debug("Fetching recipe by ID: {}, fields: {}", id, fields.key());
+        try {
+            return metricsConfig.getRecipeRetrievalTimer().recordCallable(() ->
+                    recipeRepository.findProjectedByIds(List.of(id), fields).stream()
+                            .findFirst()
+                            .orElseThrow(() -> new NotFoundException(messageProvider.getMessage("recipe.not.found"))));
+        } catch (NotFoundException e) {
+            logger.warn("Recipe not found with ID: {}", id);
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error fetching recipe by ID: {}", id, e);
+            throw new RuntimeException("Failed to retrieve recipe", e);
+        }
+    }
+
+    /**
+     * Loads the recipes of the given ids with their ingredients in one query and returns one item per id, in
+     * request order, marking the ids that do not exist
+     */
+    @Transactional(readOnly = true)
+    public BatchGetResponse<RecipeResponse> getRecipeBatch(List<Integer> ids) {
+        logger.debug("Fetching {} recipes by ID", ids.size());
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new IllegalArgumentException(messageProvider.getMessage("batch.ids.too.many", List.of(MAX_BATCH_IDS)));
+        }
+        List<Integer> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        Map<Integer, RecipeResponse> recipes = distinctIds.isEmpty() ? Map.of()
+                : toResponses(recipeRepository.findWithIngredientsByIdIn(distinctIds)).stream()
+                        .collect(Collectors.toMap(RecipeResponse::getId, Function.identity()));
+        BatchGetResponse<RecipeResponse> response = BatchGetResponse.of(ids, recipes);
+        logger.debug("Found {} of {} recipes", response.getFound(), ids.size());
+        return response;
+    }
+
     public void updateRecipe(UpdateRecipeRequest updateRecipeRequest) {
         logger.info("Updating recipe ID: {}", updateRecipeRequest.getId());
         Recipe recipe = recipeRepository.findById(updateRecipeRequest.getId())
@@ -114,14 +254,17 @@ public class RecipeService {
         recipeMapper.updateRequestToRecipe(updateRecipeRequest, recipe);
 
         // Set ingredients if provided
-        Set<Ingredient> ingredients = Optional.ofNullable(updateRecipeRequest.getIngredientIds())
-                .map(ingredientService::getIngredientsByIds)
-                .orElse(null);
+        Set<Ingredient> ingredients = resolveIngredients(updateRecipeRequest.getIngredientIds(),
+                updateRecipeRequest.getIngredientNames());
         if (Optional.ofNullable(ingredients).isPresent()) {
             recipe.setRecipeIngredients(ingredients);
         }
 
         recipeRepository.save(recipe);
+        // A change of ingredients alone does not update the recipe row, so no entity listener sees it
+        recipeSearchIndex.onSaved(recipe);
+        recipeCache.evict(recipe.getId());
+        searchResultCache.invalidate();
         metricsConfig.getRecipeUpdatedCounter().increment();
         logger.info("Recipe updated: {}", updateRecipeRequest.getId());
     }
@@ -133,32 +276,66 @@ public class RecipeService {
         }
 
         recipeRepository.deleteById(id);
+        recipeCache.evict(id);
+        searchResultCache.invalidate();
         metricsConfig.getRecipeDeletedCounter().increment();
         logger.info("Recipe deleted: {}", id);
     }
 
+    @Transactional(readOnly = true)
     public List<RecipeResponse> findBySearchCriteria(RecipeSearchRequest recipeSearchRequest, int page, int size) {
+        return findBySearchCriteria(recipeSearchRequest, page, size, RecipeFields.ALL);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RecipeResponse> findBySearchCriteria(RecipeSearchRequest recipeSearchRequest, int page, int size,
+                                                     RecipeFields fields) {
+        return findSliceBySearchCriteria(recipeSearchRequest, page, size, fields).getContent();
+    }
+
+    @Transactional(readOnly = true)
+    public SliceResponse<RecipeResponse> findSliceBySearchCriteria(RecipeSearchRequest recipeSearchRequest,
+                                                                   int page, int size) {
+        return findSliceBySearchCriteria(recipeSearchRequest, page, size, RecipeFields.ALL);
+    }
+
+    /**
+     * Runs the search as a slice: one query fetching size + 1 rows, no COUNT query.
+     * Clients that really need the total use {@link #countBySearchCriteria(RecipeSearchRequest)}.
+     * Searches run read-only, which also lets Hibernate skip dirty checking and flushing.
+     * With a sparse fieldset the page is read as a projection of the selected columns instead of entities.
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<RecipeResponse> findSliceBySearchCriteria(RecipeSearchRequest recipeSearchRequest,
+                                                                   int page, int size, RecipeFields fields) {
         logger.info("Searching recipes with criteria - page: {}, size: {}", page, size);
         try {
             return metricsConfig.getRecipeSearchTimer().recordCallable(() -> {
-                List<SearchCriteria> searchCriterionRequests = new ArrayList<>();
-                RecipeSpecificationBuilder builder = new RecipeSpecificationBuilder(searchCriterionRequests);
-                Pageable pageRequest = PageRequest.of(page, size, Sort.by("name").ascending());
-
-                Specification<Recipe> recipeSpecification = createRecipeSpecification(recipeSearchRequest, builder);
-                Page<Recipe> filteredRecipes = recipeRepository.findAll(recipeSpecification, pageRequest);
-
                 metricsConfig.getRecipeSearchCounter().increment();
-                logger.info("Search completed - found {} recipes", filteredRecipes.getTotalElements());
+                return searchResultCache.get(recipeSearchRequest, page, size, fields, () -> {
+                    Pageable pageRequest = PageRequest.of(page, size, SEARCH_ORDER);
 
-                return filteredRecipes.toList().stream()
-                        .map(RecipeResponse::new)
-                        .toList();
+                    // Text-only searches are matched by the in-memory index; the database orders and pages the ids
+                    Optional<List<Integer>> indexed = recipeSearchIndex.match(recipeSearchRequest);
+                    Slice<RecipeResponse> found;
+                    if (indexed.isPresent()) {
+                        found = indexed.get().isEmpty()
+                                ? new SliceImpl<>(List.of(), pageRequest, false)
+                                : findSliceByIds(indexed.get(), pageRequest, fields);
+                        logger.info("Search answered by the search index - found {} recipes, has next page: {}",
+                                found.getNumberOfElements(), found.hasNext());
+                    } else {
+                        found = findSlice(createSearchQuery(recipeSearchRequest), pageRequest, fields);
+                        logger.info("Search completed - found {} recipes, has next page: {}",
+                                found.getNumberOfElements(), found.hasNext());
+                    }
+                    return new SliceResponse<>(found.getContent(), page, size, found.hasNext());
+                });
             });
         } catch (NotFoundException e) {
             logger.warn("Search criteria not valid: {}", e.getMessage());
             throw e;
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | InvalidDataAccessApiUsageException e) {
             logger.error("Invalid search parameters - page: {}, size: {}", page, size, e);
             throw new IllegalArgumentException("Invalid pagination or search parameters", e);
         } catch (Exception e) {
@@ -167,19 +344,127 @@ public class RecipeService {
         }
     }
 
-    private Specification<Recipe> createRecipeSpecification(RecipeSearchRequest recipeSearchRequest,
-                                                            RecipeSpecificationBuilder builder) {
+    /**
+     * Opt-in total for a search; runs only the COUNT query
+     */
+    @Transactional(readOnly = true)
+    public long countBySearchCriteria(RecipeSearchRequest recipeSearchRequest) {
+        logger.info("Counting recipes with criteria");
+        try {
+            return metricsConfig.getRecipeSearchTimer().recordCallable(() -> {
+                Optional<Long> indexed = recipeSearchIndex.count(recipeSearchRequest);
+                if (indexed.isPresent()) {
+                    return indexed.get();
+                }
+                return recipeRepository.countSearch(createSearchQuery(recipeSearchRequest));
+            });
+        } catch (NotFoundException e) {
+            logger.warn("Search criteria not valid: {}", e.getMessage());
+            throw e;
+        } catch (IllegalArgumentException | InvalidDataAccessApiUsageException e) {
+            logger.error("Invalid count parameters", e);
+            throw new IllegalArgumentException("Invalid search parameters", e);
+        } catch (Exception e) {
+            logger.error("Error counting recipes with criteria", e);
+            throw new RuntimeException("Failed to count recipes", e);
+        }
+    }
+
+    /**
+     * Full responses of loaded recipes. Their entities leave the instructions unloaded, so those are read for
+     * all the recipes in one query instead of lazily one recipe at a time.
+     */
+    private List<RecipeResponse> toResponses(List<Recipe> recipes) {
+        if (recipes.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, String> instructions = new HashMap<>();
+        recipeRepository.findInstructionsByIdIn(recipes.stream().map(Recipe::getId).toList())
+                .forEach(row -> instructions.put(row.getId(), row.getInstructions()));
+        return recipes.stream()
+                .map(recipe -> new RecipeResponse(recipe, instructions.get(recipe.getId())))
+                .toList();
+    }
+
+    /**
+     * Loads the lazy instructions of a recipe that is cached and so read after its session is closed
+     */
+    private static Recipe withInstructions(Recipe recipe) {
+        recipe.getInstructions();
+        return recipe;
+    }
+
+    /**
+     * Same as {@link #toResponses(List)} for a slice
+     */
+    private Slice<RecipeResponse> toResponses(Slice<Recipe> recipes) {
+        return new SliceImpl<>(toResponses(recipes.getContent()), recipes.getPageable(), recipes.hasNext());
+    }
+
+    /**
+     * One slice of the recipes the index matched, as entities or as a projection of the fieldset
+     */
+    private Slice<RecipeResponse> findSliceByIds(List<Integer> ids, Pageable pageRequest, RecipeFields fields) {
+        return fields.isAll()
+                ? toResponses(recipeRepository.findByIdIn(ids, pageRequest))
+                : recipeRepository.findProjectedSliceByIds(ids, pageRequest, fields);
+    }
+
+    /**
+     * One slice of the search, as entities or as a projection of the fieldset
+     */
+    private Slice<RecipeResponse> findSlice(SearchQuery searchQuery, Pageable pageRequest, RecipeFields fields) {
+        return fields.isAll()
+                ? toResponses(recipeRepository.findSlice(searchQuery, pageRequest))
+                : recipeRepository.findSlice(searchQuery, pageRequest, fields);
+    }
+
+    /**
+     * The planned criteria of the request, or its nested query, as a search the repository runs through the
+     * compiled query of its shape
+     */
+    private SearchQuery createSearchQuery(RecipeSearchRequest recipeSearchRequest) {
+        if (recipeSearchRequest.getQuery() != null) {
+            if (recipeSearchRequest.getSearchCriteriaRequests() != null
+                    && !recipeSearchRequest.getSearchCriteriaRequests().isEmpty()) {
+                throw new IllegalArgumentException("Search with either criteria or a query, not both");
+            }
+            SearchNode tree = SearchNodeParser.parse(recipeSearchRequest.getQuery());
+            logger.debug("Search query parsed as {}", tree);
+            return SearchTreeSpecification.searchQuery(tree, databasePlatform);
+        }
+
+        RecipeSpecificationBuilder builder = new RecipeSpecificationBuilder(new ArrayList<>(), databasePlatform);
         List<SearchCriteriaRequest> searchCriteriaRequests = recipeSearchRequest.getSearchCriteriaRequests();
 
         if (searchCriteriaRequests != null && !searchCriteriaRequests.isEmpty()) {
-            recipeSearchRequest.getSearchCriteriaRequests().stream()
+            List<SearchCriteria> criteria = searchCriteriaRequests.stream()
                     .map(SearchCriteria::new)
-                    .peek(criteria -> criteria.setDataOption(recipeSearchRequest.getDataOption()))
-                    .forEach(builder::with);
+                    .peek(searchCriteria -> searchCriteria.setDataOption(recipeSearchRequest.getDataOption()))
+                    .toList();
+            searchPlanner.plan(criteria, recipeSearchRequest.getDataOption()).forEach(builder::with);
         }
 
         return builder
-                .build()
+                .buildQuery()
                 .orElseThrow(() -> new NotFoundException(messageProvider.getMessage("criteria.not.found")));
     }
+
+    /**
+     * Combines the ingredients referenced by id (which must exist) and by name (created when missing).
+     * Returns null when the request names no ingredients at all.
+     */
+    private Set<Ingredient> resolveIngredients(List<Integer> ingredientIds, List<String> ingredientNames) {
+        if (ingredientIds == null && ingredientNames == null) {
+            return null;
+        }
+        Set<Ingredient> ingredients = new HashSet<>();
+        if (ingredientIds != null) {
+            ingredients.addAll(ingredientService.getIngredientsByIds(ingredientIds));
+        }
+        if (ingredientNames != null) {
+            ingredients.addAll(ingredientService.getOrCreateIngredients(ingredientNames));
+        }
+        return ingredients;
+    }
 }
@@ -0,0 +1,213 @@
+package com.recipe.service;
+
+import com.recipe.config.DatabaseAttributes;
+import com.recipe.config.MetricsConfig;
+import com.recipe.model.search.DataOption;
+import com.recipe.model.search.RecipeSpecificationBuilder;
+import com.recipe.model.search.SearchCriteria;
+import com.recipe.model.search.SearchOperation;
+import com.recipe.model.search.SearchStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Orders search criteria before {@link RecipeSpecificationBuilder} chains them. With dataOption=all the criteria
+ * are sorted by estimated selectivity (then by cost), so the most restrictive cheap predicate comes first;
+ * with any the request order is kept. Estimates come from {@link SearchStatisticsProvider}; until statistics are
+ * loaded, or when they are unavailable, the request is used as is.
+ */
+@Component
+public class SearchPlanner {
+    private static final Logger logger = LoggerFactory.getLogger(SearchPlanner.class);
+
+    // Guesses for text predicates the statistics know nothing about
+    private static final double CONTAINS_SELECTIVITY = 0.1;
+    private static final double FULL_TEXT_SELECTIVITY = 0.05;
+    private static final double PREFIX_SELECTIVITY = 0.02;
+    private static final double TIMESTAMP_RANGE_SELECTIVITY = 0.3;
+
+    private final SearchStatisticsProvider statisticsProvider;
+    private final MetricsConfig metricsConfig;
+    private final boolean enabled;
+
+    public SearchPlanner(SearchStatisticsProvider statisticsProvider,
+                         MetricsConfig metricsConfig,
+                         @Value("${recipe.search.planner.enabled:true}") boolean enabled) {
+        this.statisticsProvider = statisticsProvider;
+        this.metricsConfig = metricsConfig;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the criteria in execution order
+     */
+    public List<SearchCriteria> plan(List<SearchCriteria> criteria, String dataOption) {
+        if (!enabled || criteria.isEmpty()) {
+            return criteria;
+        }
+        // Several criteria without a valid data option are rejected by the builder; leave them untouched
+        Optional<DataOption> option = Optional.ofNullable(dataOption).flatMap(DataOption::getDataOption);
+        if (criteria.size() > 1 && option.isEmpty()) {
+            return criteria;
+        }
+
+        long start = System.nanoTime();
+        try {
+            SearchStatistics statistics = statisticsProvider.current();
+            if (statistics.recipeCount() == 0) {
+                return criteria;
+            }
+            boolean conjunctive = criteria.size() == 1 || option.get() == DataOption.ALL;
+
+            List<PlannedCriteria> planned = criteria.stream()
+                    .map(searchCriteria -> new PlannedCriteria(searchCriteria, selectivity(searchCriteria, statistics),
+                            cost(searchCriteria)))
+                    .collect(Collectors.toCollection(ArrayList::new));
+            if (conjunctive) {
+                planned.sort(Comparator.comparingDouble(PlannedCriteria::selectivity)
+                        .thenComparingInt(PlannedCriteria::cost));
+            }
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("Search plan ({} recipes, {}): {}", statistics.recipeCount(),
+                        conjunctive ? "all" : "any", planned);
+            }
+            return planned.stream().map(PlannedCriteria::criteria).toList();
+        } catch (RuntimeException e) {
+            logger.warn("Search planning failed, using the request order: {}", e.getMessage());
+            return criteria;
+        } finally {
+            metricsConfig.getRecipeSearchPlanningTimer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Estimated share of recipes the criterion keeps, between 0 and 1
+     */
+    double selectivity(SearchCriteria criteria, SearchStatistics statistics) {
+        Optional<SearchOperation> operation = Optional.ofNullable(criteria.getOperation())
+                .flatMap(SearchOperation::getOperation);
+        if (operation.isEmpty() || criteria.getValue() == null || criteria.getFilterKey() == null) {
+            return 1;
+        }
+        if (operation.get() == SearchOperation.IN && criteria.getValue() instanceof List<?> values) {
+            // Estimated as one equality per value, adding up their shares
+            double matching = values.stream()
+                    .filter(Objects::nonNull)
+                    .mapToDouble(element -> selectivity(new SearchCriteria(criteria.getFilterKey(), "eq", element),
+                            statistics))
+                    .sum();
+            return Math.min(1, matching);
+        }
+        double total = Math.max(statistics.recipeCount(), 1);
+        String value = criteria.getValue().toString().toLowerCase(Locale.ROOT);
+        boolean substring = operation.get() == SearchOperation.CONTAINS || operation.get() == SearchOperation.DOES_NOT_CONTAIN;
+        boolean prefix = operation.get() == SearchOperation.STARTS_WITH;
+        Predicate<String> matches = substring ? key -> key.contains(value)
+                : prefix ? key -> key.startsWith(value)
+                : key -> key.equals(value);
+
+        double matching = switch (criteria.getFilterKey()) {
+            case "type" -> share(statistics.typeCounts(), matches, total);
+            case "numberOfServings" -> operation.get().isRange()
+                    ? servingsRangeShare(statistics.servingsHistogram(), operation.get(), criteria.getValue(), total)
+                    : share(statistics.servingsHistogram(), matches, total);
+            case "createdAt", "updatedAt" -> operation.get().isRange() ? TIMESTAMP_RANGE_SELECTIVITY : 1 / total;
+            case DatabaseAttributes.INGREDIENT_KEY -> share(statistics.ingredientFrequency(), matches, total);
+            case "name", DatabaseAttributes.INSTRUCTIONS_KEY -> operation.get() == SearchOperation.FULL_TEXT
+                    ? FULL_TEXT_SELECTIVITY
+                    : substring ? CONTAINS_SELECTIVITY
+                    : prefix ? PREFIX_SELECTIVITY : 1 / total;
+            default -> 1;
+        };
+        matching = Math.min(1, matching);
+        return isPositive(criteria) ? matching : 1 - matching;
+    }
+
+    private static double share(Map<?, Long> counts, Predicate<String> matches, double total) {
+        long matching = counts.entrySet().stream()
+                .filter(entry -> matches.test(entry.getKey().toString()))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+        return matching / total;
+    }
+
+    private static double servingsRangeShare(Map<Integer, Long> histogram, SearchOperation operation, Object value,
+                                             double total) {
+        int low = Integer.MIN_VALUE;
+        int high = Integer.MAX_VALUE;
+        try {
+            switch (operation) {
+                case GREATER_THAN -> low = servings(value) + 1;
+                case GREATER_THAN_OR_EQUAL -> low = servings(value);
+                case LESS_THAN -> high = servings(value) - 1;
+                case LESS_THAN_OR_EQUAL -> high = servings(value);
+                case BETWEEN -> {
+                    List<?> bounds = (List<?>) value;
+                    low = servings(bounds.get(0));
+                    high = servings(bounds.get(1));
+                }
+                default -> {
+                }
+            }
+        } catch (RuntimeException e) {
+            // Rejected later by the comparison filter; no estimate
+            return 1;
+        }
+        int from = low;
+        int to = high;
+        long matching = histogram.entrySet().stream()
+                .filter(entry -> entry.getKey() >= from && entry.getKey() <= to)
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+        return matching / total;
+    }
+
+    private static int servings(Object value) {
+        return Integer.parseInt(value.toString().trim());
+    }
+
+    /**
+     * Relative cost of evaluating the criterion per row, used to break selectivity ties
+     */
+    private static int cost(SearchCriteria criteria) {
+        if (DatabaseAttributes.INGREDIENT_KEY.equals(criteria.getFilterKey())) {
+            return 3;
+        }
+        // Text matching reads the column value of every candidate row; comparisons can use a B-tree index
+        return Optional.ofNullable(criteria.getOperation())
+                .flatMap(SearchOperation::getOperation)
+                .filter(operation -> operation == SearchOperation.EQUAL || operation == SearchOperation.NOT_EQUAL
+                        || operation == SearchOperation.IN || operation == SearchOperation.STARTS_WITH
+                        || operation.isRange())
+                .isPresent() ? 1 : 2;
+    }
+
+    private static boolean isPositive(SearchCriteria criteria) {
+        return Optional.ofNullable(criteria.getOperation())
+                .flatMap(SearchOperation::getOperation)
+                .filter(operation -> operation != SearchOperation.DOES_NOT_CONTAIN
+                        && operation != SearchOperation.NOT_EQUAL)
+                .isPresent();
+    }
+
+    private record PlannedCriteria(SearchCriteria criteria, double selectivity, int cost) {
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%s (selectivity %.4f)", criteria, selectivity);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.recipe.service;
+
+import com.recipe.model.search.SearchStatistics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Collects {@link SearchStatistics} with three GROUP BY queries. The snapshot is loaded in the background once
+ * the application is up and reloaded every {@code recipe.search.planner.statistics-refresh}; searches never wait
+ * for it. Until the first load completes they get {@link SearchStatistics#empty()}, and a failed reload keeps the
+ * previous snapshot.
+ */
+@Component
+public class SearchStatisticsProvider {
+    private static final Logger logger = LoggerFactory.getLogger(SearchStatisticsProvider.class);
+
+    private static final String TYPE_COUNTS_QUERY =
+            "select type, count(*) as recipes from recipes group by type";
+    private static final String SERVINGS_HISTOGRAM_QUERY =
+            "select number_of_servings, count(*) as recipes from recipes group by number_of_servings";
+    private static final String INGREDIENT_FREQUENCY_QUERY = """
+            select i.ingredient, count(*) as recipes
+            from recipe_ingredient ri
+            join ingredients i on i.id = ri.ingredient_id
+            group by i.ingredient""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration refreshInterval;
+    private final AtomicReference<SearchStatistics> snapshot = new AtomicReference<>(SearchStatistics.empty());
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "search-statistics-load");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SearchStatisticsProvider(DataSource dataSource,
+                                    @Value("${recipe.search.planner.statistics-refresh:5m}") Duration refreshInterval) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.refreshInterval = refreshInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * The latest snapshot, without querying the database
+     */
+    public SearchStatistics current() {
+        return snapshot.get();
+    }
+
+    public void refresh() {
+        try {
+            snapshot.set(load());
+        } catch (RuntimeException e) {
+            logger.error("Loading search statistics failed, searches keep using the previous snapshot", e);
+        }
+    }
+
+    private SearchStatistics load() {
+        long start = System.nanoTime();
+        long[] recipeCount = {0};
+        Map<String, Long> typeCounts = new HashMap<>();
+        jdbcTemplate.query(TYPE_COUNTS_QUERY, (RowCallbackHandler) rs -> {
+            long recipes = rs.getLong("recipes");
+            recipeCount[0] += recipes;
+            lowerCase(rs.getString("type")).ifPresent(type -> typeCounts.merge(type, recipes, Long::sum));
+        });
+
+        Map<Integer, Long> servingsHistogram = new HashMap<>();
+        jdbcTemplate.query(SERVINGS_HISTOGRAM_QUERY, (RowCallbackHandler) rs ->
+                servingsHistogram.put(rs.getInt("number_of_servings"), rs.getLong("recipes")));
+
+        Map<String, Long> ingredientFrequency = new HashMap<>();
+        jdbcTemplate.query(INGREDIENT_FREQUENCY_QUERY, (RowCallbackHandler) rs -> {
+            long recipes = rs.getLong("recipes");
+            lowerCase(rs.getString("ingredient")).ifPresent(name -> ingredientFrequency.merge(name, recipes, Long::sum));
+        });
+
+        logger.debug("Loaded search statistics for {} recipes and {} ingredients in {} ms", recipeCount[0],
+                ingredientFrequency.size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+        return new SearchStatistics(recipeCount[0], Map.copyOf(typeCounts), Map.copyOf(servingsHistogram),
+                Map.copyOf(ingredientFrequency));
+    }
+
+    private static Optional<String> lowerCase(String value) {
+        return Optional.ofNullable(value).map(text -> text.toLowerCase(Locale.ROOT));
+    }
+}
@@ -114,6 +114,21 @@ public class IngredientIT extends AbstractIT {
         assertEquals(savedIngredient.getIngredient(), ingredientResponse.getName());
     }
 
+    @Test
+    public void test_findIngredientsByIds_inRequestOrder() throws Exception {
+        List<Ingredient> saved = ingredientRepository.saveAll(IngredientTestDataBuilder.createIngredientList());
+        Ingredient first = saved.get(0);
+        Ingredient second = saved.get(1);
+
+        performGet("/api/v1/ingredient?ids=" + second.getId() + ",-1," + first.getId())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found").value(2))
+                .andExpect(jsonPath("$.missing[0]").value(-1))
+                .andExpect(jsonPath("$.items[0].item.name").value(second.getIngredient()))
+                .andExpect(jsonPath("$.items[1].found").value(false))
+                .andExpect(jsonPath("$.items[2].item.id").value(first.getId()));
+    }
+
     @Test
     public void test_findIngredientById_fails() throws Exception {
 
@@ -129,4 +144,12 @@ public class IngredientIT extends AbstractIT {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message").exists());
     }
+
+    @Test
+    public void test_scrollIngredients_sizeTooLarge() throws Exception {
+
+        performGet("/api/v1/ingredient/scroll?size=" + Integer.MAX_VALUE)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").exists());
+    }
 }
@@ -1,8 +1,14 @@
 package com.recipe.integration;
 
+import com.recipe.cache.RecipeCache;
+import com.recipe.cache.SearchResultCache;
+import com.recipe.index.RecipeIndexBuilder;
+import com.recipe.index.RecipeSearchIndex;
 import com.recipe.model.domain.request.CreateRecipeRequest;
+import com.recipe.model.domain.request.PagedSearchRequest;
 import com.recipe.model.domain.request.RecipeSearchRequest;
 import com.recipe.model.domain.request.SearchCriteriaRequest;
+import com.recipe.model.domain.request.SearchNodeRequest;
 import com.recipe.model.domain.response.RecipeResponse;
 import com.recipe.model.entity.Ingredient;
 import com.recipe.model.entity.Recipe;
@@ -10,6 +16,7 @@ import com.recipe.repository.IngredientRepository;
 import com.recipe.repository.RecipeRepository;
 import com.recipe.unit.model.builder.IngredientTestDataBuilder;
 import com.recipe.unit.model.builder.RecipeTestDataBuilder;
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -21,10 +28,16 @@ import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WithMockUser
@@ -35,9 +48,40 @@ public class RecipeIT extends AbstractIT {
     @Autowired
     private IngredientRepository ingredientRepository;
 
+    @Autowired
+    private RecipeCache recipeCache;
+
+    @Autowired
+    private SearchResultCache searchResultCache;
+
+    @Autowired
+    private RecipeSearchIndex recipeSearchIndex;
+
+    @Autowired
+    private RecipeIndexBuilder recipeIndexBuilder;
+
     @Before
     public void before() {
         recipeRepository.deleteAll();
+        // Ingredient names are unique, so tests saving the same ingredient must not see each other's
+        ingredientRepository.deleteAll();
+        // Test data is written through the repository, bypassing the service-level invalidation
+        recipeCache.evictAll();
+        searchResultCache.invalidate();
+    }
+
+    @After
+    public void after() {
+        // The in-memory database is shared with the repository tests, which count the recipes they saved
+        recipeRepository.deleteAll();
+        ingredientRepository.deleteAll();
+    }
+
+    /**
+     * The instructions are lazy, so a recipe read outside a transaction cannot load them; they get their own query
+     */
+    private String instructionsOf(int id) {
+        return recipeRepository.findInstructionsByIdIn(List.of(id)).getFirst().getInstructions();
     }
 
     @Test
@@ -76,17 +120,35 @@ public class RecipeIT extends AbstractIT {
                 .andExpect(jsonPath("$.message").exists());
     }
 
+    @Test
+    public void test_getRecipes_byIdsInRequestOrder() throws Exception {
+        Recipe first = recipeRepository.save(RecipeTestDataBuilder.createRecipe());
+        Recipe soup = RecipeTestDataBuilder.createRecipe();
+        soup.setName("soup");
+        Recipe second = recipeRepository.save(soup);
+        int missingId = second.getId() + 1000;
+
+        performGet("/api/v1/recipe?ids=" + second.getId() + "," + missingId + "," + first.getId())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found").value(2))
+                .andExpect(jsonPath("$.missing[0]").value(missingId))
+                .andExpect(jsonPath("$.items[0].id").value(second.getId()))
+                .andExpect(jsonPath("$.items[0].item.name").value(second.getName()))
+                .andExpect(jsonPath("$.items[1].found").value(false))
+                .andExpect(jsonPath("$.items[1].item").doesNotExist())
+                .andExpect(jsonPath("$.items[2].item.id").value(first.getId()));
+    }
+
     @Test
     public void test_listRecipe_successfully() throws Exception {
+        // Ids are left to the sequence; preset ones can collide with ids generated in earlier tests
         Recipe recipe1 = new Recipe();
-        recipe1.setId(5);
         recipe1.setName("name1");
         recipe1.setInstructions("Ins1");
         recipe1.setType("VEGETARIAN");
         recipe1.setNumberOfServings(2);
 
         Recipe recipe2 = new Recipe();
-        recipe2.setId(6);
         recipe2.setName("name2");
         recipe2.setInstructions("Ins2");
         recipe2.setType("NON_VEGETARIAN");
@@ -130,7 +192,7 @@ public class RecipeIT extends AbstractIT {
         assertTrue(updatedRecipe.isPresent());
         assertEquals(savedRecipe.getName(), updatedRecipe.get().getName());
         assertEquals(savedRecipe.getNumberOfServings(), updatedRecipe.get().getNumberOfServings());
-        assertEquals(savedRecipe.getInstructions(), updatedRecipe.get().getInstructions());
+        assertEquals(savedRecipe.getInstructions(), instructionsOf(savedRecipe.getId()));
     }
 
     @Test
@@ -146,6 +208,16 @@ public class RecipeIT extends AbstractIT {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    public void test_scrollRecipes_sizeOutOfRange() throws Exception {
+        performGet("/api/v1/recipe/scroll?size=" + Integer.MAX_VALUE)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("The size can be 1000 at maximum."));
+
+        performGet("/api/v1/recipe/scroll?size=0")
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     public void test_updateRecipe_notFound() throws Exception {
         Recipe testRecipe = RecipeTestDataBuilder.createRecipe(1);
@@ -215,10 +287,351 @@ public class RecipeIT extends AbstractIT {
         assertFalse(listRecipeList.isEmpty());
         Assert.assertTrue(optionalRecipe.isPresent());
         Assert.assertEquals(listRecipeList.getFirst().getName(), optionalRecipe.get().getName());
-        Assert.assertEquals(listRecipeList.getFirst().getInstructions(), optionalRecipe.get().getInstructions());
+        Assert.assertEquals(listRecipeList.getFirst().getInstructions(), instructionsOf(id));
         Assert.assertEquals(listRecipeList.getFirst().getNumberOfServings(), optionalRecipe.get().getNumberOfServings());
     }
 
+    @Test
+    public void test_searchRecipeByFullText_ordersByRelevance() throws Exception {
+        performPost("/api/v1/recipe", new CreateRecipeRequest("zucchini bread",
+                "VEGETARIAN", 4, null, "Bake the crust. Bake the filling. Serve warm."))
+                .andExpect(status().isCreated());
+        performPost("/api/v1/recipe", new CreateRecipeRequest("baked potatoes",
+                "VEGETARIAN", 2, null, "Wash the potatoes and bake them."))
+                .andExpect(status().isCreated());
+        performPost("/api/v1/recipe", new CreateRecipeRequest("pasta",
+                "VEGETARIAN", 2, null, "Boil the pasta."))
+                .andExpect(status().isCreated());
+
+        RecipeSearchRequest request = new RecipeSearchRequest(
+                List.of(new SearchCriteriaRequest("instructions", "baking", "fts")), "ALL");
+
+        MvcResult result = performPost("/api/v1/recipe/search", request)
+                .andExpect(status().isOk())
+                .andReturn();
+
+        List<RecipeResponse> recipes = getListFromMvcResult(result, RecipeResponse.class);
+        assertEquals(List.of("zucchini bread", "baked potatoes"), recipes.stream().map(RecipeResponse::getName).toList());
+    }
+
+    @Test
+    public void test_searchRecipeByNestedQuery_ranksOnlyRequiredFullText() throws Exception {
+        performPost("/api/v1/recipe", new CreateRecipeRequest("zucchini bread",
+                "VEGETARIAN", 4, null, "Bake the crust. Bake the filling. Serve warm."))
+                .andExpect(status().isCreated());
+        performPost("/api/v1/recipe", new CreateRecipeRequest("baked potatoes",
+                "VEGETARIAN", 2, null, "Wash the potatoes and bake them."))
+                .andExpect(status().isCreated());
+        performPost("/api/v1/recipe", new CreateRecipeRequest("apple salad",
+                "VEGETARIAN", 2, null, "Slice the apples."))
+                .andExpect(status().isCreated());
+
+        RecipeSearchRequest required = new RecipeSearchRequest(SearchNodeRequest.all(
+                new SearchNodeRequest("type", "vegetarian", "eq"),
+                new SearchNodeRequest("instructions", "baking", "fts")));
+        MvcResult result = performPost("/api/v1/recipe/search", required)
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(List.of("zucchini bread", "baked potatoes"),
+                getListFromMvcResult(result, RecipeResponse.class).stream().map(RecipeResponse::getName).toList());
+
+        // An optional full-text condition does not rank, the results keep the name order
+        RecipeSearchRequest optional = new RecipeSearchRequest(SearchNodeRequest.any(
+                new SearchNodeRequest("instructions", "baking", "fts"),
+                new SearchNodeRequest("name", "apple", "sw")));
+        result = performPost("/api/v1/recipe/search", optional)
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(List.of("apple salad", "baked potatoes", "zucchini bread"),
+                getListFromMvcResult(result, RecipeResponse.class).stream().map(RecipeResponse::getName).toList());
+    }
+
+    @Test
+    public void test_readRecipes_withSparseFieldsets() throws Exception {
+        Integer rice = ingredientRepository.save(IngredientTestDataBuilder.createIngredientWithNameParam("Arborio")).getId();
+        MvcResult created = performPost("/api/v1/recipe", new CreateRecipeRequest("risotto",
+                "VEGETARIAN", 2, List.of(rice), "Stir the rice."))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Integer id = readByJsonPath(created, "$.id");
+
+        performGet("/api/v1/recipe/" + id + "?fields=name,type")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(id))
+                .andExpect(jsonPath("$.name").value("risotto"))
+                .andExpect(jsonPath("$.type").value("VEGETARIAN"))
+                .andExpect(jsonPath("$.instructions").doesNotExist())
+                .andExpect(jsonPath("$.numberOfServings").doesNotExist())
+                .andExpect(jsonPath("$.ingredients").doesNotExist());
+
+        performGet("/api/v1/recipe/page/0/size/10?fields=name,ingredients")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("risotto"))
+                .andExpect(jsonPath("$[0].ingredients[0].name").value("Arborio"))
+                .andExpect(jsonPath("$[0].instructions").doesNotExist());
+
+        // The type criterion keeps the search on the database rather than the in-memory index
+        RecipeSearchRequest request = new RecipeSearchRequest(List.of(
+                new SearchCriteriaRequest("type", "VEGETARIAN", "eq")), "ALL");
+        performPost("/api/v1/recipe/search/slice?fields=numberOfServings", request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(id))
+                .andExpect(jsonPath("$.content[0].numberOfServings").value(2))
+                .andExpect(jsonPath("$.content[0].name").doesNotExist());
+
+        performGet("/api/v1/recipe/" + id + "?fields=calories")
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void test_searchRecipeByIngredients_allOfAndNotContaining() throws Exception {
+        Integer saffron = ingredientRepository.save(IngredientTestDataBuilder.createIngredientWithNameParam("Saffron")).getId();
+        Integer rice = ingredientRepository.save(IngredientTestDataBuilder.createIngredientWithNameParam("Rice")).getId();
+        Integer chili = ingredientRepository.save(IngredientTestDataBuilder.createIngredientWithNameParam("Chili")).getId();
+
+        performPost("/api/v1/recipe", new CreateRecipeRequest("paella",
+                "VEGETARIAN", 4, List.of(saffron, rice, chili), "someInstruction"))
+                .andExpect(status().isCreated());
+        performPost("/api/v1/recipe", new CreateRecipeRequest("risotto",
+                "VEGETARIAN", 2, List.of(saffron, rice), "someInstruction"))
+                .andExpect(status().isCreated());
+        performPost("/api/v1/recipe", new CreateRecipeRequest("rice pudding",
+                "VEGETARIAN", 2, List.of(rice), "someInstruction"))
+                .andExpect(status().isCreated());
+        performPost("/api/v1/recipe", new CreateRecipeRequest("plain soup",
+                "VEGETARIAN", 2, null, "someInstruction"))
+                .andExpect(status().isCreated());
+
+        // The type criterion keeps these searches on the database rather than the in-memory index
+        RecipeSearchRequest allOf = new RecipeSearchRequest(List.of(
+                new SearchCriteriaRequest("type", "VEGETARIAN", "eq"),
+                new SearchCriteriaRequest("ingredient", "saffron", "eq"),
+                new SearchCriteriaRequest("ingredient", "ric", "cn")), "ALL");
+        MvcResult result = performPost("/api/v1/recipe/search", allOf)
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(Set.of("paella", "risotto"), names(getListFromMvcResult(result, RecipeResponse.class)));
+
+        RecipeSearchRequest withoutChili = new RecipeSearchRequest(List.of(
+                new SearchCriteriaRequest("type", "VEGETARIAN", "eq"),
+                new SearchCriteriaRequest("ingredient", "chili", "nc")), "ALL");
+        result = performPost("/api/v1/recipe/search", withoutChili)
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(Set.of("risotto", "rice pudding", "plain soup"),
+                names(getListFromMvcResult(result, RecipeResponse.class)));
+    }
+
+    @Test
+    public void test_searchRecipeByServingsRange() throws Exception {
+        // Recipe names may not contain digits
+        Map<Integer, String> servingsInWords = Map.of(2, "two", 4, "four", 6, "six", 12, "twelve");
+        for (Map.Entry<Integer, String> servings : servingsInWords.entrySet()) {
+            performPost("/api/v1/recipe", new CreateRecipeRequest("stew for " + servings.getValue(),
+                    "VEGETARIAN", servings.getKey(), null, "someInstruction"))
+                    .andExpect(status().isCreated());
+        }
+
+        RecipeSearchRequest between = new RecipeSearchRequest(List.of(
+                new SearchCriteriaRequest("numberOfServings", List.of(3, 10), "between")), "ALL");
+        MvcResult result = performPost("/api/v1/recipe/search", between)
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(Set.of("stew for four", "stew for six"), names(getListFromMvcResult(result, RecipeResponse.class)));
+
+        // 12 sorts before 4 as a string; compared as a number it does not
+        RecipeSearchRequest atLeastFive = new RecipeSearchRequest(List.of(
+                new SearchCriteriaRequest("numberOfServings", 5, "gte"),
+                new SearchCriteriaRequest("createdAt", "2000-01-01", "gt")), "ALL");
+        result = performPost("/api/v1/recipe/search", atLeastFive)
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(Set.of("stew for six", "stew for twelve"), names(getListFromMvcResult(result, RecipeResponse.class)));
+    }
+
+    @Test
+    public void test_searchRecipeByRange_onTextFails() throws Exception {
+        RecipeSearchRequest request = new RecipeSearchRequest(List.of(
+                new SearchCriteriaRequest("name", "pasta", "gt")), "ALL");
+
+        performPost("/api/v1/recipe/search", request)
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void test_searchRecipeByIn() throws Exception {
+        Integer basil = ingredientRepository.save(IngredientTestDataBuilder.createIngredientWithNameParam("Basil")).getId();
+        Integer thyme = ingredientRepository.save(IngredientTestDataBuilder.createIngredientWithNameParam("Thyme")).getId();
+
+        performPost("/api/v1/recipe", new CreateRecipeRequest("pesto",
+                "VEGETARIAN", 2, List.of(basil), "someInstruction"))
+                .andExpect(status().isCreated());
+        performPost("/api/v1/recipe", new CreateRecipeRequest("roast chicken",
+                "NON_VEGETARIAN", 4, List.of(thyme), "someInstruction"))
+                .andExpect(status().isCreated());
+        performPost("/api/v1/recipe", new CreateRecipeRequest("steak",
+                "NON_VEGETARIAN", 1, null, "someInstruction"))
+                .andExpect(status().isCreated());
+
+        RecipeSearchRequest inList = new RecipeSearchRequest(List.of(
+                new SearchCriteriaRequest("ingredient", List.of("basil", "THYME", "sage"), "in"),
+                new SearchCriteriaRequest("type", List.of("vegetarian", "non_vegetarian"), "in")), "ALL");
+        MvcResult result = performPost("/api/v1/recipe/search", inList)
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(Set.of("pesto", "roast chicken"), names(getListFromMvcResult(result, RecipeResponse.class)));
+
+        // An OR chain of eq criteria on one key is folded into the same IN
+        RecipeSearchRequest anyServings = new RecipeSearchRequest(List.of(
+                new SearchCriteriaRequest("numberOfServings", 1, "eq"),
+                new SearchCriteriaRequest("numberOfServings", "2", "eq")), "ANY");
+        result = performPost("/api/v1/recipe/search", anyServings)
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(Set.of("pesto", "steak"), names(getListFromMvcResult(result, RecipeResponse.class)));
+    }
+
+    @Test
+    public void test_searchRecipeByPrefix() throws Exception {
+        Integer tomatoSauce = ingredientRepository.save(IngredientTestDataBuilder.createIngredientWithNameParam("Tomato_sauce")).getId();
+        Integer tomatoes = ingredientRepository.save(IngredientTestDataBuilder.createIngredientWithNameParam("Tomatoes")).getId();
+
+        performPost("/api/v1/recipe", new CreateRecipeRequest("Pasta al pomodoro",
+                "VEGETARIAN", 2, List.of(tomatoSauce), "someInstruction"))
+                .andExpect(status().isCreated());
+        performPost("/api/v1/recipe", new CreateRecipeRequest("pastry",
+                "VEGETARIAN", 2, null, "someInstruction"))
+                .andExpect(status().isCreated());
+        performPost("/api/v1/recipe", new CreateRecipeRequest("antipasta",
+                "VEGETARIAN", 2, List.of(tomatoes), "someInstruction"))
+                .andExpect(status().isCreated());
+
+        RecipeSearchRequest byName = new RecipeSearchRequest(List.of(
+                new SearchCriteriaRequest("name", "PAST", "sw")), "ALL");
+        MvcResult result = performPost("/api/v1/recipe/search", byName)
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(Set.of("Pasta al pomodoro", "pastry"), names(getListFromMvcResult(result, RecipeResponse.class)));
+
+        // "_" matches itself, not any character
+        RecipeSearchRequest byIngredient = new RecipeSearchRequest(List.of(
+                new SearchCriteriaRequest("ingredient", "tomato_", "sw")), "ALL");
+        result = performPost("/api/v1/recipe/search", byIngredient)
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(Set.of("Pasta al pomodoro"), names(getListFromMvcResult(result, RecipeResponse.class)));
+    }
+
+    @Test
+    public void test_searchRecipeByEquality_ignoresCase() throws Exception {
+        MvcResult created = performPost("/api/v1/recipe", new CreateRecipeRequest("Lasagne",
+                "vegetarian", 4, null, "someInstruction"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        performPost("/api/v1/recipe", new CreateRecipeRequest("burger",
+                "NON_VEGETARIAN", 1, null, "someInstruction"))
+                .andExpect(status().isCreated());
+
+        // The type is stored as the enum constant whatever the case it was created with
+        Integer id = readByJsonPath(created, "$.id");
+        assertEquals("VEGETARIAN", recipeRepository.findById(id).orElseThrow().getType());
+
+        RecipeSearchRequest byType = new RecipeSearchRequest(List.of(
+                new SearchCriteriaRequest("type", "Vegetarian", "eq"),
+                new SearchCriteriaRequest("name", "LASAGNE", "eq")), "ALL");
+        MvcResult result = performPost("/api/v1/recipe/search", byType)
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(Set.of("Lasagne"), names(getListFromMvcResult(result, RecipeResponse.class)));
+
+        RecipeSearchRequest notType = new RecipeSearchRequest(List.of(
+                new SearchCriteriaRequest("type", "vegetarian", "ne")), "ALL");
+        result = performPost("/api/v1/recipe/search", notType)
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(Set.of("burger"), names(getListFromMvcResult(result, RecipeResponse.class)));
+    }
+
+    @Test
+    public void test_searchRecipeByNestedQuery() throws Exception {
+        Integer potato = ingredientRepository.save(IngredientTestDataBuilder.createIngredientWithNameParam("Potato")).getId();
+        Integer rice = ingredientRepository.save(IngredientTestDataBuilder.createIngredientWithNameParam("Rice")).getId();
+        Integer peanut = ingredientRepository.save(IngredientTestDataBuilder.createIngredientWithNameParam("Peanut")).getId();
+
+        performPost("/api/v1/recipe", new CreateRecipeRequest("potato curry",
+                "VEGETARIAN", 4, List.of(potato), "someInstruction"))
+                .andExpect(status().isCreated());
+        performPost("/api/v1/recipe", new CreateRecipeRequest("satay rice",
+                "VEGETARIAN", 2, List.of(rice, peanut), "someInstruction"))
+                .andExpect(status().isCreated());
+        performPost("/api/v1/recipe", new CreateRecipeRequest("fried rice",
+                "VEGETARIAN", 2, List.of(rice), "someInstruction"))
+                .andExpect(status().isCreated());
+        performPost("/api/v1/recipe", new CreateRecipeRequest("steak frites",
+                "NON_VEGETARIAN", 1, List.of(potato), "someInstruction"))
+                .andExpect(status().isCreated());
+        performPost("/api/v1/recipe", new CreateRecipeRequest("salad",
+                "VEGETARIAN", 1, null, "someInstruction"))
+                .andExpect(status().isCreated());
+
+        // vegetarian AND (potato OR rice) AND NOT peanut
+        RecipeSearchRequest nested = new RecipeSearchRequest(SearchNodeRequest.all(
+                new SearchNodeRequest("type", "vegetarian", "eq"),
+                SearchNodeRequest.any(
+                        new SearchNodeRequest("ingredient", "potato", "cn"),
+                        new SearchNodeRequest("ingredient", "rice", "cn")),
+                SearchNodeRequest.not(new SearchNodeRequest("ingredient", "peanut", "cn"))));
+        MvcResult result = performPost("/api/v1/recipe/search", nested)
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(Set.of("potato curry", "fried rice"), names(getListFromMvcResult(result, RecipeResponse.class)));
+
+        // Simplified to false, so answered without a query
+        RecipeSearchRequest contradiction = new RecipeSearchRequest(SearchNodeRequest.all(
+                new SearchNodeRequest("name", "rice", "cn"),
+                SearchNodeRequest.not(new SearchNodeRequest("name", "rice", "cn"))));
+        result = performPost("/api/v1/recipe/search", contradiction)
+                .andExpect(status().isOk())
+                .andReturn();
+        assertTrue(getListFromMvcResult(result, RecipeResponse.class).isEmpty());
+
+        RecipeSearchRequest invalid = new RecipeSearchRequest(SearchNodeRequest.any(
+                new SearchNodeRequest("name", "rice", "gt")));
+        performPost("/api/v1/recipe/search", invalid)
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void test_searchRecipeByCriteria_reusesCompiledQueryWithNewValues() throws Exception {
+        performPost("/api/v1/recipe", new CreateRecipeRequest("Lasagne",
+                "VEGETARIAN", 4, null, "someInstruction"))
+                .andExpect(status().isCreated());
+        performPost("/api/v1/recipe", new CreateRecipeRequest("burger",
+                "NON_VEGETARIAN", 1, null, "someInstruction"))
+                .andExpect(status().isCreated());
+
+        // Both searches have the same shape, so the second one only binds its own values
+        RecipeSearchRequest lasagne = new RecipeSearchRequest(List.of(
+                new SearchCriteriaRequest("name", "lasa", "sw"),
+                new SearchCriteriaRequest("numberOfServings", List.of(2, 6), "between")), "ALL");
+        MvcResult result = performPost("/api/v1/recipe/search", lasagne)
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(Set.of("Lasagne"), names(getListFromMvcResult(result, RecipeResponse.class)));
+
+        RecipeSearchRequest burger = new RecipeSearchRequest(List.of(
+                new SearchCriteriaRequest("name", "burg", "sw"),
+                new SearchCriteriaRequest("numberOfServings", List.of(1, 1), "between")), "ALL");
+        result = performPost("/api/v1/recipe/search", burger)
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(Set.of("burger"), names(getListFromMvcResult(result, RecipeResponse.class)));
+    }
+
+    private static Set<String> names(List<RecipeResponse> recipes) {
+        return recipes.stream().map(RecipeResponse::getName).collect(Collectors.toSet());
+    }
+
     @Test
     public void test_SearchRecipeByCriteria_fails() throws Exception {
         RecipeSearchRequest request = new RecipeSearchRequest();
@@ -230,4 +643,154 @@ public class RecipeIT extends AbstractIT {
                 .andReturn();
     }
 
+    @Test
+    public void test_searchRecipeSlice_sizeTooLarge() throws Exception {
+        RecipeSearchRequest request = new RecipeSearchRequest(
+                List.of(new SearchCriteriaRequest("name", "pasta", "cn")), "all");
+
+        performPost("/api/v1/recipe/search/slice?size=" + Integer.MAX_VALUE, request)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("The size can be 1000 at maximum."));
+    }
+
+    @Test
+    public void test_searchRecipeSlice_indexAndDatabasePageInTheSameOrder() throws Exception {
+        performPost("/api/v1/recipe/bulk", List.of(
+                new CreateRecipeRequest("pasta bake", "VEGETARIAN", 2, null, "someInstruction"),
+                new CreateRecipeRequest("Pasta", "VEGETARIAN", 2, null, "someInstruction"),
+                new CreateRecipeRequest("antipasto", "VEGETARIAN", 2, null, "someInstruction"),
+                new CreateRecipeRequest("Pasta", "VEGETARIAN", 2, null, "someInstruction")))
+                .andExpect(status().isOk());
+        recipeIndexBuilder.build();
+
+        RecipeSearchRequest indexed = new RecipeSearchRequest(
+                List.of(new SearchCriteriaRequest("name", "past", "cn")), "all");
+        // The type criterion is not indexed, so this search runs entirely in the database
+        RecipeSearchRequest database = new RecipeSearchRequest(List.of(
+                new SearchCriteriaRequest("name", "past", "cn"),
+                new SearchCriteriaRequest("type", "VEGETARIAN", "eq")), "all");
+        assertTrue(recipeSearchIndex.match(indexed).isPresent());
+        assertFalse(recipeSearchIndex.match(database).isPresent());
+
+        List<Integer> indexedOrder = searchPageByPage(indexed);
+        assertEquals(4, indexedOrder.size());
+        assertEquals(searchPageByPage(database), indexedOrder);
+    }
+
+    @Test
+    public void test_searchRecipe_indexAndDatabaseMatchWildcardsLiterally() throws Exception {
+        performPost("/api/v1/recipe/bulk", List.of(
+                new CreateRecipeRequest("pasta", "VEGETARIAN", 2, null, "someInstruction"),
+                new CreateRecipeRequest("soup", "VEGETARIAN", 2, null, "someInstruction")))
+                .andExpect(status().isOk());
+        recipeIndexBuilder.build();
+
+        for (String operation : List.of("cn", "nc")) {
+            for (String value : List.of("%", "_", "p%a")) {
+                RecipeSearchRequest indexed = new RecipeSearchRequest(
+                        List.of(new SearchCriteriaRequest("name", value, operation)), "all");
+                // The type criterion is not indexed, so this search runs entirely in the database
+                RecipeSearchRequest database = new RecipeSearchRequest(List.of(
+                        new SearchCriteriaRequest("name", value, operation),
+                        new SearchCriteriaRequest("type", "VEGETARIAN", "eq")), "all");
+                assertTrue(recipeSearchIndex.match(indexed).isPresent());
+
+                // No name contains the wildcard characters themselves
+                int expected = operation.equals("cn") ? 0 : 2;
+                for (RecipeSearchRequest request : List.of(indexed, database)) {
+                    performPost("/api/v1/recipe/search/slice", request)
+                            .andExpect(status().isOk())
+                            .andExpect(jsonPath("$.content.length()").value(expected));
+                    performPost("/api/v1/recipe/search/count", request)
+                            .andExpect(status().isOk())
+                            .andExpect(jsonPath("$.count").value(expected));
+                }
+            }
+        }
+    }
+
+    private List<Integer> searchPageByPage(RecipeSearchRequest request) throws Exception {
+        List<Integer> ids = new ArrayList<>();
+        for (int page = 0; ; page++) {
+            MvcResult result = performPost("/api/v1/recipe/search/slice?size=1&page=" + page, request)
+                    .andExpect(status().isOk())
+                    .andReturn();
+            ids.add(readByJsonPath(result, "$.content[0].id"));
+            if (!(Boolean) readByJsonPath(result, "$.hasNext")) {
+                return ids;
+            }
+        }
+    }
+
+    @Test
+    public void test_createRecipes_bulk() throws Exception {
+        List<CreateRecipeRequest> requests = List.of(
+                new CreateRecipeRequest("pasta", "VEGETARIAN", 2, null, "someInstruction"),
+                new CreateRecipeRequest("", "VEGETARIAN", 2, null, "someInstruction"),
+                new CreateRecipeRequest("soup", "VEGETARIAN", 3, null, "someInstruction"));
+
+        performPost("/api/v1/recipe/bulk", requests)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.items[0].id").exists())
+                .andExpect(jsonPath("$.items[1].error").exists())
+                .andExpect(jsonPath("$.items[2].id").exists());
+
+        assertEquals(2, recipeRepository.count());
+    }
+
+    @Test
+    public void test_multiSearch_runsEverySearch() throws Exception {
+        performPost("/api/v1/recipe", new CreateRecipeRequest("pasta",
+                "VEGETARIAN", 2, null, "someInstruction"))
+                .andExpect(status().isCreated());
+        performPost("/api/v1/recipe", new CreateRecipeRequest("burger",
+                "NON_VEGETARIAN", 1, null, "someInstruction"))
+                .andExpect(status().isCreated());
+
+        List<PagedSearchRequest> requests = List.of(
+                new PagedSearchRequest(List.of(new SearchCriteriaRequest("type", "VEGETARIAN", "eq")), "all", 0, 10),
+                new PagedSearchRequest(List.of(new SearchCriteriaRequest("name", "burg", "sw")), "all", 0, 10),
+                new PagedSearchRequest(List.of(), "all", 0, 10));
+
+        performPost("/api/v1/recipe/msearch", requests)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.items[0].result.content[0].name").value("pasta"))
+                .andExpect(jsonPath("$.items[1].result.content[0].name").value("burger"))
+                .andExpect(jsonPath("$.items[2].status").value(404))
+                .andExpect(jsonPath("$.items[2].error").exists())
+                .andExpect(jsonPath("$.items[0].tookMillis").exists());
+    }
+
+    @Test
+    public void test_exportRecipes_successfully() throws Exception {
+        Ingredient savedIngredient = ingredientRepository.save(
+                IngredientTestDataBuilder.createIngredientWithNameParam("Basil"));
+
+        CreateRecipeRequest createRecipeRequest = new CreateRecipeRequest("pesto",
+                "VEGETARIAN", 2, List.of(savedIngredient.getId()), "someInstruction");
+        Integer id = readByJsonPath(performPost("/api/v1/recipe", createRecipeRequest)
+                .andExpect(status().isCreated())
+                .andReturn(), "$.id");
+        recipeRepository.save(RecipeTestDataBuilder.createRecipe());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/recipe/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+
+        RecipeResponse first = objectMapper.readValue(lines[0], RecipeResponse.class);
+        RecipeResponse second = objectMapper.readValue(lines[1], RecipeResponse.class);
+        assertEquals(id.intValue(), first.getId());
+        assertEquals(1, first.getIngredients().size());
+        assertEquals("Basil", first.getIngredients().iterator().next().getName());
+        assertTrue(second.getIngredients().isEmpty());
+    }
 }
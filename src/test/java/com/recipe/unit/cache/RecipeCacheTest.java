@@ -0,0 +1,77 @@
+package com.recipe.unit.cache;
+
+import com.recipe.cache.RecipeCache;
+import com.recipe.config.MetricsConfig;
+import com.recipe.exception.NotFoundException;
+import com.recipe.model.entity.Recipe;
+import com.recipe.unit.model.builder.RecipeTestDataBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RecipeCacheTest {
+    private MetricsConfig metricsConfig;
+    private RecipeCache recipeCache;
+
+    @Before
+    public void setUp() {
+        metricsConfig = new MetricsConfig(new SimpleMeterRegistry());
+        metricsConfig.initializeMetrics();
+        recipeCache = new RecipeCache(metricsConfig, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    public void test_get_loadsOnceAndThenHits() {
+        AtomicInteger loads = new AtomicInteger();
+
+        Recipe first = recipeCache.get(1, id -> {
+            loads.incrementAndGet();
+            return RecipeTestDataBuilder.createRecipe(id);
+        });
+        Recipe second = recipeCache.get(1, id -> {
+            loads.incrementAndGet();
+            return RecipeTestDataBuilder.createRecipe(id);
+        });
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(metricsConfig.getRecipeCacheMissCounter().count()).isEqualTo(1.0);
+        assertThat(metricsConfig.getRecipeCacheHitCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    public void test_evict_forcesReload() {
+        Recipe first = recipeCache.get(1, RecipeTestDataBuilder::createRecipe);
+        recipeCache.evict(1);
+        Recipe second = recipeCache.get(1, RecipeTestDataBuilder::createRecipe);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(metricsConfig.getRecipeCacheMissCounter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    public void test_evictAll_forcesReloadOfEveryRecipe() {
+        Recipe first = recipeCache.get(1, RecipeTestDataBuilder::createRecipe);
+        Recipe second = recipeCache.get(2, RecipeTestDataBuilder::createRecipe);
+        recipeCache.evictAll();
+
+        assertThat(recipeCache.get(1, RecipeTestDataBuilder::createRecipe)).isNotSameAs(first);
+        assertThat(recipeCache.get(2, RecipeTestDataBuilder::createRecipe)).isNotSameAs(second);
+    }
+
+    @Test
+    public void test_get_doesNotCacheNotFound() {
+        assertThatThrownBy(() -> recipeCache.get(3, id -> {
+            throw new NotFoundException("Recipe not found");
+        })).isInstanceOf(NotFoundException.class);
+
+        Recipe recipe = recipeCache.get(3, RecipeTestDataBuilder::createRecipe);
+        assertThat(recipe.getId()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,103 @@
+package com.recipe.unit.cache;
+
+import com.recipe.cache.SearchQueryCache;
+import com.recipe.config.MetricsConfig;
+import com.recipe.model.entity.Recipe;
+import com.recipe.model.search.CompiledQuery;
+import com.recipe.model.search.SearchCriteria;
+import com.recipe.model.search.SearchParameters;
+import com.recipe.model.search.SearchShape;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.criteria.CriteriaQuery;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+public class SearchQueryCacheTest {
+    private MetricsConfig metricsConfig;
+    private AtomicInteger compiles;
+    private Supplier<CompiledQuery<Recipe>> compiler;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        metricsConfig = new MetricsConfig(new SimpleMeterRegistry());
+        metricsConfig.initializeMetrics();
+        compiles = new AtomicInteger();
+        compiler = () -> {
+            compiles.incrementAndGet();
+            return new CompiledQuery<>(mock(CriteriaQuery.class), new SearchParameters(List.of()));
+        };
+    }
+
+    private SearchQueryCache createCache(boolean enabled) {
+        return new SearchQueryCache(metricsConfig, enabled, 100);
+    }
+
+    private static SearchShape shape(SearchCriteria... criteria) {
+        return SearchShape.of(List.of(criteria));
+    }
+
+    @Test
+    public void test_get_sharesQueryBetweenSearchesOfOneShape() {
+        SearchQueryCache cache = createCache(true);
+
+        CompiledQuery<Recipe> first = cache.get(shape(new SearchCriteria("name", "cn", "pasta")),
+                Recipe.class, Sort.unsorted(), compiler);
+        CompiledQuery<Recipe> second = cache.get(shape(new SearchCriteria("name", "cn", "soup")),
+                Recipe.class, Sort.unsorted(), compiler);
+
+        assertThat(second).isSameAs(first);
+        assertThat(compiles.get()).isEqualTo(1);
+        assertThat(metricsConfig.getRecipeSearchQueryCompileCounter().count()).isEqualTo(1.0);
+        assertThat(metricsConfig.getRecipeSearchQueryReuseCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    public void test_get_separatesShapesAndSorts() {
+        SearchQueryCache cache = createCache(true);
+
+        cache.get(shape(new SearchCriteria("name", "cn", "pasta")), Recipe.class, Sort.unsorted(), compiler);
+        cache.get(shape(new SearchCriteria("name", "sw", "pasta")), Recipe.class, Sort.unsorted(), compiler);
+        cache.get(shape(new SearchCriteria("name", "cn", "pasta")), Recipe.class, Sort.by("name"), compiler);
+        cache.get(shape(new SearchCriteria("numberOfServings", "in", List.of(2, 4))),
+                Recipe.class, Sort.unsorted(), compiler);
+        cache.get(shape(new SearchCriteria("numberOfServings", "in", List.of(2, 4, 6))),
+                Recipe.class, Sort.unsorted(), compiler);
+
+        assertThat(compiles.get()).isEqualTo(5);
+    }
+
+    @Test
+    public void test_get_cachesNothingWhenCompilationFails() {
+        SearchQueryCache cache = createCache(true);
+        SearchShape shape = shape(new SearchCriteria("name", "gt", "pasta"));
+
+        assertThatThrownBy(() -> cache.get(shape, Recipe.class, Sort.unsorted(), () -> {
+            throw new IllegalArgumentException("Unsupported operation");
+        })).isInstanceOf(IllegalArgumentException.class);
+        cache.get(shape, Recipe.class, Sort.unsorted(), compiler);
+
+        assertThat(compiles.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_get_compilesEverySearchWhenDisabled() {
+        SearchQueryCache cache = createCache(false);
+        SearchShape shape = shape(new SearchCriteria("name", "cn", "pasta"));
+
+        cache.get(shape, Recipe.class, Sort.unsorted(), compiler);
+        cache.get(shape, Recipe.class, Sort.unsorted(), compiler);
+
+        assertThat(compiles.get()).isEqualTo(2);
+        assertThat(metricsConfig.getRecipeSearchQueryReuseCounter().count()).isZero();
+    }
+}
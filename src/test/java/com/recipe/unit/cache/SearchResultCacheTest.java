@@ -0,0 +1,124 @@
+package com.recipe.unit.cache;
+
+import com.recipe.cache.SearchResultCache;
+import com.recipe.config.MetricsConfig;
+import com.recipe.model.domain.request.RecipeSearchRequest;
+import com.recipe.model.domain.request.SearchCriteriaRequest;
+import com.recipe.model.domain.request.SearchNodeRequest;
+import com.recipe.model.domain.response.RecipeResponse;
+import com.recipe.model.domain.response.SliceResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SearchResultCacheTest {
+    private MetricsConfig metricsConfig;
+    private AtomicInteger loads;
+    private Supplier<SliceResponse<RecipeResponse>> loader;
+
+    @Before
+    public void setUp() {
+        metricsConfig = new MetricsConfig(new SimpleMeterRegistry());
+        metricsConfig.initializeMetrics();
+        loads = new AtomicInteger();
+        loader = () -> {
+            loads.incrementAndGet();
+            return new SliceResponse<>(List.of(new RecipeResponse()), 0, 10, false);
+        };
+    }
+
+    private SearchResultCache createCache(Set<String> disabledShapes) {
+        return new SearchResultCache(metricsConfig, true, 100, Duration.ofMinutes(5), disabledShapes);
+    }
+
+    private RecipeSearchRequest request(String dataOption, SearchCriteriaRequest... criteria) {
+        return new RecipeSearchRequest(List.of(criteria), dataOption);
+    }
+
+    @Test
+    public void test_get_sharesEntryBetweenEquivalentRequests() {
+        SearchResultCache cache = createCache(Set.of());
+
+        cache.get(request("all",
+                new SearchCriteriaRequest("type", "VEGETARIAN", "eq"),
+                new SearchCriteriaRequest("ingredient", "Potato", "cn")), 0, 10, loader);
+        cache.get(request("ALL",
+                new SearchCriteriaRequest("ingredient", "potato", "CN"),
+                new SearchCriteriaRequest("type", "vegetarian", "EQ")), 0, 10, loader);
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(metricsConfig.getRecipeSearchCacheHitCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    public void test_get_separatesPagesAndDataOptions() {
+        SearchResultCache cache = createCache(Set.of());
+        SearchCriteriaRequest type = new SearchCriteriaRequest("type", "VEGETARIAN", "eq");
+        SearchCriteriaRequest name = new SearchCriteriaRequest("name", "pasta", "cn");
+
+        cache.get(request("all", type, name), 0, 10, loader);
+        cache.get(request("all", type, name), 1, 10, loader);
+        cache.get(request("any", type, name), 0, 10, loader);
+
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void test_get_separatesNestedQueries() {
+        SearchResultCache cache = createCache(Set.of());
+        SearchNodeRequest potato = new SearchNodeRequest("ingredient", "potato", "cn");
+        SearchNodeRequest rice = new SearchNodeRequest("ingredient", "rice", "cn");
+
+        cache.get(new RecipeSearchRequest(SearchNodeRequest.any(potato, rice)), 0, 10, loader);
+        cache.get(new RecipeSearchRequest(SearchNodeRequest.any(potato, rice)), 0, 10, loader);
+        cache.get(new RecipeSearchRequest(SearchNodeRequest.all(potato, rice)), 0, 10, loader);
+        cache.get(new RecipeSearchRequest(SearchNodeRequest.all(potato, SearchNodeRequest.not(rice))), 0, 10, loader);
+
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void test_get_separatesListValuesByElement() {
+        SearchResultCache cache = createCache(Set.of());
+
+        cache.get(request("all", new SearchCriteriaRequest("ingredient", List.of("salt, pepper"), "in")), 0, 10, loader);
+        cache.get(request("all", new SearchCriteriaRequest("ingredient", List.of("salt", "pepper"), "in")), 0, 10, loader);
+        cache.get(request("all", new SearchCriteriaRequest("ingredient", List.of("Salt", "Pepper"), "in")), 0, 10, loader);
+        cache.get(new RecipeSearchRequest(new SearchNodeRequest("ingredient", List.of("salt, pepper"), "in")), 0, 10, loader);
+        cache.get(new RecipeSearchRequest(new SearchNodeRequest("ingredient", List.of("salt", "pepper"), "in")), 0, 10, loader);
+
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    public void test_invalidate_forcesReload() {
+        SearchResultCache cache = createCache(Set.of());
+        RecipeSearchRequest request = request("all", new SearchCriteriaRequest("type", "VEGETARIAN", "eq"));
+
+        cache.get(request, 0, 10, loader);
+        cache.invalidate();
+        cache.get(request, 0, 10, loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void test_get_skipsDisabledShapes() {
+        SearchResultCache cache = createCache(Set.of("Instructions:CN"));
+        RecipeSearchRequest request = request("all", new SearchCriteriaRequest("instructions", "oven", "cn"));
+
+        cache.get(request, 0, 10, loader);
+        cache.get(request, 0, 10, loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(metricsConfig.getRecipeSearchCacheMissCounter().count()).isZero();
+    }
+}
@@ -0,0 +1,35 @@
+package com.recipe.unit.config;
+
+import com.recipe.config.FullTextFallback;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FullTextFallbackTest {
+
+    @Test
+    public void test_matches_requiresEveryWordAfterStemming() {
+        String instructions = "Slice the potatoes. Bake in the oven for 20 minutes.";
+
+        assertThat(FullTextFallback.matches(instructions, "baked potato")).isTrue();
+        assertThat(FullTextFallback.matches(instructions, "Baking OVEN")).isTrue();
+        assertThat(FullTextFallback.matches(instructions, "bake pasta")).isFalse();
+    }
+
+    @Test
+    public void test_matches_ignoresStopWordsAndNulls() {
+        assertThat(FullTextFallback.matches("Boil the pasta", "the")).isFalse();
+        assertThat(FullTextFallback.matches(null, "pasta")).isFalse();
+        assertThat(FullTextFallback.matches("Boil the pasta", null)).isFalse();
+    }
+
+    @Test
+    public void test_rank_growsWithMatchingWords() {
+        double once = FullTextFallback.rank("Bake the bread", "bake");
+        double twice = FullTextFallback.rank("Bake the bread, then bake it again", "bake");
+
+        assertThat(once).isPositive();
+        assertThat(twice).isGreaterThan(once);
+        assertThat(FullTextFallback.rank("Boil the pasta", "bake")).isZero();
+    }
+}
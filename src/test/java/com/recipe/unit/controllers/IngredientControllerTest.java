@@ -2,6 +2,7 @@ package com.recipe.unit.controllers;
 
 
 import com.recipe.model.domain.request.CreateIngredientRequest;
+import com.recipe.model.domain.request.IngredientNamesRequest;
 import com.recipe.model.domain.response.CreateEntityResponse;
 import com.recipe.model.domain.response.IngredientResponse;
 import com.recipe.controller.IngredientController;
@@ -15,6 +16,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -31,6 +33,17 @@ public class IngredientControllerTest {
     @InjectMocks
     private IngredientController ingredientController;
 
+    @Test
+    public void test_getOrCreateIngredients_keepsRequestOrder() {
+        IngredientNamesRequest request = new IngredientNamesRequest(List.of("Tomato", "Basil ", "Tomato"));
+        when(ingredientService.getOrCreateIngredientIds(request.getNames())).thenReturn(Map.of("Tomato", 4, "Basil", 9));
+
+        List<IngredientResponse> response = ingredientController.getOrCreateIngredients(request);
+
+        assertThat(response).extracting(IngredientResponse::getName).containsExactly("Tomato", "Basil");
+        assertThat(response).extracting(IngredientResponse::getId).containsExactly(4, 9);
+    }
+
     @Test
     public void test_createIngredient_successfully() {
         when(ingredientService.create(any(CreateIngredientRequest.class))).thenReturn(1);
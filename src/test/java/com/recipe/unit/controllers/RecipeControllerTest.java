@@ -1,25 +1,42 @@
 package com.recipe.unit.controllers;
 
 import com.recipe.model.domain.request.CreateRecipeRequest;
+import com.recipe.model.domain.request.PagedSearchRequest;
 import com.recipe.model.domain.request.UpdateRecipeRequest;
+import com.recipe.model.domain.response.BulkCreateResponse;
+import com.recipe.model.domain.response.BulkItemResponse;
 import com.recipe.model.domain.response.CreateEntityResponse;
+import com.recipe.model.domain.response.MultiSearchItemResponse;
+import com.recipe.model.domain.response.MultiSearchResponse;
 import com.recipe.model.domain.response.RecipeResponse;
 import com.recipe.controller.RecipeController;
 import com.recipe.model.entity.Recipe;
+import com.recipe.model.projection.RecipeFields;
+import com.recipe.service.RecipeBulkService;
+import com.recipe.service.RecipeExportService;
+import com.recipe.service.RecipeMultiSearchService;
 import com.recipe.service.RecipeService;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
@@ -28,6 +45,15 @@ public class RecipeControllerTest {
     @Mock
     private RecipeService recipeService;
 
+    @Mock
+    private RecipeExportService recipeExportService;
+
+    @Mock
+    private RecipeBulkService recipeBulkService;
+
+    @Mock
+    private RecipeMultiSearchService recipeMultiSearchService;
+
     @InjectMocks
     private RecipeController recipeController;
 
@@ -43,6 +69,43 @@ public class RecipeControllerTest {
         assertThat(response.getId()).isSameAs(1);
     }
 
+    @Test
+    public void test_multiSearch_successfully() {
+        List<PagedSearchRequest> requests = List.of(new PagedSearchRequest(null, "all", 0, 10));
+        MultiSearchResponse expected = new MultiSearchResponse(
+                List.of(MultiSearchItemResponse.failed(0, 404, "No search criteria has been found.", 1)), 3);
+
+        when(recipeMultiSearchService.search(requests)).thenReturn(expected);
+
+        assertThat(recipeController.multiSearch(requests)).isSameAs(expected);
+    }
+
+    @Test
+    public void test_createRecipes_successfully() {
+        List<CreateRecipeRequest> requests = List.of(
+                new CreateRecipeRequest("pasta", "VEGETARIAN", 4, null, "instructions"));
+        BulkCreateResponse expected = new BulkCreateResponse(List.of(BulkItemResponse.created(0, 7)));
+
+        when(recipeBulkService.createRecipes(requests)).thenReturn(expected);
+
+        BulkCreateResponse response = recipeController.createRecipes(requests);
+
+        assertThat(response).isSameAs(expected);
+        assertThat(response.getCreated()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_exportRecipes_streamsFromExportService() throws Exception {
+        ResponseEntity<StreamingResponseBody> response = recipeController.exportRecipes();
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+
+        verify(recipeExportService).exportRecipes(any(OutputStream.class));
+    }
+
     @Test
     public void test_listRecipe_successfully() {
         Recipe Recipe = new Recipe();
@@ -51,12 +114,24 @@ public class RecipeControllerTest {
 
         when(recipeService.getRecipeById(anyInt())).thenReturn(Recipe);
 
-        RecipeResponse response = recipeController.getRecipe(5);
+        RecipeResponse response = recipeController.getRecipe(5, null);
 
         assertThat(response.getId()).isSameAs(Recipe.getId());
         assertThat(response.getName()).isSameAs(Recipe.getName());
     }
 
+    @Test
+    public void test_getRecipe_withFields_readsProjection() {
+        RecipeResponse projected = new RecipeResponse();
+        projected.setId(5);
+        projected.setName("name");
+
+        when(recipeService.getRecipeById(5, RecipeFields.parse("name"))).thenReturn(projected);
+
+        assertThat(recipeController.getRecipe(5, "name")).isSameAs(projected);
+        verify(recipeService, never()).getRecipeById(anyInt());
+    }
+
     @Test
     public void test_listRecipes_successfully() {
         Recipe recipe = new Recipe();
@@ -71,9 +146,10 @@ public class RecipeControllerTest {
         storedRecipeList.add(recipe);
         storedRecipeList.add(recipe1);
 
-        when(recipeService.getRecipeList(anyInt(), anyInt())).thenReturn(storedRecipeList);
+        when(recipeService.getRecipeList(anyInt(), anyInt(), eq(RecipeFields.ALL)))
+                .thenReturn(storedRecipeList.stream().map(RecipeResponse::new).toList());
 
-        List<RecipeResponse> recipeList = recipeController.getRecipeList(anyInt(), anyInt());
+        List<RecipeResponse> recipeList = recipeController.getRecipeList(0, 10, null);
 
         assertThat(storedRecipeList.size()).isSameAs(recipeList.size());
         assertThat(storedRecipeList.get(0).getId()).isSameAs(recipeList.get(0).getId());
@@ -0,0 +1,181 @@
+package com.recipe.unit.index;
+
+import com.recipe.config.MetricsConfig;
+import com.recipe.index.IndexedIngredient;
+import com.recipe.index.IndexedRecipe;
+import com.recipe.index.RecipeSearchIndex;
+import com.recipe.model.domain.request.RecipeSearchRequest;
+import com.recipe.model.domain.request.SearchCriteriaRequest;
+import com.recipe.model.entity.Ingredient;
+import com.recipe.model.entity.Recipe;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RecipeSearchIndexTest {
+    private MetricsConfig metricsConfig;
+    private RecipeSearchIndex index;
+
+    @Before
+    public void setUp() {
+        metricsConfig = new MetricsConfig(new SimpleMeterRegistry());
+        metricsConfig.initializeMetrics();
+        index = new RecipeSearchIndex(metricsConfig, true, true);
+        index.rebuild(source(
+                List.of(new IndexedIngredient(10, "Potato"), new IndexedIngredient(11, "Sweet potato"),
+                        new IndexedIngredient(12, "Flour"), new IndexedIngredient(13, "Salt")),
+                List.of(new IndexedRecipe(1, "Tomato soup", "Simmer in a pot", Set.of(13)),
+                        new IndexedRecipe(2, "Potato bake", "Bake in the oven", Set.of(10, 13)),
+                        new IndexedRecipe(3, "Apple pie", "Bake in the oven", Set.of(12)),
+                        new IndexedRecipe(4, "Pasta", "Boil the pasta", Set.of()),
+                        new IndexedRecipe(5, "Sweet potato fries", "Fry in oil", Set.of(11, 13)))));
+    }
+
+    private static RecipeSearchIndex.RecipeSource source(List<IndexedIngredient> ingredients, List<IndexedRecipe> recipes) {
+        return new RecipeSearchIndex.RecipeSource() {
+            @Override
+            public void forEachIngredient(Consumer<IndexedIngredient> consumer) {
+                ingredients.forEach(consumer);
+            }
+
+            @Override
+            public void forEachRecipe(Consumer<IndexedRecipe> consumer) {
+                recipes.forEach(consumer);
+            }
+        };
+    }
+
+    private RecipeSearchRequest request(String dataOption, SearchCriteriaRequest... criteria) {
+        return new RecipeSearchRequest(List.of(criteria), dataOption);
+    }
+
+    @Test
+    public void test_match_combinesCriteria() {
+        RecipeSearchRequest request = request("all",
+                new SearchCriteriaRequest("instructions", "oven", "cn"),
+                new SearchCriteriaRequest("name", "potato", "nc"));
+
+        assertThat(index.match(request)).contains(List.of(3));
+
+        RecipeSearchRequest any = request("any",
+                new SearchCriteriaRequest("name", "soup", "cn"),
+                new SearchCriteriaRequest("name", "pie", "cn"));
+
+        assertThat(index.match(any)).contains(List.of(1, 3));
+    }
+
+    @Test
+    public void test_match_declinesMoreMatchesThanTheDatabaseShouldPage() {
+        index.rebuild(source(List.of(), IntStream.rangeClosed(1, RecipeSearchIndex.MAX_MATCHES + 1)
+                .mapToObj(id -> new IndexedRecipe(id, "Soup " + id, "Simmer in a pot", Set.of()))
+                .toList()));
+        RecipeSearchRequest request = request("all", new SearchCriteriaRequest("name", "soup", "cn"));
+
+        assertThat(index.match(request)).isEmpty();
+        assertThat(index.count(request)).contains(RecipeSearchIndex.MAX_MATCHES + 1L);
+        assertThat(index.match(request("all", new SearchCriteriaRequest("name", "soup 7", "cn"))))
+                .get().asList().hasSize(111);
+    }
+
+    @Test
+    public void test_match_declinesCriteriaItCannotAnswer() {
+        assertThat(index.match(request("all", new SearchCriteriaRequest("type", "VEGETARIAN", "eq")))).isEmpty();
+        assertThat(index.match(request("all",
+                new SearchCriteriaRequest("name", "soup", "cn"),
+                new SearchCriteriaRequest("numberOfServings", "2", "eq")))).isEmpty();
+        assertThat(index.match(request(null,
+                new SearchCriteriaRequest("name", "soup", "cn"),
+                new SearchCriteriaRequest("name", "pie", "cn")))).isEmpty();
+    }
+
+    @Test
+    public void test_match_leavesInstructionsToTheDatabaseUnlessIndexed() {
+        RecipeSearchIndex namesOnly = new RecipeSearchIndex(metricsConfig, true, false);
+        namesOnly.rebuild(source(List.of(), List.of(new IndexedRecipe(3, "Apple pie", "Bake in the oven", Set.of()))));
+
+        assertThat(namesOnly.match(request("all", new SearchCriteriaRequest("instructions", "oven", "cn")))).isEmpty();
+        assertThat(namesOnly.match(request("all", new SearchCriteriaRequest("name", "pie", "cn")))).contains(List.of(3));
+    }
+
+    @Test
+    public void test_match_notReadyBeforeFirstBuild() {
+        RecipeSearchIndex unbuilt = new RecipeSearchIndex(metricsConfig, true, true);
+
+        assertThat(unbuilt.match(request("all", new SearchCriteriaRequest("name", "soup", "cn")))).isEmpty();
+    }
+
+    @Test
+    public void test_onSavedAndOnRemoved_keepIndexCurrent() {
+        Recipe recipe = new Recipe();
+        recipe.setId(2);
+        recipe.setName("Potato soup");
+        recipe.setInstructions("Simmer in a pot");
+        index.onSaved(recipe);
+        index.onRemoved(1);
+
+        RecipeSearchRequest request = request("all", new SearchCriteriaRequest("name", "soup", "cn"));
+        assertThat(index.match(request)).contains(List.of(2));
+        assertThat(metricsConfig.getRecipeIndexSize().get()).isEqualTo(4);
+    }
+
+    @Test
+    public void test_onSaved_withoutInstructionsKeepsThePreviousOnes() {
+        // An update that did not load the lazy instructions
+        Recipe recipe = new Recipe();
+        recipe.setId(2);
+        recipe.setName("Potato gratin");
+        index.onSaved(recipe);
+
+        RecipeSearchRequest request = request("all", new SearchCriteriaRequest("instructions", "oven", "cn"));
+        assertThat(index.match(request)).contains(List.of(2, 3));
+    }
+
+    @Test
+    public void test_match_combinesIngredientBitmaps() {
+        RecipeSearchRequest all = request("all",
+                new SearchCriteriaRequest("ingredient", "potato", "cn"),
+                new SearchCriteriaRequest("ingredient", "SALT", "eq"));
+        assertThat(index.match(all)).contains(List.of(2, 5));
+
+        RecipeSearchRequest any = request("any",
+                new SearchCriteriaRequest("ingredient", "flour", "eq"),
+                new SearchCriteriaRequest("ingredient", "potato", "eq"));
+        assertThat(index.match(any)).contains(List.of(2, 3));
+    }
+
+    @Test
+    public void test_match_negatedIngredientMeansWithoutIt() {
+        RecipeSearchRequest withoutPotato = request("all", new SearchCriteriaRequest("ingredient", "potato", "nc"));
+        assertThat(index.match(withoutPotato)).contains(List.of(1, 3, 4));
+
+        RecipeSearchRequest ovenWithoutSalt = request("all",
+                new SearchCriteriaRequest("instructions", "oven", "cn"),
+                new SearchCriteriaRequest("ingredient", "salt", "ne"));
+        assertThat(index.match(ovenWithoutSalt)).contains(List.of(3));
+    }
+
+    @Test
+    public void test_ingredientWrites_keepBitmapsCurrent() {
+        Ingredient flour = new Ingredient();
+        flour.setId(12);
+        Recipe recipe = new Recipe();
+        recipe.setId(4);
+        recipe.setName("Pasta");
+        recipe.setInstructions("Boil the pasta");
+        recipe.setRecipeIngredients(new HashSet<>(Set.of(flour)));
+        index.onSaved(recipe);
+        index.onIngredientRemoved(13);
+
+        assertThat(index.match(request("all", new SearchCriteriaRequest("ingredient", "flour", "eq"))))
+                .contains(List.of(3, 4));
+        assertThat(index.count(request("all", new SearchCriteriaRequest("ingredient", "salt", "cn")))).contains(0L);
+    }
+}
@@ -0,0 +1,51 @@
+package com.recipe.unit.index;
+
+import com.recipe.index.TextFieldIndex;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TextFieldIndexTest {
+    private TextFieldIndex index;
+
+    @Before
+    public void setUp() {
+        index = new TextFieldIndex();
+        index.put(1, "Tomato Soup");
+        index.put(2, "Potato salad");
+        index.put(3, "Grilled cheese");
+        index.put(4, null);
+    }
+
+    @Test
+    public void test_contains_matchesSubstringsCaseInsensitively() {
+        assertThat(index.contains("TATO").toArray()).containsExactly(2);
+        assertThat(index.contains("to").toArray()).containsExactly(1, 2);
+        assertThat(index.contains("o s").toArray()).containsExactly(1, 2);
+        assertThat(index.contains("").toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void test_contains_verifiesGramCandidates() {
+        // Every gram of "tomatom" occurs in "tomato soup", the text itself does not
+        assertThat(index.contains("tomatom").toArray()).isEmpty();
+        assertThat(index.contains("xyz").toArray()).isEmpty();
+    }
+
+    @Test
+    public void test_doesNotContain_skipsNullTexts() {
+        assertThat(index.doesNotContain("soup").toArray()).containsExactly(2, 3);
+    }
+
+    @Test
+    public void test_put_replacesPreviousText() {
+        index.put(1, "Onion rings");
+        index.remove(3);
+
+        assertThat(index.contains("soup").toArray()).isEmpty();
+        assertThat(index.contains("rings").toArray()).containsExactly(1);
+        assertThat(index.contains("cheese").toArray()).isEmpty();
+        assertThat(index.documentCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,38 @@
+package com.recipe.unit.model.projection;
+
+import com.recipe.model.projection.RecipeField;
+import com.recipe.model.projection.RecipeFields;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RecipeFieldsTest {
+
+    @Test
+    public void parse_alwaysSelectsTheId() {
+        RecipeFields fields = RecipeFields.parse(" Type, name ,,name");
+
+        assertThat(fields.columns()).containsExactly(RecipeField.ID, RecipeField.NAME, RecipeField.TYPE);
+        assertThat(fields.includes(RecipeField.INGREDIENTS)).isFalse();
+        assertThat(fields.isAll()).isFalse();
+        assertThat(fields.key()).isEqualTo("id,name,type");
+        assertThat(fields).isEqualTo(RecipeFields.parse("type,name"));
+    }
+
+    @Test
+    public void parse_withoutFieldsSelectsEverything() {
+        assertThat(RecipeFields.parse(null)).isEqualTo(RecipeFields.ALL);
+        assertThat(RecipeFields.parse(" ")).isEqualTo(RecipeFields.ALL);
+        assertThat(RecipeFields.parse("name,type,numberOfServings,instructions,createdAt,updatedAt,ingredients").isAll())
+                .isTrue();
+        assertThat(RecipeFields.parse("ingredients").columns()).containsExactly(RecipeField.ID);
+    }
+
+    @Test
+    public void parse_rejectsUnknownFields() {
+        assertThatThrownBy(() -> RecipeFields.parse("name,calories"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("calories");
+    }
+}
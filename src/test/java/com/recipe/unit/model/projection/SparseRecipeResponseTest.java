@@ -0,0 +1,44 @@
+package com.recipe.unit.model.projection;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipe.model.domain.response.RecipeResponse;
+import com.recipe.model.domain.response.SparseRecipeResponse;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SparseRecipeResponseTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void serialize_omitsFieldsLeftOutOfTheFieldset() {
+        RecipeResponse response = new SparseRecipeResponse();
+        response.setId(3);
+        response.setName("pasta");
+
+        JsonNode json = objectMapper.valueToTree(response);
+
+        assertThat(json.get("id").asInt()).isEqualTo(3);
+        assertThat(json.get("name").asText()).isEqualTo("pasta");
+        assertThat(json.has("type")).isFalse();
+        assertThat(json.has("instructions")).isFalse();
+        assertThat(json.has("numberOfServings")).isFalse();
+        assertThat(json.has("ingredients")).isFalse();
+    }
+
+    @Test
+    public void serialize_fullResponseKeepsNullFields() {
+        RecipeResponse response = new RecipeResponse();
+        response.setId(3);
+        response.setName("pasta");
+
+        JsonNode json = objectMapper.valueToTree(response);
+
+        assertThat(json.get("type").isNull()).isTrue();
+        assertThat(json.get("instructions").isNull()).isTrue();
+        assertThat(json.get("numberOfServings").asInt()).isZero();
+        assertThat(json.get("ingredients").isNull()).isTrue();
+    }
+}
@@ -0,0 +1,31 @@
+package com.recipe.unit.model.search;
+
+import com.recipe.model.search.KeysetCursor;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.Assert.assertEquals;
+
+public class KeysetCursorTest {
+
+    @Test
+    public void encodedCursorDecodesToSamePosition() {
+        KeysetCursor cursor = new KeysetCursor("Pasta | with sauce", 42);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decodeRejectsMalformedToken() {
+        KeysetCursor.decode("not a cursor!");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decodeRejectsTokenWithoutId() {
+        KeysetCursor.decode(Base64.getUrlEncoder().encodeToString("pasta".getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,110 @@
+package com.recipe.unit.model.search;
+
+import com.recipe.model.domain.request.SearchNodeRequest;
+import com.recipe.model.search.SearchField;
+import com.recipe.model.search.SearchNode;
+import com.recipe.model.search.SearchNodeParser;
+import com.recipe.model.search.SearchOperation;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.recipe.model.domain.request.SearchNodeRequest.all;
+import static com.recipe.model.domain.request.SearchNodeRequest.any;
+import static com.recipe.model.domain.request.SearchNodeRequest.not;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SearchNodeParserTest {
+
+    private static SearchNodeRequest condition(String filterKey, Object value, String operation) {
+        return new SearchNodeRequest(filterKey, value, operation);
+    }
+
+    @Test
+    public void parse_resolvesFieldsAndOperations() {
+        SearchNode tree = SearchNodeParser.parse(all(
+                condition("type", "vegetarian", "eq"),
+                any(condition("ingredient", "potato", "cn"), condition("ingredient", "rice", "cn")),
+                not(condition("ingredient", "peanut", "cn"))));
+
+        assertThat(tree).isEqualTo(new SearchNode.And(List.of(
+                new SearchNode.Condition(SearchField.TYPE, SearchOperation.EQUAL, "VEGETARIAN"),
+                new SearchNode.Or(List.of(
+                        new SearchNode.Condition(SearchField.INGREDIENT, SearchOperation.CONTAINS, "potato"),
+                        new SearchNode.Condition(SearchField.INGREDIENT, SearchOperation.CONTAINS, "rice"))),
+                new SearchNode.Not(
+                        new SearchNode.Condition(SearchField.INGREDIENT, SearchOperation.CONTAINS, "peanut")))));
+        assertThat(tree.structure()).isEqualTo("and(?,or(?,?),not(?))");
+        assertThat(tree.conditions()).extracting(SearchNode.Condition::value)
+                .containsExactly("VEGETARIAN", "potato", "rice", "peanut");
+    }
+
+    @Test
+    public void parse_convertsValuesToTheFieldType() {
+        SearchNode tree = SearchNodeParser.parse(all(
+                condition("numberOfServings", List.of("2", 6), "between"),
+                condition("createdAt", "2024-03-01", "gte"),
+                condition("NAME", 42, "cn")));
+
+        assertThat(tree.conditions()).extracting(SearchNode.Condition::value)
+                .containsExactly(List.of(2, 6), LocalDateTime.of(2024, 3, 1, 0, 0), "42");
+        assertThat(tree.conditions()).extracting(SearchNode.Condition::field)
+                .containsExactly(SearchField.NUMBER_OF_SERVINGS, SearchField.CREATED_AT, SearchField.NAME);
+    }
+
+    @Test
+    public void parse_simplifiesTheTree() {
+        SearchNodeRequest pasta = condition("name", "pasta", "cn");
+        SearchNodeRequest soup = condition("name", "soup", "cn");
+
+        // Nested groups of the same kind are flattened, duplicates and double negations dropped
+        SearchNode flattened = SearchNodeParser.parse(all(pasta, all(soup, not(not(pasta)))));
+        assertThat(flattened.structure()).isEqualTo("and(?,?)");
+
+        // A single child is the group
+        assertThat(SearchNodeParser.parse(any(pasta)).structure()).isEqualTo("?");
+
+        // A condition and its negation decide the group
+        assertThat(SearchNodeParser.parse(all(soup, any(pasta, soup), not(soup)))).isEqualTo(SearchNode.FALSE);
+        assertThat(SearchNodeParser.parse(any(pasta, not(pasta)))).isEqualTo(SearchNode.TRUE);
+        assertThat(SearchNodeParser.parse(all(soup, any(pasta, not(pasta))))).isEqualTo(SearchNodeParser.parse(soup));
+    }
+
+    @Test
+    public void parse_rejectsInvalidQueries() {
+        SearchNodeRequest both = condition("name", "pasta", "cn");
+        both.setAny(List.of(condition("name", "soup", "cn")));
+
+        List<SearchNodeRequest> invalid = List.of(
+                both,
+                any(),
+                condition("color", "red", "eq"),
+                condition("name", "pasta", "xx"),
+                condition("name", "pasta", "gt"),
+                condition("ingredient", "rice", "fts"),
+                condition("numberOfServings", "four", "eq"),
+                condition("numberOfServings", List.of(2), "between"),
+                condition("name", List.of("pasta"), "cn"),
+                condition("name", null, "eq"));
+
+        for (SearchNodeRequest query : invalid) {
+            assertThatThrownBy(() -> SearchNodeParser.parse(query))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    public void parse_limitsTheDepth() {
+        SearchNodeRequest query = condition("name", "pasta", "cn");
+        for (int i = 0; i < 10; i++) {
+            query = all(query, condition("name", "soup" + i, "cn"));
+        }
+        SearchNodeRequest tooDeep = query;
+
+        assertThatThrownBy(() -> SearchNodeParser.parse(tooDeep))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("nested");
+    }
+}
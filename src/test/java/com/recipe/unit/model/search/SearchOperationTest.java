@@ -6,6 +6,7 @@ import org.junit.Test;
 import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public class SearchOperationTest {
@@ -36,4 +37,27 @@ public class SearchOperationTest {
         assertEquals(SearchOperation.EQUAL, eq.get());
         assertEquals(SearchOperation.NOT_EQUAL, ne.get());
     }
+
+    @Test
+    public void whenFullTextInputEnterItReturnsFullText() {
+        assertEquals(Optional.of(SearchOperation.FULL_TEXT), SearchOperation.getOperation("FTS"));
+    }
+
+    @Test
+    public void whenRangeInputEnterItReturnsRangeOperation() {
+        assertEquals(Optional.of(SearchOperation.GREATER_THAN), SearchOperation.getOperation("gt"));
+        assertEquals(Optional.of(SearchOperation.GREATER_THAN_OR_EQUAL), SearchOperation.getOperation("GTE"));
+        assertEquals(Optional.of(SearchOperation.LESS_THAN), SearchOperation.getOperation("lt"));
+        assertEquals(Optional.of(SearchOperation.LESS_THAN_OR_EQUAL), SearchOperation.getOperation("lte"));
+        assertEquals(Optional.of(SearchOperation.BETWEEN), SearchOperation.getOperation("between"));
+        assertEquals(Optional.of(SearchOperation.IN), SearchOperation.getOperation("IN"));
+        assertTrue(SearchOperation.BETWEEN.isRange());
+        assertFalse(SearchOperation.EQUAL.isRange());
+        assertFalse(SearchOperation.IN.isRange());
+    }
+
+    @Test
+    public void whenStartsWithInputEnterItReturnsStartsWith() {
+        assertEquals(Optional.of(SearchOperation.STARTS_WITH), SearchOperation.getOperation("sw"));
+    }
 }
@@ -0,0 +1,93 @@
+package com.recipe.unit.model.search.filter;
+
+import com.recipe.model.search.SearchOperation;
+import com.recipe.model.search.filter.SearchFilterComparison;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class SearchFilterComparisonTest {
+    private final SearchFilterComparison filter = new SearchFilterComparison();
+
+    @SuppressWarnings("unchecked")
+    private static Path<Object> path(Class<?> javaType) {
+        Path<Object> path = mock(Path.class);
+        doReturn(javaType).when(path).getJavaType();
+        return path;
+    }
+
+    @Test
+    public void couldBeAppliedOnlyToTypedColumns() {
+        assertTrue(filter.couldBeApplied(SearchOperation.GREATER_THAN, path(Integer.class)));
+        assertTrue(filter.couldBeApplied(SearchOperation.EQUAL, path(LocalDateTime.class)));
+        assertFalse(filter.couldBeApplied(SearchOperation.GREATER_THAN, path(String.class)));
+        assertFalse(filter.couldBeApplied(SearchOperation.CONTAINS, path(Integer.class)));
+        assertFalse(filter.couldBeApplied(null, path(Integer.class)));
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void applyComparesServingsAsNumbers() {
+        Path<Object> servings = path(Integer.class);
+
+        SearchValueFixture equal = new SearchValueFixture("4");
+        filter.apply(equal.cb, SearchOperation.EQUAL, servings, equal.value());
+        verify(equal.cb).parameter(Integer.class, "p0");
+        verify(equal.cb).equal((Expression) servings, (Expression) equal.parameter(0));
+        assertThat(equal.bind("4")).containsExactly(4);
+
+        SearchValueFixture atLeast = new SearchValueFixture(2);
+        filter.apply(atLeast.cb, SearchOperation.GREATER_THAN_OR_EQUAL, servings, atLeast.value());
+        verify(atLeast.cb).greaterThanOrEqualTo((Expression<Comparable>) (Expression<?>) servings,
+                (Expression<Comparable>) (Expression<?>) atLeast.parameter(0));
+        assertThat(atLeast.bind(2)).containsExactly(2);
+
+        SearchValueFixture between = new SearchValueFixture(List.of(2, "6"));
+        filter.apply(between.cb, SearchOperation.BETWEEN, servings, between.value());
+        verify(between.cb).between((Expression<Comparable>) (Expression<?>) servings,
+                (Expression<Comparable>) (Expression<?>) between.parameter(0),
+                (Expression<Comparable>) (Expression<?>) between.parameter(1));
+        assertThat(between.bind(List.of(2, "6"))).containsExactly(2, 6);
+        verify(servings, never()).as(any());
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void applyParsesDateTimes() {
+        Path<Object> createdAt = path(LocalDateTime.class);
+
+        SearchValueFixture before = new SearchValueFixture("2024-03-01");
+        filter.apply(before.cb, SearchOperation.LESS_THAN, createdAt, before.value());
+        verify(before.cb).lessThan((Expression<Comparable>) (Expression<?>) createdAt,
+                (Expression<Comparable>) (Expression<?>) before.parameter(0));
+        assertThat(before.bind("2024-03-01")).containsExactly(LocalDateTime.of(2024, 3, 1, 0, 0));
+        assertThat(before.bind("2024-03-01 10:15:30")).containsExactly(LocalDateTime.of(2024, 3, 1, 10, 15, 30));
+    }
+
+    @Test
+    public void applyRejectsInvalidValues() {
+        SearchValueFixture number = new SearchValueFixture("four");
+        filter.apply(number.cb, SearchOperation.EQUAL, path(Integer.class), number.value());
+        assertThatThrownBy(() -> number.bind("four"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        SearchValueFixture date = new SearchValueFixture("yesterday");
+        filter.apply(date.cb, SearchOperation.LESS_THAN, path(LocalDateTime.class), date.value());
+        assertThatThrownBy(() -> date.bind("yesterday"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        SearchValueFixture bounds = new SearchValueFixture(4);
+        assertThatThrownBy(() -> filter.apply(bounds.cb, SearchOperation.BETWEEN, path(Integer.class), bounds.value()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,83 @@
+package com.recipe.unit.model.search.filter;
+
+import com.recipe.config.DatabasePlatform;
+import com.recipe.model.search.SearchOperation;
+import com.recipe.model.search.filter.SearchFilterIn;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.*;
+
+public class SearchFilterInTest {
+
+    @Test
+    public void couldBeAppliedReturnsTrueOnlyForIn() {
+        SearchFilterIn filter = new SearchFilterIn();
+        assertTrue(filter.couldBeApplied(SearchOperation.IN));
+        assertFalse(filter.couldBeApplied(SearchOperation.EQUAL));
+        assertFalse(filter.couldBeApplied(null));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void applyMatchesLowerCasedValues() {
+        SearchValueFixture fixture = new SearchValueFixture(List.of("VEGETARIAN", "Vegan"));
+        CriteriaBuilder cb = fixture.cb;
+        Path<Object> name = mock(Path.class);
+        Expression<String> asString = mock(Expression.class);
+        Expression<String> lowered = mock(Expression.class);
+        when(name.as(String.class)).thenReturn(asString);
+        when(cb.lower(asString)).thenReturn(lowered);
+
+        new SearchFilterIn(DatabasePlatform.H2).apply(cb, name, fixture.value());
+
+        verify(lowered).in(fixture.parameter(0), fixture.parameter(1));
+        assertThat(fixture.bind(List.of("VEGETARIAN", "Vegan"))).containsExactly("vegetarian", "vegan");
+        assertThat(fixture.bind(List.of("Pasta", "pesto"))).containsExactly("pasta", "pesto");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void applyRejectsValuesThatAreNotAList() {
+        Path<Object> name = mock(Path.class);
+        SearchFilterIn filter = new SearchFilterIn();
+
+        SearchValueFixture single = new SearchValueFixture("VEGETARIAN");
+        assertThatThrownBy(() -> filter.apply(single.cb, name, single.value()))
+                .isInstanceOf(IllegalArgumentException.class);
+        SearchValueFixture empty = new SearchValueFixture(List.of());
+        assertThatThrownBy(() -> filter.apply(empty.cb, name, empty.value()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        SearchValueFixture withNull = new SearchValueFixture(List.of("pasta"));
+        Expression<String> asString = mock(Expression.class);
+        when(name.as(String.class)).thenReturn(asString);
+        when(withNull.cb.lower(asString)).thenReturn(mock(Expression.class));
+        filter.apply(withNull.cb, name, withNull.value());
+        assertThatThrownBy(() -> withNull.bind(Arrays.asList((Object) null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void applyTypeMatchesTheEnumConstants() {
+        SearchValueFixture fixture = new SearchValueFixture(List.of("vegetarian", "vegan"));
+        Path<Object> type = mock(Path.class);
+
+        new SearchFilterIn(DatabasePlatform.POSTGRESQL).applyType(fixture.cb, type, fixture.value());
+
+        verify(type).in(fixture.parameter(0), fixture.parameter(1));
+        verify(type, never()).as(String.class);
+        // Unknown types are compared as sent and match no recipe
+        assertThat(fixture.bind(List.of("vegetarian", "vegan"))).containsExactly("VEGETARIAN", "vegan");
+    }
+}
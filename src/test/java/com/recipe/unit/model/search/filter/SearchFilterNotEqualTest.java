@@ -1,12 +1,20 @@
 package com.recipe.unit.model.search.filter;
 
+import com.recipe.config.DatabasePlatform;
+import com.recipe.model.entity.Recipe;
 import com.recipe.model.search.SearchOperation;
 import com.recipe.model.search.filter.SearchFilterNotEqual;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
 import org.junit.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
-
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 public class SearchFilterNotEqualTest {
 
@@ -46,6 +54,39 @@ public class SearchFilterNotEqualTest {
     }
 
     @Test
-    public void apply() {
+    @SuppressWarnings("unchecked")
+    public void applyComparesTheBareColumnOnPostgresql() {
+        SearchValueFixture fixture = new SearchValueFixture("Pasta");
+        CriteriaBuilder cb = fixture.cb;
+        Root<Recipe> root = mock(Root.class);
+        Path<Object> name = mock(Path.class);
+        Expression<String> lowered = mock(Expression.class);
+        when(root.get("name")).thenReturn(name);
+        doReturn(String.class).when(name).getJavaType();
+        when(cb.lower(any())).thenReturn(lowered);
+
+        new SearchFilterNotEqual(DatabasePlatform.POSTGRESQL).apply(cb, "name", fixture.value(), root, null);
+
+        verify(name, never()).as(any());
+        verify(cb).notEqual(lowered, fixture.<String>parameter(0));
+        assertThat(fixture.bind("Pasta")).containsExactly("pasta");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void applyComparesTheTypeAgainstTheEnumConstant() {
+        SearchValueFixture fixture = new SearchValueFixture("non_vegetarian");
+        CriteriaBuilder cb = fixture.cb;
+        Root<Recipe> root = mock(Root.class);
+        Path<Object> type = mock(Path.class);
+        when(root.get("type")).thenReturn(type);
+
+        new SearchFilterNotEqual(DatabasePlatform.POSTGRESQL).apply(cb, "type", fixture.value(), root, null);
+
+        verify(cb, never()).lower(any());
+        verify(cb).notEqual(type, fixture.<String>parameter(0));
+        assertThat(fixture.bind("non_vegetarian")).containsExactly("NON_VEGETARIAN");
+        // Unknown types are compared as sent, no stored type is equal to them
+        assertThat(fixture.bind("vegan")).containsExactly("vegan");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,77 @@
+package com.recipe.unit.model.search.filter;
+
+import com.recipe.config.DatabasePlatform;
+import com.recipe.model.entity.Recipe;
+import com.recipe.model.search.SearchOperation;
+import com.recipe.model.search.filter.SearchFilterStartsWith;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class SearchFilterStartsWithTest {
+
+    @Test
+    public void couldBeAppliedReturnsTrueWhenOperationIsStartsWith() {
+        SearchFilterStartsWith filter = new SearchFilterStartsWith();
+        assertTrue(filter.couldBeApplied(SearchOperation.STARTS_WITH));
+    }
+
+    @Test
+    public void couldBeAppliedReturnsFalseWhenOperationIsContain() {
+        SearchFilterStartsWith filter = new SearchFilterStartsWith();
+        assertFalse(filter.couldBeApplied(SearchOperation.CONTAINS));
+    }
+
+    @Test
+    public void couldBeAppliedReturnsFalseWhenOperationIsNull() {
+        SearchFilterStartsWith filter = new SearchFilterStartsWith();
+        assertFalse(filter.couldBeApplied(null));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void applyAnchorsThePatternOnTheBareColumnOnPostgresql() {
+        SearchValueFixture fixture = new SearchValueFixture("Pasta");
+        CriteriaBuilder cb = fixture.cb;
+        Root<Recipe> root = mock(Root.class);
+        Path<Object> name = mock(Path.class);
+        Expression<String> lowered = mock(Expression.class);
+        when(root.get("name")).thenReturn(name);
+        doReturn(String.class).when(name).getJavaType();
+        when(cb.lower(any())).thenReturn(lowered);
+
+        new SearchFilterStartsWith(DatabasePlatform.POSTGRESQL).apply(cb, "name", fixture.value(), root, null);
+
+        verify(name, never()).as(any());
+        verify(cb).like(lowered, fixture.<String>parameter(0), '\\');
+        assertThat(fixture.bind("Pasta")).containsExactly("pasta%");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void applyEscapesWildcardsOnIngredients() {
+        SearchValueFixture fixture = new SearchValueFixture("50%_off");
+        CriteriaBuilder cb = fixture.cb;
+        Join<Object, Object> ingredients = mock(Join.class);
+        Path<Object> ingredient = mock(Path.class);
+        Expression<String> asString = mock(Expression.class);
+        Expression<String> lowered = mock(Expression.class);
+        when(ingredients.get("ingredient")).thenReturn(ingredient);
+        when(ingredient.as(String.class)).thenReturn(asString);
+        when(cb.lower(asString)).thenReturn(lowered);
+
+        new SearchFilterStartsWith(DatabasePlatform.H2).apply(cb, "ingredient", fixture.value(), null, ingredients);
+
+        verify(cb).like(lowered, fixture.<String>parameter(0), '\\');
+        assertThat(fixture.bind("50%_off")).containsExactly("50\\%\\_off%");
+    }
+}
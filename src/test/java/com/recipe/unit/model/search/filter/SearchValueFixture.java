@@ -0,0 +1,62 @@
+package com.recipe.unit.model.search.filter;
+
+import com.recipe.model.search.SearchCriteria;
+import com.recipe.model.search.SearchParameters;
+import com.recipe.model.search.SearchValue;
+import jakarta.persistence.Parameter;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.ParameterExpression;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * One criterion compiled against a mocked CriteriaBuilder: every parameter a filter asks for is a mock,
+ * and {@link #bind(Object)} returns what each would be bound to for a search with another value.
+ */
+class SearchValueFixture {
+    final CriteriaBuilder cb = mock(CriteriaBuilder.class);
+
+    private final SearchCriteria criterion;
+    private final SearchParameters parameters;
+    private final List<ParameterExpression<?>> created = new ArrayList<>();
+
+    @SuppressWarnings("unchecked")
+    SearchValueFixture(Object value) {
+        criterion = new SearchCriteria("key", "eq", value);
+        parameters = new SearchParameters(List.of(criterion));
+        when(cb.parameter(any(), anyString())).thenAnswer(invocation -> {
+            ParameterExpression<Object> parameter = mock(ParameterExpression.class);
+            created.add(parameter);
+            return parameter;
+        });
+    }
+
+    SearchValue value() {
+        return parameters.valueOf(criterion);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> ParameterExpression<T> parameter(int index) {
+        return (ParameterExpression<T>) created.get(index);
+    }
+
+    /**
+     * The values bound for a search of the same shape with the given value, in parameter order
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    List<Object> bind(Object value) {
+        TypedQuery<?> query = mock(TypedQuery.class);
+        parameters.bind(query, List.of(new SearchCriteria("key", "eq", value)));
+
+        ArgumentCaptor<Object> values = ArgumentCaptor.forClass(Object.class);
+        verify(query, times(created.size())).setParameter(any(Parameter.class), values.capture());
+        return values.getAllValues();
+    }
+}
@@ -1,5 +1,6 @@
 package com.recipe.unit.repositories;
 
+import com.recipe.config.DatabaseConfig;
 import com.recipe.model.entity.Ingredient;
 import com.recipe.repository.IngredientRepository;
 import org.junit.Test;
@@ -7,14 +8,20 @@ import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @RunWith(SpringRunner.class)
 @DataJpaTest
+// The upsert picks its statements by the detected database platform
+@Import(DatabaseConfig.class)
 @ActiveProfiles("test")
 public class IngredientRepositoryTest {
     @Autowired
@@ -59,7 +66,26 @@ public class IngredientRepositoryTest {
         entity2.setIngredient("Tomato");
 
         ingredientRepository.save(entity1);
-        ingredientRepository.save(entity2);
+        // Sequence ids defer the insert to the flush
+        ingredientRepository.saveAndFlush(entity2);
+
+    }
+
+    @Test
+    public void test_upsertByNames_returnsExistingAndNewIds() {
+        Ingredient tomato = new Ingredient();
+        tomato.setIngredient("Tomato");
+        Integer tomatoId = entityManager.persistAndFlush(tomato).getId();
+
+        Map<String, Integer> ids = ingredientRepository.upsertByNames(List.of("Tomato", "Basil"));
+
+        assertEquals(2, ids.size());
+        assertEquals(tomatoId, ids.get("Tomato"));
+        assertNotNull(ids.get("Basil"));
+        assertEquals(2, ingredientRepository.count());
 
+        // Running it again creates nothing and returns the same ids
+        assertEquals(ids, ingredientRepository.upsertByNames(List.of("Basil", "Tomato")));
+        assertEquals(2, ingredientRepository.count());
     }
-}
\ No newline at end of file
+}
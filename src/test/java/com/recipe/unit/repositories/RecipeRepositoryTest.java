@@ -1,18 +1,28 @@
 package com.recipe.unit.repositories;
 
+import com.recipe.model.entity.Ingredient;
 import com.recipe.model.entity.Recipe;
 import com.recipe.model.entity.RecipeType;
 import com.recipe.repository.RecipeRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @RunWith(SpringRunner.class)
 @SpringBootTest
@@ -21,6 +31,9 @@ public class RecipeRepositoryTest {
     @Autowired
     private RecipeRepository recipeRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     public void test_whenTryToSaveIngredientSuccess() {
         Recipe entity = new Recipe();
@@ -54,4 +67,37 @@ public class RecipeRepositoryTest {
         assertFalse(recipeRepository.findAll().isEmpty());
         assertEquals(2, recipeRepository.findAll().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    @Transactional
+    public void test_whenListingRecipePage_ingredientsAreBatchFetched() {
+        for (int i = 0; i < 5; i++) {
+            Ingredient first = new Ingredient();
+            first.setIngredient("batch ingredient " + i + "a");
+            Ingredient second = new Ingredient();
+            second.setIngredient("batch ingredient " + i + "b");
+            entityManager.persist(first);
+            entityManager.persist(second);
+
+            Recipe recipe = new Recipe();
+            recipe.setType(RecipeType.VEGETARIAN.name());
+            recipe.setName("batch recipe " + i);
+            recipe.setNumberOfServings(2);
+            recipe.setRecipeIngredients(Set.of(first, second));
+            entityManager.persist(recipe);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<Recipe> recipes = recipeRepository.findAll(PageRequest.of(0, 100)).getContent();
+        recipes.forEach(recipe -> recipe.getRecipeIngredients().size());
+
+        // One page query plus one batched ingredient query, however many recipes are on the page
+        assertTrue(statistics.getPrepareStatementCount() <= 2);
+        statistics.setStatisticsEnabled(false);
+    }
+}
@@ -1,8 +1,14 @@
 package com.recipe.unit.services;
 
 import com.recipe.model.domain.request.CreateIngredientRequest;
+import com.recipe.model.domain.response.BatchGetItemResponse;
+import com.recipe.model.domain.response.BatchGetResponse;
+import com.recipe.model.domain.response.IngredientResponse;
+import com.recipe.cache.RecipeCache;
+import com.recipe.cache.SearchResultCache;
 import com.recipe.config.MessageProvider;
 import com.recipe.exception.NotFoundException;
+import com.recipe.index.RecipeSearchIndex;
 import com.recipe.mapper.IngredientMapper;
 import com.recipe.model.entity.Ingredient;
 import com.recipe.repository.IngredientRepository;
@@ -15,10 +21,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
@@ -33,6 +49,15 @@ public class IngredientServiceTest {
     @Mock
     private IngredientMapper ingredientMapper;
 
+    @Mock
+    private RecipeCache recipeCache;
+
+    @Mock
+    private SearchResultCache searchResultCache;
+
+    @Mock
+    private RecipeSearchIndex recipeSearchIndex;
+
     @InjectMocks
     private IngredientService ingredientService;
 
@@ -72,4 +97,75 @@ public class IngredientServiceTest {
         when(ingredientRepository.existsById(anyInt())).thenReturn(false);
         ingredientService.deleteIngredient(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void test_getIngredientsByIds_usesSingleLookupAndIgnoresDuplicates() {
+        Ingredient potato = IngredientTestDataBuilder.createIngredient();
+        potato.setId(1);
+        Ingredient tomato = IngredientTestDataBuilder.createIngredient();
+        tomato.setId(2);
+
+        when(ingredientRepository.findAllById(List.of(1, 2))).thenReturn(List.of(potato, tomato));
+
+        Set<Ingredient> ingredients = ingredientService.getIngredientsByIds(List.of(1, 2, 1));
+
+        assertThat(ingredients).containsExactlyInAnyOrder(potato, tomato);
+        verify(ingredientRepository, times(1)).findAllById(anyList());
+    }
+
+    @Test
+    public void test_getIngredientsByIds_reportsAllMissingIds() {
+        Ingredient potato = IngredientTestDataBuilder.createIngredient();
+        potato.setId(1);
+
+        when(ingredientRepository.findAllById(List.of(1, 7, 9))).thenReturn(List.of(potato));
+        when(messageProvider.getMessage(eq("ingredients.not.found"), eq(List.of("7, 9"))))
+                .thenReturn("Ingredients not found: 7, 9.");
+
+        assertThatThrownBy(() -> ingredientService.getIngredientsByIds(List.of(1, 7, 9, 7)))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage("Ingredients not found: 7, 9.");
+    }
+
+    @Test
+    public void test_getIngredientBatch_keepsRequestOrderAndMarksMissingIds() {
+        Ingredient potato = IngredientTestDataBuilder.createIngredient();
+        potato.setId(1);
+
+        when(ingredientRepository.findAllById(List.of(7, 1))).thenReturn(List.of(potato));
+
+        BatchGetResponse<IngredientResponse> response = ingredientService.getIngredientBatch(List.of(7, 1));
+
+        assertThat(response.getItems()).extracting(BatchGetItemResponse::getId).containsExactly(7, 1);
+        assertThat(response.getItems()).extracting(BatchGetItemResponse::isFound).containsExactly(false, true);
+        assertThat(response.getItems().get(1).getItem()).isEqualTo(new IngredientResponse(potato));
+        assertThat(response.getMissing()).containsExactly(7);
+        verify(ingredientRepository, times(1)).findAllById(anyList());
+    }
+
+    @Test
+    public void test_getOrCreateIngredientIds_normalizesNamesBeforeUpsert() {
+        when(ingredientRepository.upsertByNames(List.of("Potato", "Basil"))).thenReturn(Map.of("Potato", 1, "Basil", 2));
+
+        Map<String, Integer> ids = ingredientService.getOrCreateIngredientIds(
+                Arrays.asList(" Potato", "Basil", "Potato ", "  ", null));
+
+        assertThat(ids).containsEntry("Potato", 1).containsEntry("Basil", 2);
+        verify(ingredientRepository, times(1)).upsertByNames(List.of("Potato", "Basil"));
+        verify(recipeSearchIndex).onIngredientSaved(1, "Potato");
+        verify(recipeSearchIndex).onIngredientSaved(2, "Basil");
+    }
+
+    @Test
+    public void test_getOrCreateIngredients_returnsReferences() {
+        Ingredient basil = IngredientTestDataBuilder.createIngredient();
+        basil.setId(2);
+        when(ingredientRepository.upsertByNames(List.of("Basil"))).thenReturn(Map.of("Basil", 2));
+        when(ingredientRepository.getReferenceById(2)).thenReturn(basil);
+
+        Set<Ingredient> ingredients = ingredientService.getOrCreateIngredients(List.of("Basil"));
+
+        assertThat(ingredients).containsExactly(basil);
+        verify(ingredientRepository, times(0)).findAllById(anyList());
+    }
+}
@@ -0,0 +1,164 @@
+package com.recipe.unit.services;
+
+import com.recipe.cache.SearchResultCache;
+import com.recipe.config.MessageProvider;
+import com.recipe.config.MetricsConfig;
+import com.recipe.mapper.RecipeMapper;
+import com.recipe.model.domain.request.CreateRecipeRequest;
+import com.recipe.model.domain.response.BulkCreateResponse;
+import com.recipe.model.domain.response.BulkItemResponse;
+import com.recipe.model.entity.Ingredient;
+import com.recipe.model.entity.Recipe;
+import com.recipe.repository.RecipeRepository;
+import com.recipe.service.IngredientService;
+import com.recipe.service.RecipeBulkService;
+import io.micrometer.core.instrument.Counter;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RecipeBulkServiceTest {
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private IngredientService ingredientService;
+
+    @Mock
+    private MessageProvider messageProvider;
+
+    @Mock
+    private MetricsConfig metricsConfig;
+
+    @Mock
+    private RecipeMapper recipeMapper;
+
+    @Mock
+    private SearchResultCache searchResultCache;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private Counter createdCounter;
+
+    @Before
+    public void setUp() {
+        createdCounter = mock(Counter.class);
+        lenient().when(metricsConfig.getRecipeCreatedCounter()).thenReturn(createdCounter);
+        lenient().when(recipeMapper.createRequestToRecipe(any(CreateRecipeRequest.class))).thenAnswer(invocation -> {
+            CreateRecipeRequest request = invocation.getArgument(0);
+            Recipe recipe = new Recipe();
+            recipe.setName(request.getName());
+            return recipe;
+        });
+
+        // Simulate id generation on persist
+        AtomicInteger sequence = new AtomicInteger(100);
+        lenient().when(recipeRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Recipe> recipes = invocation.getArgument(0);
+            recipes.forEach(recipe -> recipe.setId(sequence.incrementAndGet()));
+            return recipes;
+        });
+    }
+
+    private RecipeBulkService createService(int batchSize, int maxItems) {
+        return new RecipeBulkService(recipeRepository, ingredientService, messageProvider, metricsConfig,
+                recipeMapper, searchResultCache, Validation.buildDefaultValidatorFactory().getValidator(),
+                entityManager, batchSize, maxItems);
+    }
+
+    private CreateRecipeRequest request(String name, List<Integer> ingredientIds) {
+        return new CreateRecipeRequest(name, "VEGETARIAN", 2, ingredientIds, "someInstruction");
+    }
+
+    @Test
+    public void test_createRecipes_reportsPerItemResultsInOrder() {
+        Ingredient ingredient = new Ingredient();
+        ingredient.setId(1);
+        when(ingredientService.findIngredientsByIds(anyList())).thenReturn(Map.of(1, ingredient));
+        when(messageProvider.getMessage(eq("ingredients.not.found"), any())).thenReturn("Ingredients not found: 9.");
+        when(messageProvider.getMessage("recipe.bulk.item.missing")).thenReturn("Please provide the recipe.");
+
+        List<CreateRecipeRequest> requests = Arrays.asList(
+                request("pasta", List.of(1)),
+                request("", null),
+                request("soup", List.of(1, 9)),
+                null,
+                request("salad", null));
+
+        BulkCreateResponse response = createService(20, 1000).createRecipes(requests);
+
+        List<BulkItemResponse> items = response.getItems();
+        assertThat(items).extracting(BulkItemResponse::getIndex).containsExactly(0, 1, 2, 3, 4);
+        assertThat(items).extracting(BulkItemResponse::getId).containsExactly(101, null, null, null, 102);
+        assertThat(items.get(1).getError()).isNotBlank();
+        assertThat(items.get(2).getError()).isEqualTo("Ingredients not found: 9.");
+        assertThat(items.get(3).getError()).isEqualTo("Please provide the recipe.");
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(3);
+
+        verify(ingredientService, times(1)).findIngredientsByIds(anyList());
+        verify(entityManager).getReference(Ingredient.class, 1);
+        verify(createdCounter).increment(2);
+        verify(searchResultCache).invalidate();
+    }
+
+    @Test
+    public void test_createRecipes_flushesPerBatch() {
+        when(ingredientService.findIngredientsByIds(anyList())).thenReturn(Map.of());
+        List<CreateRecipeRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            requests.add(request("pasta", null));
+        }
+
+        BulkCreateResponse response = createService(2, 1000).createRecipes(requests);
+
+        assertThat(response.getCreated()).isEqualTo(5);
+        verify(recipeRepository, times(3)).saveAll(anyList());
+        verify(entityManager, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    public void test_createRecipes_nothingValid() {
+        when(ingredientService.findIngredientsByIds(anyList())).thenReturn(Map.of());
+
+        BulkCreateResponse response = createService(20, 1000).createRecipes(List.of(request("", null)));
+
+        assertThat(response.getFailed()).isEqualTo(1);
+        verify(recipeRepository, never()).saveAll(anyList());
+        verify(searchResultCache, never()).invalidate();
+    }
+
+    @Test
+    public void test_createRecipes_tooManyItems() {
+        when(messageProvider.getMessage(eq("recipe.bulk.too.many"), any())).thenReturn("Too many");
+
+        RecipeBulkService service = createService(20, 1);
+        List<CreateRecipeRequest> requests = Collections.nCopies(2, request("pasta", null));
+
+        assertThatThrownBy(() -> service.createRecipes(requests))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Too many");
+        verifyNoInteractions(recipeRepository);
+    }
+}
@@ -0,0 +1,134 @@
+package com.recipe.unit.services;
+
+import com.recipe.config.MessageProvider;
+import com.recipe.exception.NotFoundException;
+import com.recipe.model.domain.request.PagedSearchRequest;
+import com.recipe.model.domain.request.SearchCriteriaRequest;
+import com.recipe.model.domain.response.MultiSearchItemResponse;
+import com.recipe.model.domain.response.MultiSearchResponse;
+import com.recipe.model.domain.response.RecipeResponse;
+import com.recipe.model.domain.response.SliceResponse;
+import com.recipe.service.RecipeMultiSearchService;
+import com.recipe.service.RecipeService;
+import jakarta.validation.Validation;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RecipeMultiSearchServiceTest {
+    @Mock
+    private RecipeService recipeService;
+
+    @Mock
+    private MessageProvider messageProvider;
+
+    private RecipeMultiSearchService createService(Executor executor, int maxSearches, Duration timeout) {
+        return new RecipeMultiSearchService(recipeService, messageProvider,
+                Validation.buildDefaultValidatorFactory().getValidator(), executor, maxSearches, timeout);
+    }
+
+    private PagedSearchRequest search(String name, String operation, int page) {
+        return new PagedSearchRequest(List.of(new SearchCriteriaRequest("name", name, operation)), "all", page, 10);
+    }
+
+    @Test
+    public void test_search_reportsPerSearchResultsInOrder() {
+        PagedSearchRequest pasta = search("pasta", "cn", 0);
+        PagedSearchRequest soup = search("soup", "cn", 2);
+        PagedSearchRequest invalid = search("soup", "xx", 0);
+        PagedSearchRequest missing = search("stew", "cn", 0);
+        SliceResponse<RecipeResponse> pastaPage = new SliceResponse<>(List.of(new RecipeResponse()), 0, 10, false);
+        SliceResponse<RecipeResponse> soupPage = new SliceResponse<>(List.of(), 2, 10, false);
+
+        when(recipeService.findSliceBySearchCriteria(pasta, 0, 10)).thenReturn(pastaPage);
+        when(recipeService.findSliceBySearchCriteria(soup, 2, 10)).thenReturn(soupPage);
+        when(recipeService.findSliceBySearchCriteria(missing, 0, 10))
+                .thenThrow(new NotFoundException("No search criteria has been found."));
+        when(messageProvider.getMessage("recipe.msearch.item.missing")).thenReturn("Please provide the search.");
+
+        MultiSearchResponse response = createService(Runnable::run, 20, Duration.ofSeconds(10))
+                .search(Arrays.asList(pasta, soup, invalid, null, missing));
+
+        List<MultiSearchItemResponse> items = response.getItems();
+        assertThat(items).extracting(MultiSearchItemResponse::getIndex).containsExactly(0, 1, 2, 3, 4);
+        assertThat(items).extracting(MultiSearchItemResponse::getStatus).containsExactly(200, 200, 400, 400, 404);
+        assertThat(items.get(0).getResult()).isSameAs(pastaPage);
+        assertThat(items.get(1).getResult()).isSameAs(soupPage);
+        assertThat(items.get(2).getError()).isNotBlank();
+        assertThat(items.get(3).getError()).isEqualTo("Please provide the search.");
+        assertThat(items.get(4).getError()).isEqualTo("No search criteria has been found.");
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(3);
+        verify(recipeService, never()).findSliceBySearchCriteria(eq(invalid), anyInt(), anyInt());
+    }
+
+    @Test
+    public void test_search_rejectsOversizedPages() {
+        PagedSearchRequest oversized = new PagedSearchRequest(
+                List.of(new SearchCriteriaRequest("name", "pasta", "cn")), "all", 0, Integer.MAX_VALUE);
+
+        MultiSearchResponse response = createService(Runnable::run, 20, Duration.ofSeconds(10))
+                .search(List.of(oversized));
+
+        assertThat(response.getItems().get(0).getStatus()).isEqualTo(400);
+        verifyNoInteractions(recipeService);
+    }
+
+    @Test
+    public void test_search_reportsRejectedSearches() {
+        when(messageProvider.getMessage("recipe.msearch.busy")).thenReturn("Busy");
+        Executor saturated = task -> {
+            throw new RejectedExecutionException("queue full");
+        };
+
+        MultiSearchResponse response = createService(saturated, 20, Duration.ofSeconds(10))
+                .search(List.of(search("pasta", "cn", 0)));
+
+        assertThat(response.getItems().get(0).getStatus()).isEqualTo(503);
+        assertThat(response.getItems().get(0).getError()).isEqualTo("Busy");
+        verifyNoInteractions(recipeService);
+    }
+
+    @Test
+    public void test_search_reportsTimedOutSearches() {
+        when(messageProvider.getMessage("recipe.msearch.timeout")).thenReturn("Timed out");
+        // Accepts the search but never runs it
+        Executor stalled = task -> {
+        };
+
+        MultiSearchResponse response = createService(stalled, 20, Duration.ofMillis(10))
+                .search(List.of(search("pasta", "cn", 0), search("soup", "cn", 0)));
+
+        assertThat(response.getItems()).extracting(MultiSearchItemResponse::getStatus).containsExactly(504, 504);
+        assertThat(response.getFailed()).isEqualTo(2);
+        verifyNoInteractions(recipeService);
+    }
+
+    @Test
+    public void test_search_tooManySearches() {
+        when(messageProvider.getMessage(eq("recipe.msearch.too.many"), any())).thenReturn("Too many");
+
+        RecipeMultiSearchService service = createService(Runnable::run, 1, Duration.ofSeconds(10));
+        List<PagedSearchRequest> requests = Collections.nCopies(2, search("pasta", "cn", 0));
+
+        assertThatThrownBy(() -> service.search(requests))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Too many");
+        verifyNoInteractions(recipeService);
+    }
+}
@@ -3,14 +3,27 @@ package com.recipe.unit.services;
 import com.recipe.model.domain.request.CreateRecipeRequest;
 import com.recipe.model.domain.request.RecipeSearchRequest;
 import com.recipe.model.domain.request.UpdateRecipeRequest;
+import com.recipe.model.domain.response.BatchGetItemResponse;
+import com.recipe.model.domain.response.BatchGetResponse;
+import com.recipe.model.domain.response.CursorPageResponse;
+import com.recipe.model.domain.response.RecipeResponse;
+import com.recipe.model.domain.response.SliceResponse;
+import com.recipe.model.domain.request.SearchCriteriaRequest;
+import com.recipe.cache.RecipeCache;
+import com.recipe.cache.SearchResultCache;
 import com.recipe.config.MessageProvider;
 import com.recipe.config.MetricsConfig;
 import com.recipe.exception.NotFoundException;
+import com.recipe.index.RecipeSearchIndex;
 import com.recipe.mapper.RecipeMapper;
+import com.recipe.model.entity.Ingredient;
 import com.recipe.model.entity.Recipe;
+import com.recipe.model.projection.RecipeFields;
+import com.recipe.model.projection.RecipeInstructions;
 import com.recipe.repository.RecipeRepository;
 import com.recipe.service.IngredientService;
 import com.recipe.service.RecipeService;
+import com.recipe.service.SearchPlanner;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import org.junit.Before;
@@ -19,14 +32,24 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 
@@ -47,6 +70,18 @@ public class RecipeServiceTest {
     @Mock
     private RecipeMapper recipeMapper;
 
+    @Mock
+    private RecipeCache recipeCache;
+
+    @Mock
+    private SearchResultCache searchResultCache;
+
+    @Mock
+    private RecipeSearchIndex recipeSearchIndex;
+
+    @Mock
+    private SearchPlanner searchPlanner;
+
     @InjectMocks
     private RecipeService recipeService;
 
@@ -72,6 +107,9 @@ public class RecipeServiceTest {
         lenient().when(metricsConfig.getRecipeUpdatedCounter()).thenReturn(updatedCounter);
         lenient().when(metricsConfig.getRecipeDeletedCounter()).thenReturn(deletedCounter);
 
+        // Keep the request order of the criteria
+        lenient().when(searchPlanner.plan(any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+
         // Configure Timer behavior to execute the callable and handle exceptions
         doAnswer(invocation -> {
             Callable<?> callable = invocation.getArgument(0);
@@ -84,6 +122,10 @@ public class RecipeServiceTest {
             }
         }).when(searchTimer).recordCallable(any(Callable.class));
 
+        // The search result cache is a pass-through in unit tests
+        lenient().when(searchResultCache.get(any(), anyInt(), anyInt(), any(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(4)).get());
+
         lenient().doAnswer(invocation -> {
             Callable<?> callable = invocation.getArgument(0);
             try {
@@ -116,6 +158,116 @@ public class RecipeServiceTest {
         assertThat(id).isEqualTo(response.getId());
     }
 
+    @Test
+    public void test_createRecipe_withIngredientNames() {
+        CreateRecipeRequest request = new CreateRecipeRequest("pasta", "VEGETARIAN", 4, List.of(1), "instructions");
+        request.setIngredientNames(List.of("Basil"));
+
+        Ingredient potato = new Ingredient();
+        potato.setId(1);
+        Ingredient basil = new Ingredient();
+        basil.setId(2);
+        Recipe mappedRecipe = new Recipe();
+        mappedRecipe.setId(3);
+
+        when(recipeMapper.createRequestToRecipe(any(CreateRecipeRequest.class))).thenReturn(mappedRecipe);
+        when(ingredientService.getIngredientsByIds(List.of(1))).thenReturn(Set.of(potato));
+        when(ingredientService.getOrCreateIngredients(List.of("Basil"))).thenReturn(Set.of(basil));
+        when(recipeRepository.save(any(Recipe.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        recipeService.createRecipe(request);
+
+        assertThat(mappedRecipe.getRecipeIngredients()).containsExactlyInAnyOrder(potato, basil);
+    }
+
+    @Test
+    public void test_getRecipeById_loadsThroughCache() {
+        Recipe stored = new Recipe();
+        stored.setId(7);
+        stored.setName("pasta");
+
+        when(recipeCache.get(anyInt(), any())).thenAnswer(invocation -> {
+            Function<Integer, Recipe> loader = invocation.getArgument(1);
+            return loader.apply(invocation.getArgument(0));
+        });
+        when(recipeRepository.findWithIngredientsById(7)).thenReturn(Optional.of(stored));
+
+        Recipe recipe = recipeService.getRecipeById(7);
+
+        assertThat(recipe).isSameAs(stored);
+    }
+
+    @Test
+    public void test_getRecipeBatch_keepsRequestOrderAndMarksMissingIds() {
+        Recipe pasta = new Recipe();
+        pasta.setId(7);
+        pasta.setName("pasta");
+        Recipe soup = new Recipe();
+        soup.setId(3);
+        soup.setName("soup");
+
+        when(recipeRepository.findWithIngredientsByIdIn(List.of(3, 9, 7))).thenReturn(List.of(pasta, soup));
+
+        BatchGetResponse<RecipeResponse> response = recipeService.getRecipeBatch(List.of(3, 9, 7, 3));
+
+        assertThat(response.getItems()).extracting(BatchGetItemResponse::getId).containsExactly(3, 9, 7, 3);
+        assertThat(response.getItems()).extracting(BatchGetItemResponse::isFound).containsExactly(true, false, true, true);
+        assertThat(response.getItems().get(2).getItem().getName()).isEqualTo("pasta");
+        assertThat(response.getItems().get(1).getItem()).isNull();
+        assertThat(response.getMissing()).containsExactly(9);
+        assertThat(response.getFound()).isEqualTo(3);
+        verify(recipeRepository, times(1)).findWithIngredientsByIdIn(anyCollection());
+    }
+
+    @Test
+    public void test_getRecipeBatch_tooManyIds() {
+        when(messageProvider.getMessage(eq("batch.ids.too.many"), any())).thenReturn("Too many");
+        List<Integer> ids = IntStream.rangeClosed(1, 101).boxed().toList();
+
+        assertThatThrownBy(() -> recipeService.getRecipeBatch(ids))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Too many");
+        verifyNoInteractions(recipeRepository);
+    }
+
+    @Test
+    public void test_getRecipesAfter_returnsNextCursorOnlyWhenMoreRowsExist() {
+        Recipe first = new Recipe();
+        first.setId(1);
+        first.setName("lasagna");
+        Recipe second = new Recipe();
+        second.setId(2);
+        second.setName("pasta");
+
+        when(recipeRepository.findFirstKeysetPage(any())).thenReturn(List.of(first, second));
+
+        CursorPageResponse<RecipeResponse> page = recipeService.getRecipesAfter(null, 1);
+
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getNextCursor()).isNotNull();
+
+        when(recipeRepository.findKeysetPageAfter(eq("lasagna"), eq(1), any())).thenReturn(List.of(second));
+
+        CursorPageResponse<RecipeResponse> next = recipeService.getRecipesAfter(page.getNextCursor(), 1);
+
+        assertThat(next.getContent()).extracting(RecipeResponse::getId).containsExactly(2);
+        assertThat(next.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void test_updateRecipe_evictsCachedRecipe() {
+        Recipe stored = new Recipe();
+        stored.setId(5);
+        UpdateRecipeRequest request = new UpdateRecipeRequest(5, "pasta", "OTHER", 4, null, "instructions");
+
+        when(recipeRepository.findById(anyInt())).thenReturn(Optional.of(stored));
+        when(recipeRepository.save(any(Recipe.class))).thenReturn(stored);
+
+        recipeService.updateRecipe(request);
+
+        verify(recipeCache).evict(5);
+    }
+
     @Test
     public void test_updateRecipe_successfully() {
         Recipe response = new Recipe();
@@ -151,6 +303,9 @@ public class RecipeServiceTest {
         doNothing().when(recipeRepository).deleteById(anyInt());
 
         recipeService.deleteRecipe(1);
+
+        verify(recipeCache).evict(1);
+        verify(searchResultCache).invalidate();
     }
 
     @Test
@@ -172,4 +327,153 @@ public class RecipeServiceTest {
                 .isInstanceOf(NotFoundException.class);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void test_findSliceBySearchCriteria_returnsHasNextWithoutCounting() {
+        Recipe recipe = new Recipe();
+        recipe.setId(3);
+        recipe.setName("pasta");
+        RecipeSearchRequest request = new RecipeSearchRequest(
+                List.of(new SearchCriteriaRequest("name", "pasta", "cn")), "all");
+
+        when(recipeRepository.findSlice(any(), any()))
+                .thenReturn(new SliceImpl<>(List.of(recipe), PageRequest.of(0, 1), true));
+
+        SliceResponse<RecipeResponse> slice = recipeService.findSliceBySearchCriteria(request, 0, 1);
+
+        assertThat(slice.getContent()).extracting(RecipeResponse::getId).containsExactly(3);
+        assertThat(slice.isHasNext()).isTrue();
+        verify(recipeRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    public void test_findSliceBySearchCriteria_readsInstructionsOfThePageInOneQuery() {
+        Recipe pasta = new Recipe();
+        pasta.setId(3);
+        pasta.setName("pasta");
+        Recipe pesto = new Recipe();
+        pesto.setId(7);
+        pesto.setName("pesto pasta");
+        RecipeSearchRequest request = new RecipeSearchRequest(
+                List.of(new SearchCriteriaRequest("name", "pasta", "cn")), "all");
+
+        when(recipeRepository.findSlice(any(), any()))
+                .thenReturn(new SliceImpl<>(List.of(pasta, pesto), PageRequest.of(0, 2), false));
+        when(recipeRepository.findInstructionsByIdIn(List.of(3, 7)))
+                .thenReturn(List.of(instructions(3, "Boil the pasta"), instructions(7, "Stir in the pesto")));
+
+        SliceResponse<RecipeResponse> slice = recipeService.findSliceBySearchCriteria(request, 0, 2);
+
+        assertThat(slice.getContent()).extracting(RecipeResponse::getInstructions)
+                .containsExactly("Boil the pasta", "Stir in the pesto");
+        verify(recipeRepository, times(1)).findInstructionsByIdIn(any());
+    }
+
+    private static RecipeInstructions instructions(int id, String text) {
+        return new RecipeInstructions() {
+            @Override
+            public Integer getId() {
+                return id;
+            }
+
+            @Override
+            public String getInstructions() {
+                return text;
+            }
+        };
+    }
+
+    @Test
+    public void test_findSliceBySearchCriteria_pagesTheIndexMatchesInTheSearchOrder() {
+        Recipe pasta = new Recipe();
+        pasta.setId(7);
+        pasta.setName("Pasta");
+        RecipeSearchRequest request = new RecipeSearchRequest(
+                List.of(new SearchCriteriaRequest("name", "pasta", "cn")), "all");
+        PageRequest pageRequest = PageRequest.of(0, 1, Sort.by("name", "id"));
+
+        when(recipeSearchIndex.match(request)).thenReturn(Optional.of(List.of(3, 7)));
+        when(recipeRepository.findByIdIn(List.of(3, 7), pageRequest))
+                .thenReturn(new SliceImpl<>(List.of(pasta), pageRequest, true));
+
+        SliceResponse<RecipeResponse> slice = recipeService.findSliceBySearchCriteria(request, 0, 1);
+
+        assertThat(slice.getContent()).extracting(RecipeResponse::getId).containsExactly(7);
+        assertThat(slice.isHasNext()).isTrue();
+        verify(recipeRepository, never()).findSlice(any(), any());
+    }
+
+    @Test
+    public void test_findSliceBySearchCriteria_noIndexMatchesSkipsTheDatabase() {
+        RecipeSearchRequest request = new RecipeSearchRequest(
+                List.of(new SearchCriteriaRequest("name", "pasta", "cn")), "all");
+        when(recipeSearchIndex.match(request)).thenReturn(Optional.of(List.of()));
+
+        SliceResponse<RecipeResponse> slice = recipeService.findSliceBySearchCriteria(request, 0, 2);
+
+        assertThat(slice.getContent()).isEmpty();
+        assertThat(slice.isHasNext()).isFalse();
+        verify(recipeRepository, never()).findByIdIn(any(), any());
+        verify(recipeRepository, never()).findSlice(any(), any());
+    }
+
+    @Test
+    public void test_findSliceBySearchCriteria_withFields_readsProjection() {
+        RecipeResponse pasta = new RecipeResponse();
+        pasta.setId(3);
+        pasta.setName("pasta");
+        RecipeFields fields = RecipeFields.parse("name");
+        RecipeSearchRequest request = new RecipeSearchRequest(
+                List.of(new SearchCriteriaRequest("name", "pasta", "cn")), "all");
+
+        when(recipeRepository.findSlice(any(), any(), eq(fields)))
+                .thenReturn(new SliceImpl<>(List.of(pasta), PageRequest.of(0, 1), true));
+
+        SliceResponse<RecipeResponse> slice = recipeService.findSliceBySearchCriteria(request, 0, 1, fields);
+
+        assertThat(slice.getContent()).containsExactly(pasta);
+        assertThat(slice.isHasNext()).isTrue();
+        verify(recipeRepository, never()).findSlice(any(), any());
+    }
+
+    @Test
+    public void test_findSliceBySearchCriteria_withFields_projectsTheIndexMatches() {
+        RecipeResponse pasta = new RecipeResponse();
+        pasta.setId(7);
+        pasta.setName("Pasta");
+        RecipeFields fields = RecipeFields.parse("name");
+        RecipeSearchRequest request = new RecipeSearchRequest(
+                List.of(new SearchCriteriaRequest("name", "pasta", "cn")), "all");
+        PageRequest pageRequest = PageRequest.of(0, 1, Sort.by("name", "id"));
+
+        when(recipeSearchIndex.match(request)).thenReturn(Optional.of(List.of(3, 7)));
+        when(recipeRepository.findProjectedSliceByIds(List.of(3, 7), pageRequest, fields))
+                .thenReturn(new SliceImpl<>(List.of(pasta), pageRequest, true));
+
+        SliceResponse<RecipeResponse> slice = recipeService.findSliceBySearchCriteria(request, 0, 1, fields);
+
+        assertThat(slice.getContent()).containsExactly(pasta);
+        assertThat(slice.isHasNext()).isTrue();
+        verify(recipeRepository, never()).findByIdIn(any(), any());
+    }
+
+    @Test
+    public void test_getRecipeById_withFields_notFound() {
+        when(recipeRepository.findProjectedByIds(List.of(9), RecipeFields.parse("name"))).thenReturn(List.of());
+        when(messageProvider.getMessage("recipe.not.found")).thenReturn("Recipe not found.");
+
+        assertThatThrownBy(() -> recipeService.getRecipeById(9, RecipeFields.parse("name")))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage("Recipe not found.");
+        verifyNoInteractions(recipeCache);
+    }
+
+    @Test
+    public void test_countBySearchCriteria_answeredByIndex() {
+        RecipeSearchRequest request = new RecipeSearchRequest(
+                List.of(new SearchCriteriaRequest("instructions", "oven", "nc")), "all");
+        when(recipeSearchIndex.count(request)).thenReturn(Optional.of(4L));
+
+        assertThat(recipeService.countBySearchCriteria(request)).isEqualTo(4);
+        verify(recipeRepository, never()).count(any(Specification.class));
+    }
+}
@@ -0,0 +1,117 @@
+package com.recipe.unit.services;
+
+import com.recipe.config.MetricsConfig;
+import com.recipe.model.search.SearchCriteria;
+import com.recipe.model.search.SearchStatistics;
+import com.recipe.service.SearchPlanner;
+import com.recipe.service.SearchStatisticsProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SearchPlannerTest {
+    @Mock
+    private SearchStatisticsProvider statisticsProvider;
+
+    private MetricsConfig metricsConfig;
+    private SearchPlanner searchPlanner;
+
+    @Before
+    public void setUp() {
+        metricsConfig = new MetricsConfig(new SimpleMeterRegistry());
+        metricsConfig.initializeMetrics();
+        searchPlanner = new SearchPlanner(statisticsProvider, metricsConfig, true);
+    }
+
+    private void givenStatistics() {
+        when(statisticsProvider.current()).thenReturn(new SearchStatistics(10_000,
+                Map.of("vegetarian", 6_000L, "other", 4_000L),
+                Map.of(2, 5_000L, 4, 5_000L),
+                Map.of("salt", 9_000L, "potato", 3_000L, "saffron", 20L)));
+    }
+
+    private SearchCriteria criteria(String filterKey, String operation, String value, String dataOption) {
+        SearchCriteria criteria = new SearchCriteria(filterKey, operation, value);
+        criteria.setDataOption(dataOption);
+        return criteria;
+    }
+
+    @Test
+    public void test_plan_ordersAllCriteriaBySelectivity() {
+        givenStatistics();
+        SearchCriteria type = criteria("type", "eq", "VEGETARIAN", "all");
+        SearchCriteria salt = criteria("ingredient", "eq", "Salt", "all");
+        SearchCriteria saffron = criteria("ingredient", "cn", "saffron", "all");
+        SearchCriteria servings = criteria("numberOfServings", "eq", "4", "all");
+
+        List<SearchCriteria> plan = searchPlanner.plan(List.of(salt, type, servings, saffron), "all");
+
+        assertThat(plan).containsExactly(saffron, servings, type, salt);
+        assertThat(metricsConfig.getRecipeSearchPlanningTimer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_plan_putsRareIngredientBeforeText() {
+        givenStatistics();
+        SearchCriteria saffron = criteria("ingredient", "eq", "Saffron", "all");
+        SearchCriteria name = criteria("name", "cn", "rice", "all");
+
+        List<SearchCriteria> plan = searchPlanner.plan(List.of(name, saffron), "all");
+
+        assertThat(plan).containsExactly(saffron, name);
+    }
+
+    @Test
+    public void test_plan_estimatesInAsItsEqualities() {
+        givenStatistics();
+        SearchCriteria ingredients = criteria("ingredient", "in", null, "all");
+        ingredients.setValue(List.of("Saffron", "Potato"));
+        SearchCriteria type = criteria("type", "eq", "OTHER", "all");
+
+        List<SearchCriteria> plan = searchPlanner.plan(List.of(type, ingredients), "all");
+
+        // 3,020 of 10,000 recipes for the ingredients against 4,000 for the type
+        assertThat(plan).containsExactly(ingredients, type);
+    }
+
+    @Test
+    public void test_plan_keepsAnyOrder() {
+        givenStatistics();
+        SearchCriteria salt = criteria("ingredient", "eq", "Salt", "any");
+        SearchCriteria saffron = criteria("ingredient", "eq", "Saffron", "any");
+
+        List<SearchCriteria> plan = searchPlanner.plan(List.of(salt, saffron), "any");
+
+        assertThat(plan).containsExactly(salt, saffron);
+    }
+
+    @Test
+    public void test_plan_usesRequestOrderWithoutStatistics() {
+        when(statisticsProvider.current()).thenThrow(new IllegalStateException("database unavailable"));
+        List<SearchCriteria> criteria = List.of(
+                criteria("ingredient", "eq", "Salt", "all"),
+                criteria("type", "eq", "VEGETARIAN", "all"));
+
+        assertThat(searchPlanner.plan(criteria, "all")).isSameAs(criteria);
+    }
+
+    @Test
+    public void test_plan_usesRequestOrderUntilStatisticsAreLoaded() {
+        when(statisticsProvider.current()).thenReturn(SearchStatistics.empty());
+        List<SearchCriteria> criteria = List.of(
+                criteria("ingredient", "eq", "Salt", "all"),
+                criteria("type", "eq", "VEGETARIAN", "all"));
+
+        assertThat(searchPlanner.plan(criteria, "all")).isSameAs(criteria);
+    }
+}
@@ -0,0 +1,64 @@
+package com.recipe.unit.services;
+
+import com.recipe.model.search.SearchStatistics;
+import com.recipe.service.SearchStatisticsProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SearchStatisticsProviderTest {
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private SearchStatisticsProvider statisticsProvider;
+
+    @Before
+    public void setUp() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("create table recipes (id int primary key, type varchar(20), number_of_servings int)");
+        jdbcTemplate.execute("create table ingredients (id int primary key, ingredient varchar(50))");
+        jdbcTemplate.execute("create table recipe_ingredient (recipe_id int, ingredient_id int)");
+        jdbcTemplate.update("insert into recipes values (1, 'VEGETARIAN', 2), (2, 'OTHER', 4)");
+        jdbcTemplate.update("insert into ingredients values (1, 'Salt')");
+        jdbcTemplate.update("insert into recipe_ingredient values (1, 1), (2, 1)");
+        statisticsProvider = new SearchStatisticsProvider(database, Duration.ofMinutes(5));
+    }
+
+    @After
+    public void tearDown() {
+        statisticsProvider.stop();
+        database.shutdown();
+    }
+
+    @Test
+    public void test_current_isEmptyUntilLoaded() {
+        assertThat(statisticsProvider.current()).isEqualTo(SearchStatistics.empty());
+
+        statisticsProvider.refresh();
+
+        SearchStatistics statistics = statisticsProvider.current();
+        assertThat(statistics.recipeCount()).isEqualTo(2);
+        assertThat(statistics.typeCounts()).isEqualTo(Map.of("vegetarian", 1L, "other", 1L));
+        assertThat(statistics.ingredientFrequency()).isEqualTo(Map.of("salt", 2L));
+    }
+
+    @Test
+    public void test_refresh_keepsPreviousSnapshotWhenLoadFails() {
+        statisticsProvider.refresh();
+        SearchStatistics loaded = statisticsProvider.current();
+
+        jdbcTemplate.execute("drop table recipe_ingredient");
+        statisticsProvider.refresh();
+
+        assertThat(statisticsProvider.current()).isSameAs(loaded);
+    }
+}